@@ -0,0 +1,85 @@
+package com.mjc.school.bulk;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Repository
+public class AuthorPurger {
+    public static final String COMMENTS = "comments";
+    public static final String NEWS_TAGS = "news_tags";
+    public static final String NEWS = "news";
+    public static final String AUTHORS = "authors";
+
+    private static final String DELETED_NEWS = "SELECT n.id FROM news n WHERE n.author_id = ? AND n.deleted_at IS NOT NULL";
+    private static final String READ_DELETED_AUTHORS = "SELECT id FROM authors WHERE deleted_at IS NOT NULL ORDER BY deleted_at, id FETCH FIRST ? ROWS ONLY";
+    private static final String COUNT_DELETED_AUTHORS = "SELECT count(*) FROM authors WHERE deleted_at IS NOT NULL";
+    private static final String DELETE_COMMENTS = "DELETE FROM comments WHERE id IN (SELECT c.id FROM comments c WHERE c.news_id IN ("
+            + DELETED_NEWS + ") FETCH FIRST ? ROWS ONLY)";
+    private static final String DELETE_NEWS_TAGS = "DELETE FROM news_tags WHERE news_id IN (SELECT nt.news_id FROM news_tags nt WHERE nt.news_id IN ("
+            + DELETED_NEWS + ") FETCH FIRST ? ROWS ONLY)";
+    private static final String DELETE_NEWS = "DELETE FROM news WHERE id IN (" + DELETED_NEWS + " FETCH FIRST ? ROWS ONLY)";
+    private static final String DELETE_AUTHOR = "DELETE FROM authors WHERE id = ? AND deleted_at IS NOT NULL"
+            + " AND NOT EXISTS (SELECT 1 FROM news n WHERE n.author_id = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, AtomicLong> purgedRows = new ConcurrentHashMap<>();
+    private final AtomicLong pendingAuthors = new AtomicLong();
+
+    @Autowired
+    public AuthorPurger(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        for (String table : List.of(COMMENTS, NEWS_TAGS, NEWS, AUTHORS)) {
+            purgedRows.put(table, new AtomicLong());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> readDeletedAuthorIds(int limit) {
+        pendingAuthors.set(jdbcTemplate.queryForObject(COUNT_DELETED_AUTHORS, Long.class));
+        return jdbcTemplate.queryForList(READ_DELETED_AUTHORS, Long.class, limit);
+    }
+
+    @Transactional
+    public int deleteComments(Long authorId, int chunkSize) {
+        return record(COMMENTS, jdbcTemplate.update(DELETE_COMMENTS, authorId, chunkSize));
+    }
+
+    @Transactional
+    public int deleteNewsTags(Long authorId, int chunkSize) {
+        return record(NEWS_TAGS, jdbcTemplate.update(DELETE_NEWS_TAGS, authorId, chunkSize));
+    }
+
+    @Transactional
+    public int deleteNews(Long authorId, int chunkSize) {
+        return record(NEWS, jdbcTemplate.update(DELETE_NEWS, authorId, chunkSize));
+    }
+
+    @Transactional
+    public boolean deleteAuthor(Long authorId) {
+        boolean deleted = record(AUTHORS, jdbcTemplate.update(DELETE_AUTHOR, authorId, authorId)) > 0;
+        if (deleted) {
+            pendingAuthors.updateAndGet(pending -> Math.max(0, pending - 1));
+        }
+        return deleted;
+    }
+
+    Map<String, AtomicLong> getPurgedRows() {
+        return purgedRows;
+    }
+
+    AtomicLong getPendingAuthors() {
+        return pendingAuthors;
+    }
+
+    private int record(String table, int rows) {
+        purgedRows.get(table).addAndGet(rows);
+        return rows;
+    }
+}
@@ -0,0 +1,4 @@
+package com.mjc.school.bulk;
+
+public record BulkCommentRow(String content, Long newsId) {
+}
@@ -0,0 +1,6 @@
+package com.mjc.school.bulk;
+
+import java.util.Set;
+
+public record BulkNewsRow(String title, String content, Long authorId, Set<Long> tagIds) {
+}
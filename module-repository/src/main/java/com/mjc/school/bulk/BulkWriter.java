@@ -0,0 +1,171 @@
+package com.mjc.school.bulk;
+
+import com.mjc.school.model.AggregateType;
+import com.mjc.school.model.Author;
+import com.mjc.school.model.ChangeType;
+import com.mjc.school.model.Tag;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Repository
+public class BulkWriter {
+    private static final int ID_ALLOCATION_SIZE = 50;
+    private static final String NEWS_SEQUENCE = "news_seq";
+    private static final String COMMENTS_SEQUENCE = "comments_seq";
+
+    private static final String NEWS_COLUMNS = "news (id, title, content, create_date, last_update_date, author_id)";
+    private static final String NEWS_TAGS_COLUMNS = "news_tags (news_id, tag_id)";
+    private static final String COMMENTS_COLUMNS = "comments (id, content, create_date, last_update_date, news_id)";
+
+    private static final String COPY_NEWS = "COPY " + NEWS_COLUMNS + " FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_NEWS_TAGS = "COPY " + NEWS_TAGS_COLUMNS + " FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_COMMENTS = "COPY " + COMMENTS_COLUMNS + " FROM STDIN WITH (FORMAT csv)";
+
+    private static final String INSERT_NEWS = "INSERT INTO " + NEWS_COLUMNS + " VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_NEWS_TAGS = "INSERT INTO " + NEWS_TAGS_COLUMNS + " VALUES (?, ?)";
+    private static final String INSERT_COMMENTS = "INSERT INTO " + COMMENTS_COLUMNS + " VALUES (?, ?, ?, ?, ?)";
+
+    private static final String ADD_TO_AUTHOR_NEWS_COUNT = "UPDATE authors SET news_count = news_count + ? WHERE id = ?";
+    private static final String ADD_TO_TAG_NEWS_COUNT = "UPDATE tags SET news_count = news_count + ? WHERE id = ?";
+    private static final String ADD_TO_NEWS_COMMENT_COUNT = "UPDATE news SET comment_count = comment_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final OutboxWriter outboxWriter;
+    private final Dialect dialect;
+
+    @Autowired
+    public BulkWriter(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory, OutboxWriter outboxWriter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        this.outboxWriter = outboxWriter;
+        this.dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+    }
+
+    @Transactional
+    public List<Long> insertNews(List<BulkNewsRow> rows) {
+        List<Long> ids = allocateIds(NEWS_SEQUENCE, rows.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> newsValues = new ArrayList<>(rows.size());
+        List<Object[]> newsTagValues = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            BulkNewsRow row = rows.get(i);
+            newsValues.add(new Object[]{ids.get(i), row.title(), row.content(), now, now, row.authorId()});
+            for (Long tagId : row.tagIds()) {
+                newsTagValues.add(new Object[]{ids.get(i), tagId});
+            }
+        }
+        write(COPY_NEWS, INSERT_NEWS, newsValues);
+        write(COPY_NEWS_TAGS, INSERT_NEWS_TAGS, newsTagValues);
+        Map<Long, Long> authorDeltas = rows.stream().collect(Collectors.groupingBy(BulkNewsRow::authorId, Collectors.counting()));
+        Map<Long, Long> tagDeltas = rows.stream().flatMap(row -> row.tagIds().stream()).collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        addToCounters(ADD_TO_AUTHOR_NEWS_COUNT, authorDeltas);
+        addToCounters(ADD_TO_TAG_NEWS_COUNT, tagDeltas);
+        evictAfterCommit(Author.class, authorDeltas.keySet());
+        evictAfterCommit(Tag.class, tagDeltas.keySet());
+        outboxWriter.append(AggregateType.NEWS, ids, ChangeType.CREATED);
+        return ids;
+    }
+
+    @Transactional
+    public List<Long> insertComments(List<BulkCommentRow> rows) {
+        List<Long> ids = allocateIds(COMMENTS_SEQUENCE, rows.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> commentValues = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            BulkCommentRow row = rows.get(i);
+            commentValues.add(new Object[]{ids.get(i), row.content(), now, now, row.newsId()});
+        }
+        write(COPY_COMMENTS, INSERT_COMMENTS, commentValues);
+        addToCounters(ADD_TO_NEWS_COMMENT_COUNT, rows.stream().collect(Collectors.groupingBy(BulkCommentRow::newsId, Collectors.counting())));
+        outboxWriter.append(AggregateType.COMMENT, ids, ChangeType.CREATED);
+        return ids;
+    }
+
+    private List<Long> allocateIds(String sequence, int count) {
+        String nextValue = dialect.getSequenceSupport().getSequenceNextValString(sequence);
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            Long hi = jdbcTemplate.queryForObject(nextValue, Long.class);
+            for (long id = Math.max(1, hi - ID_ALLOCATION_SIZE + 1); id <= hi && ids.size() < count; id++) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private void write(String copySql, String insertSql, List<Object[]> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        if (dialect instanceof PostgreSQLDialect) {
+            String csv = toCsv(values);
+            jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+                try {
+                    return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copySql, new StringReader(csv));
+                } catch (IOException e) {
+                    throw new SQLException("Unable to stream rows to " + copySql, e);
+                }
+            });
+        } else {
+            jdbcTemplate.batchUpdate(insertSql, values);
+        }
+    }
+
+    private void addToCounters(String sql, Map<Long, Long> deltas) {
+        if (!deltas.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, deltas.entrySet().stream()
+                    .map(delta -> new Object[]{delta.getValue(), delta.getKey()})
+                    .toList());
+        }
+    }
+
+    private void evictAfterCommit(Class<?> entityClass, Set<Long> ids) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.forEach(id -> entityManagerFactory.getCache().evict(entityClass, id));
+            }
+        });
+    }
+
+    private static String toCsv(List<Object[]> values) {
+        StringBuilder csv = new StringBuilder();
+        for (Object[] row : values) {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    csv.append(',');
+                }
+                if (row[i] instanceof String text) {
+                    csv.append('"').append(text.replace("\"", "\"\"")).append('"');
+                } else {
+                    csv.append(row[i]);
+                }
+            }
+            csv.append('\n');
+        }
+        return csv.toString();
+    }
+}
@@ -0,0 +1,7 @@
+package com.mjc.school.bulk;
+
+public record NewsFilter(Long authorId, Long taggedWithId, String titleContains) {
+    public boolean isEmpty() {
+        return authorId == null && taggedWithId == null && (titleContains == null || titleContains.isBlank());
+    }
+}
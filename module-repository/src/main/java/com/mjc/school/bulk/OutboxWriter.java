@@ -0,0 +1,56 @@
+package com.mjc.school.bulk;
+
+import com.mjc.school.model.AggregateType;
+import com.mjc.school.model.ChangeType;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Objects;
+
+@Repository
+public class OutboxWriter {
+    private static final String OUTBOX_SEQUENCE = "outbox_events_seq";
+    private static final long RELAY_LOCK_KEY = 0x6f7574626f78L;
+    private static final String TRY_RELAY_LOCK = "SELECT pg_try_advisory_xact_lock(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean postgres;
+    private final String insertEvent;
+
+    @Autowired
+    public OutboxWriter(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        this.postgres = dialect instanceof PostgreSQLDialect;
+        this.insertEvent = "INSERT INTO outbox_events (id, aggregate_type, aggregate_id, change_type, occurred_at, attempts, status)"
+                + " VALUES (" + dialect.getSequenceSupport().getSelectSequenceNextValString(OUTBOX_SEQUENCE) + ", ?, ?, ?, ?, 0, 'PENDING')";
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(AggregateType aggregateType, Collection<Long> aggregateIds, ChangeType changeType) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(insertEvent, aggregateIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(aggregateId -> new Object[]{aggregateType.name(), aggregateId, changeType.name(), now})
+                .toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryLockRelay() {
+        if (!postgres) {
+            return true;
+        }
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(TRY_RELAY_LOCK, Boolean.class, RELAY_LOCK_KEY));
+    }
+}
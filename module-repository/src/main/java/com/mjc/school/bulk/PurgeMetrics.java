@@ -0,0 +1,32 @@
+package com.mjc.school.bulk;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class PurgeMetrics implements MeterBinder {
+    private static final String PURGED_ROWS_METRIC = "purge.rows";
+    private static final String PENDING_AUTHORS_METRIC = "purge.authors.pending";
+    private static final String TABLE_TAG = "table";
+
+    private final AuthorPurger authorPurger;
+
+    @Autowired
+    public PurgeMetrics(AuthorPurger authorPurger) {
+        this.authorPurger = authorPurger;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        authorPurger.getPurgedRows().forEach((table, rows) -> FunctionCounter.builder(PURGED_ROWS_METRIC, rows, AtomicLong::get)
+                .tag(TABLE_TAG, table)
+                .register(registry));
+        Gauge.builder(PENDING_AUTHORS_METRIC, authorPurger.getPendingAuthors(), AtomicLong::get).register(registry);
+    }
+}
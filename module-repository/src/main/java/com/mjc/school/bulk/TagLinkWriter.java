@@ -0,0 +1,114 @@
+package com.mjc.school.bulk;
+
+import com.mjc.school.filter.SearchStrategy;
+import com.mjc.school.model.News;
+import com.mjc.school.model.Tag;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+@Repository
+public class TagLinkWriter {
+    private static final String NEWS_TAGS_ROLE = News.class.getName() + ".tags";
+
+    private static final String NOT_LINKED = "NOT EXISTS (SELECT 1 FROM news_tags l WHERE l.news_id = %s AND l.tag_id = ?)";
+    private static final String UNLINK_ALL = "DELETE FROM news_tags WHERE tag_id = ?";
+    private static final String COPY_LINKS = "INSERT INTO news_tags (news_id, tag_id) SELECT nt.news_id, ? FROM news_tags nt"
+            + " INNER JOIN news n ON n.id = nt.news_id WHERE nt.tag_id = ? AND n.deleted_at IS NULL AND " + NOT_LINKED.formatted("nt.news_id");
+    private static final String LINK_MATCHING = "INSERT INTO news_tags (news_id, tag_id) SELECT n.id, ? FROM news n"
+            + " WHERE n.deleted_at IS NULL AND %s AND " + NOT_LINKED.formatted("n.id");
+    private static final String UNLINK_MATCHING = "DELETE FROM news_tags WHERE tag_id = ? AND news_id IN (SELECT n.id FROM news n WHERE n.deleted_at IS NULL AND %s)";
+
+    private static final String BY_AUTHOR = "n.author_id = ?";
+    private static final String BY_TAG = "EXISTS (SELECT 1 FROM news_tags f WHERE f.news_id = n.id AND f.tag_id = ?)";
+    private static final String BY_TITLE = "lower(n.title) LIKE ? ESCAPE '" + SearchStrategy.ESCAPE_SYMBOL + "'";
+
+    private static final String ADD_TO_TAG_NEWS_COUNT = "UPDATE tags SET news_count = news_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SessionFactory sessionFactory;
+
+    @Autowired
+    public TagLinkWriter(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    @Transactional
+    public int unlinkAll(Long tagId) {
+        int unlinked = jdbcTemplate.update(UNLINK_ALL, tagId);
+        evictAfterCommit(List.of(tagId));
+        return unlinked;
+    }
+
+    @Transactional
+    public int merge(Long sourceTagId, Long targetTagId) {
+        int linked = jdbcTemplate.update(COPY_LINKS, targetTagId, sourceTagId, targetTagId);
+        jdbcTemplate.update(UNLINK_ALL, sourceTagId);
+        jdbcTemplate.update(ADD_TO_TAG_NEWS_COUNT, linked, targetTagId);
+        evictAfterCommit(List.of(sourceTagId, targetTagId));
+        return linked;
+    }
+
+    @Transactional
+    public int link(Long tagId, NewsFilter filter) {
+        List<Object> arguments = new ArrayList<>();
+        arguments.add(tagId);
+        String condition = toCondition(filter, arguments);
+        arguments.add(tagId);
+        int linked = jdbcTemplate.update(LINK_MATCHING.formatted(condition), arguments.toArray());
+        jdbcTemplate.update(ADD_TO_TAG_NEWS_COUNT, linked, tagId);
+        evictAfterCommit(List.of(tagId));
+        return linked;
+    }
+
+    @Transactional
+    public int unlink(Long tagId, NewsFilter filter) {
+        List<Object> arguments = new ArrayList<>();
+        arguments.add(tagId);
+        String condition = toCondition(filter, arguments);
+        int unlinked = jdbcTemplate.update(UNLINK_MATCHING.formatted(condition), arguments.toArray());
+        jdbcTemplate.update(ADD_TO_TAG_NEWS_COUNT, -unlinked, tagId);
+        evictAfterCommit(List.of(tagId));
+        return unlinked;
+    }
+
+    private static String toCondition(NewsFilter filter, List<Object> arguments) {
+        List<String> conditions = new ArrayList<>();
+        if (filter.authorId() != null) {
+            conditions.add(BY_AUTHOR);
+            arguments.add(filter.authorId());
+        }
+        if (filter.taggedWithId() != null) {
+            conditions.add(BY_TAG);
+            arguments.add(filter.taggedWithId());
+        }
+        if (filter.titleContains() != null && !filter.titleContains().isBlank()) {
+            conditions.add(BY_TITLE);
+            arguments.add("%" + SearchStrategy.escape(filter.titleContains().toLowerCase(Locale.ROOT)) + "%");
+        }
+        if (conditions.isEmpty()) {
+            throw new IllegalArgumentException("News filter must restrict at least one field");
+        }
+        return String.join(" AND ", conditions);
+    }
+
+    private void evictAfterCommit(List<Long> tagIds) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tagIds.forEach(tagId -> sessionFactory.getCache().evictEntityData(Tag.class, tagId));
+                sessionFactory.getCache().evictCollectionData(NEWS_TAGS_ROLE);
+            }
+        });
+    }
+}
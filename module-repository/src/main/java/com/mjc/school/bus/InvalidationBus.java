@@ -0,0 +1,158 @@
+package com.mjc.school.bus;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Component
+public class InvalidationBus implements SmartLifecycle {
+    private final static Logger LOGGER = LoggerFactory.getLogger(InvalidationBus.class);
+    private static final String CHANNEL = "cache_invalidation";
+    private static final String LISTEN = "LISTEN " + CHANNEL;
+    private static final String NOTIFY = "SELECT pg_notify(?, ?)";
+    private static final int MAX_IDS_PER_MESSAGE = 500;
+    private static final int POLL_TIMEOUT_MILLIS = 500;
+    private static final long RECONNECT_DELAY_MILLIS = 1000;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<InvalidationListener> listeners = new CopyOnWriteArrayList<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final boolean postgres;
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @Autowired
+    public InvalidationBus(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = jdbcTemplate.getDataSource();
+        this.postgres = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+
+    public void subscribe(InvalidationListener listener) {
+        listeners.add(listener);
+    }
+
+    public void publish(String region, Collection<Long> ids) {
+        if (!postgres) {
+            return;
+        }
+        List<Long> distinctIds = ids.stream().filter(Objects::nonNull).distinct().toList();
+        for (int from = 0; from < distinctIds.size(); from += MAX_IDS_PER_MESSAGE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + MAX_IDS_PER_MESSAGE, distinctIds.size()));
+            send(new InvalidationMessage(nodeId, region, chunk));
+        }
+    }
+
+    public void publishClear(String region) {
+        if (!postgres) {
+            return;
+        }
+        send(new InvalidationMessage(nodeId, region, List.of()));
+    }
+
+    private void send(InvalidationMessage message) {
+        String payload = message.encode();
+        jdbcTemplate.execute(NOTIFY, (PreparedStatementCallback<Boolean>) statement -> {
+            statement.setString(1, CHANNEL);
+            statement.setString(2, payload);
+            return statement.execute();
+        });
+    }
+
+    void dispatch(String payload) {
+        InvalidationMessage message;
+        try {
+            message = InvalidationMessage.decode(payload);
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Ignoring malformed invalidation message {}", payload, e);
+            return;
+        }
+        if (nodeId.equals(message.nodeId())) {
+            return;
+        }
+        LOGGER.debug("Received invalidation of {} {} entries from node {}", message.ids().size(), message.region(), message.nodeId());
+        for (InvalidationListener listener : listeners) {
+            try {
+                listener.onInvalidation(message.region(), message.ids());
+            } catch (RuntimeException e) {
+                LOGGER.error("Invalidation listener failed for region {}", message.region(), e);
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!postgres) {
+            LOGGER.info("Database does not support LISTEN/NOTIFY, cache invalidation stays local to this node");
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listen, "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            listenerThread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+                statement.execute(LISTEN);
+                LOGGER.info("Node {} listening for cache invalidations on channel {}", nodeId, CHANNEL);
+                listeners.forEach(InvalidationListener::onReset);
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                LOGGER.warn("Lost cache invalidation connection, reconnecting in {} ms", RECONNECT_DELAY_MILLIS, e);
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.mjc.school.bus;
+
+import java.util.List;
+
+public interface InvalidationListener {
+    void onInvalidation(String region, List<Long> ids);
+
+    void onReset();
+}
@@ -0,0 +1,26 @@
+package com.mjc.school.bus;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public record InvalidationMessage(String nodeId, String region, List<Long> ids) {
+    private static final String FIELD_SEPARATOR = "|";
+    private static final String ID_SEPARATOR = ",";
+
+    public String encode() {
+        return nodeId + FIELD_SEPARATOR + region + FIELD_SEPARATOR
+                + ids.stream().map(String::valueOf).collect(Collectors.joining(ID_SEPARATOR));
+    }
+
+    public static InvalidationMessage decode(String payload) {
+        String[] fields = payload.split("\\" + FIELD_SEPARATOR, 3);
+        if (fields.length != 3) {
+            throw new IllegalArgumentException("Malformed invalidation message: " + payload);
+        }
+        List<Long> ids = fields[2].isEmpty()
+                ? List.of()
+                : Arrays.stream(fields[2].split(ID_SEPARATOR)).map(Long::valueOf).toList();
+        return new InvalidationMessage(fields[0], fields[1], ids);
+    }
+}
@@ -0,0 +1,71 @@
+package com.mjc.school.config;
+
+import com.mjc.school.routing.DataSourcePools;
+import com.mjc.school.routing.ReadYourWritesTracker;
+import com.mjc.school.routing.WriteTrackingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.IntStream;
+
+@Configuration
+public class DataSourceRoutingConfig {
+    private static final String HIKARI_PROPERTIES = "spring.datasource.hikari";
+    private static final String PRIMARY_POOL_NAME = "primary";
+    private static final String REPLICA_POOL_NAME = "replica-%d";
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(@Value("${datasource.read-your-writes.window-ms}") long windowMillis) {
+        return new ReadYourWritesTracker(windowMillis);
+    }
+
+    @Bean
+    public DataSourcePools dataSourcePools(DataSourceProperties properties, Environment environment, ReadYourWritesTracker readYourWritesTracker,
+                                           @Value("${datasource.replicas.urls}") List<String> replicaUrls,
+                                           @Value("${datasource.replicas.username}") String replicaUsername,
+                                           @Value("${datasource.replicas.password}") String replicaPassword,
+                                           @Value("${datasource.replicas.max-lag-ms}") long maxLagMillis) {
+        HikariDataSource primary = configure(properties.initializeDataSourceBuilder().type(HikariDataSource.class).build(),
+                environment, PRIMARY_POOL_NAME);
+        List<String> urls = replicaUrls.stream().filter(url -> !url.isBlank()).map(String::trim).toList();
+        List<HikariDataSource> replicas = IntStream.range(0, urls.size())
+                .mapToObj(i -> replica(urls.get(i), replicaUsername, replicaPassword, environment, String.format(REPLICA_POOL_NAME, i + 1)))
+                .toList();
+        return new DataSourcePools(primary, replicas, readYourWritesTracker, maxLagMillis);
+    }
+
+    @Bean
+    public DataSource dataSource(DataSourcePools dataSourcePools, ReadYourWritesTracker readYourWritesTracker) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new WriteTrackingDataSource(dataSourcePools.getPrimary(), readYourWritesTracker));
+        dataSource.setReadOnlyDataSource(dataSourcePools.getReadOnlyDataSource());
+        return dataSource;
+    }
+
+    private static HikariDataSource replica(String url, String username, String password, Environment environment, String poolName) {
+        HikariDataSource replica = configure(DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build(), environment, poolName);
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    private static HikariDataSource configure(HikariDataSource dataSource, Environment environment, String poolName) {
+        Binder.get(environment).bind(HIKARI_PROPERTIES, Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(poolName);
+        return dataSource;
+    }
+}
@@ -0,0 +1,50 @@
+package com.mjc.school.dialect;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+public class FullTextFunctionContributor implements FunctionContributor {
+    public static final String FULL_TEXT_MATCH = "fts_match";
+    public static final String FULL_TEXT_RANK = "fts_rank";
+    public static final String FULL_TEXT_FIELD_MATCH = "fts_field_match";
+
+    private static final String POSTGRES_DOCUMENT = "(setweight(to_tsvector('english', coalesce(?1, '')), 'A')"
+            + " || setweight(to_tsvector('english', coalesce(?2, '')), 'B'))";
+    private static final String POSTGRES_QUERY = "websearch_to_tsquery('english', ?3)";
+    private static final String POSTGRES_MATCH = POSTGRES_DOCUMENT + " @@ " + POSTGRES_QUERY;
+    private static final String POSTGRES_RANK = "ts_rank(" + POSTGRES_DOCUMENT + ", " + POSTGRES_QUERY + ")";
+
+    private static final String POSTGRES_FIELD_MATCH = "to_tsvector('english', coalesce(?1, '')) @@ websearch_to_tsquery('english', ?2)";
+
+    private static final String TITLE_CONTAINS = "lower(coalesce(?1, '')) like ('%' || lower(?3) || '%')";
+    private static final String CONTENT_CONTAINS = "lower(coalesce(?2, '')) like ('%' || lower(?3) || '%')";
+    private static final String FALLBACK_MATCH = "(" + TITLE_CONTAINS + " or " + CONTENT_CONTAINS + ")";
+    private static final String FALLBACK_RANK = "(case when " + TITLE_CONTAINS + " then 1.0 else 0.0 end"
+            + " + case when " + CONTENT_CONTAINS + " then 0.4 else 0.0 end)";
+    private static final String FALLBACK_FIELD_MATCH = "lower(coalesce(?1, '')) like ('%' || lower(?2) || '%')";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        boolean postgres = functionContributions.getDialect() instanceof PostgreSQLDialect;
+        BasicTypeRegistry typeRegistry = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+
+        functionContributions.getFunctionRegistry()
+                .patternDescriptorBuilder(FULL_TEXT_MATCH, postgres ? POSTGRES_MATCH : FALLBACK_MATCH)
+                .setInvariantType(typeRegistry.resolve(StandardBasicTypes.BOOLEAN))
+                .setExactArgumentCount(3)
+                .register();
+        functionContributions.getFunctionRegistry()
+                .patternDescriptorBuilder(FULL_TEXT_RANK, postgres ? POSTGRES_RANK : FALLBACK_RANK)
+                .setInvariantType(typeRegistry.resolve(StandardBasicTypes.DOUBLE))
+                .setExactArgumentCount(3)
+                .register();
+        functionContributions.getFunctionRegistry()
+                .patternDescriptorBuilder(FULL_TEXT_FIELD_MATCH, postgres ? POSTGRES_FIELD_MATCH : FALLBACK_FIELD_MATCH)
+                .setInvariantType(typeRegistry.resolve(StandardBasicTypes.BOOLEAN))
+                .setExactArgumentCount(2)
+                .register();
+    }
+}
@@ -4,14 +4,22 @@ import com.mjc.school.model.BaseEntity;
 import org.springframework.data.jpa.domain.Specification;
 
 public class EntitySpecification<T extends BaseEntity<Long>> {
-    private static final String PERCENTAGE_SYMBOL = "%";
+    private static final String UNSEARCHABLE_FIELD = "Field %s of %s is not searchable";
+    private static final String ID = "id";
 
-    public static <T> Specification<T> searchByField(String field, String value) {
+    public static <T> Specification<T> searchByField(Class<T> entityType, String field, String value) {
         return (root, query, cb) -> {
             if (value == null || value.isEmpty() || field == null || field.isEmpty()) {
                 return cb.conjunction();
             }
-            return cb.like(cb.lower(root.get(field)), PERCENTAGE_SYMBOL + value.toLowerCase() + PERCENTAGE_SYMBOL);
+            SearchStrategy strategy = SearchableFields.strategyOf(entityType, field)
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            UNSEARCHABLE_FIELD.formatted(field, entityType.getSimpleName())));
+            return strategy.toPredicate(cb, root.get(field), value);
         };
     }
+
+    public static <T> Specification<T> belongsTo(String association, Long id) {
+        return (root, query, cb) -> cb.equal(root.get(association).get(ID), id);
+    }
 }
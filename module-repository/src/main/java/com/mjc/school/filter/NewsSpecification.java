@@ -0,0 +1,57 @@
+package com.mjc.school.filter;
+
+import com.mjc.school.model.News;
+import com.mjc.school.model.Tag;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class NewsSpecification {
+    private static final String PERCENTAGE_SYMBOL = "%";
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final String AUTHOR = "author";
+    private static final String NAME = "name";
+    private static final String NEWS = "news";
+
+    public static Specification<News> titleContains(String title) {
+        return (root, query, cb) ->
+                cb.like(cb.lower(root.get(TITLE)), PERCENTAGE_SYMBOL + SearchStrategy.escape(title.toLowerCase()) + PERCENTAGE_SYMBOL,
+                        SearchStrategy.ESCAPE_SYMBOL);
+    }
+
+    public static Specification<News> contentContains(String content) {
+        return (root, query, cb) ->
+                cb.like(cb.lower(root.get(CONTENT)), PERCENTAGE_SYMBOL + SearchStrategy.escape(content.toLowerCase()) + PERCENTAGE_SYMBOL,
+                        SearchStrategy.ESCAPE_SYMBOL);
+    }
+
+    public static Specification<News> authorNameEquals(String authorName) {
+        return (root, query, cb) -> cb.equal(cb.lower(root.join(AUTHOR).get(NAME)), authorName.toLowerCase());
+    }
+
+    public static Specification<News> hasTag(Collection<Long> tagIds, Collection<String> tagNames) {
+        return (root, query, cb) -> {
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<Tag> tag = subquery.from(Tag.class);
+            Join<Tag, News> news = tag.join(NEWS);
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(news.get(ID), root.get(ID)));
+            if (tagIds != null && !tagIds.isEmpty()) {
+                predicates.add(tag.get(ID).in(tagIds));
+            }
+            if (tagNames != null && !tagNames.isEmpty()) {
+                predicates.add(cb.lower(tag.get(NAME)).in(tagNames.stream().map(String::toLowerCase).toList()));
+            }
+            subquery.select(tag.get(ID)).where(predicates.toArray(new Predicate[0]));
+            return cb.exists(subquery);
+        };
+    }
+}
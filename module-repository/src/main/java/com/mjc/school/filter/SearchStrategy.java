@@ -0,0 +1,43 @@
+package com.mjc.school.filter;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+import static com.mjc.school.dialect.FullTextFunctionContributor.FULL_TEXT_FIELD_MATCH;
+
+public enum SearchStrategy {
+    EXACT {
+        @Override
+        public Predicate toPredicate(CriteriaBuilder cb, Expression<String> field, String value) {
+            return cb.equal(cb.lower(field), value.toLowerCase());
+        }
+    },
+    PREFIX {
+        @Override
+        public Predicate toPredicate(CriteriaBuilder cb, Expression<String> field, String value) {
+            return cb.like(cb.lower(field), escape(value.toLowerCase()) + PERCENTAGE_SYMBOL, ESCAPE_SYMBOL);
+        }
+    },
+    TRIGRAM {
+        @Override
+        public Predicate toPredicate(CriteriaBuilder cb, Expression<String> field, String value) {
+            return cb.like(cb.lower(field), PERCENTAGE_SYMBOL + escape(value.toLowerCase()) + PERCENTAGE_SYMBOL, ESCAPE_SYMBOL);
+        }
+    },
+    FULL_TEXT {
+        @Override
+        public Predicate toPredicate(CriteriaBuilder cb, Expression<String> field, String value) {
+            return cb.isTrue(cb.function(FULL_TEXT_FIELD_MATCH, Boolean.class, field, cb.literal(value)));
+        }
+    };
+
+    public static final char ESCAPE_SYMBOL = '\\';
+    private static final String PERCENTAGE_SYMBOL = "%";
+
+    public abstract Predicate toPredicate(CriteriaBuilder cb, Expression<String> field, String value);
+
+    public static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
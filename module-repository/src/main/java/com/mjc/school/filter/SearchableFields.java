@@ -0,0 +1,34 @@
+package com.mjc.school.filter;
+
+import com.mjc.school.model.Author;
+import com.mjc.school.model.Comment;
+import com.mjc.school.model.News;
+import com.mjc.school.model.Tag;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public final class SearchableFields {
+    private static final Map<Class<?>, Map<String, SearchStrategy>> FIELDS = Map.of(
+            News.class, Map.of(
+                    "title", SearchStrategy.TRIGRAM,
+                    "content", SearchStrategy.FULL_TEXT),
+            Author.class, Map.of(
+                    "name", SearchStrategy.EXACT),
+            Tag.class, Map.of(
+                    "name", SearchStrategy.PREFIX),
+            Comment.class, Map.of(
+                    "content", SearchStrategy.TRIGRAM));
+
+    private SearchableFields() {
+    }
+
+    public static Optional<SearchStrategy> strategyOf(Class<?> entityType, String field) {
+        return Optional.ofNullable(FIELDS.getOrDefault(entityType, Map.of()).get(field));
+    }
+
+    public static Set<String> fieldsOf(Class<?> entityType) {
+        return FIELDS.getOrDefault(entityType, Map.of()).keySet();
+    }
+}
@@ -0,0 +1,8 @@
+package com.mjc.school.model;
+
+public enum AggregateType {
+    NEWS,
+    AUTHOR,
+    TAG,
+    COMMENT
+}
@@ -1,5 +1,6 @@
 package com.mjc.school.model;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -8,7 +9,12 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -21,12 +27,16 @@ import java.util.Objects;
 @Entity
 @Table(name = "authors")
 @EntityListeners(AuditingEntityListener.class)
+@SQLRestriction("deleted_at IS NULL")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "authors")
 public class Author implements BaseEntity<Long> {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "authors_seq")
+    @SequenceGenerator(name = "authors_seq", sequenceName = "authors_seq", allocationSize = 50)
     private Long id;
 
-    @Column(name = "name", unique = true, nullable = false)
+    @Column(name = "name", nullable = false)
     private String name;
 
     @Column(name = "create_date", nullable = false)
@@ -37,6 +47,13 @@ public class Author implements BaseEntity<Long> {
     @LastModifiedDate
     private LocalDateTime lastUpdateDate;
 
+    @Column(name = "news_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long newsCount = 0L;
+
+    @Column(name = "deleted_at", insertable = false, updatable = false)
+    private LocalDateTime deletedAt;
+
     @OneToMany(mappedBy = "author", cascade = CascadeType.ALL)
     private List<News> news = new ArrayList<>();
 
@@ -84,6 +101,18 @@ public class Author implements BaseEntity<Long> {
         this.lastUpdateDate = lastUpdateDate;
     }
 
+    public Long getNewsCount() {
+        return newsCount;
+    }
+
+    public void setNewsCount(Long newsCount) {
+        this.newsCount = newsCount;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
     public List<News> getNews() {
         return news;
     }
@@ -0,0 +1,7 @@
+package com.mjc.school.model;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
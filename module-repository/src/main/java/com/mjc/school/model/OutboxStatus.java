@@ -0,0 +1,6 @@
+package com.mjc.school.model;
+
+public enum OutboxStatus {
+    PENDING,
+    DEAD
+}
@@ -1,5 +1,6 @@
 package com.mjc.school.model;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -9,7 +10,11 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.util.ArrayList;
@@ -19,14 +24,21 @@ import java.util.Objects;
 @Entity
 @Table(name = "tags")
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tags")
 public class Tag implements BaseEntity<Long> {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tags_seq")
+    @SequenceGenerator(name = "tags_seq", sequenceName = "tags_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "name", unique = true, nullable = false)
     private String name;
 
+    @Column(name = "news_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long newsCount = 0L;
+
     @ManyToMany(mappedBy = "tags", fetch = FetchType.LAZY, cascade = {CascadeType.MERGE, CascadeType.PERSIST})
     private List<News> news = new ArrayList<>();
 
@@ -53,6 +65,14 @@ public class Tag implements BaseEntity<Long> {
         this.name = name;
     }
 
+    public Long getNewsCount() {
+        return newsCount;
+    }
+
+    public void setNewsCount(Long newsCount) {
+        this.newsCount = newsCount;
+    }
+
     public List<News> getNews() {
         return news;
     }
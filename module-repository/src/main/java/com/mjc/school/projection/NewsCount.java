@@ -0,0 +1,4 @@
+package com.mjc.school.projection;
+
+public record NewsCount(Long id, Long count) {
+}
@@ -0,0 +1,4 @@
+package com.mjc.school.projection;
+
+public record NewsFacetCount(Long id, String name, Long count) {
+}
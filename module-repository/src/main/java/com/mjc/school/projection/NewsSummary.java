@@ -0,0 +1,7 @@
+package com.mjc.school.projection;
+
+import java.time.LocalDateTime;
+
+public record NewsSummary(Long id, String title, String content, LocalDateTime createDate, LocalDateTime lastUpdateDate,
+                          Long authorId, String authorName, Long commentCount) {
+}
@@ -0,0 +1,4 @@
+package com.mjc.school.projection;
+
+public record NewsTagSummary(Long newsId, Long tagId, String tagName) {
+}
@@ -1,40 +1,40 @@
 package com.mjc.school.repository;
 
 import com.mjc.school.model.Author;
-import io.micrometer.common.lang.NonNull;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface AuthorRepository extends JpaRepository<Author, Long>, JpaSpecificationExecutor<Author> {
-    @Override
-    @NonNull
-    @EntityGraph(attributePaths = "news")
-    List<Author> findAll();
-
-    @Override
-    @NonNull
-    @EntityGraph(attributePaths = "news")
-    Page<Author> findAll(@NonNull Pageable pageable);
-
-    @Override
-    @NonNull
-    @EntityGraph(attributePaths = "news")
-    Page<Author> findAll(Specification<Author> spec, @NonNull Pageable pageable);
-
-    @Override
-    @NonNull
-    @EntityGraph(attributePaths = "news")
-    Optional<Author> findById(@NonNull Long id);
-
     @Query("SELECT a FROM Author a INNER JOIN a.news n WHERE n.id = :newsId")
     Optional<Author> readByNewsId(@Param("newsId") Long newsId);
+
+    @Query("SELECT a.id FROM Author a WHERE a.id IN :ids")
+    Set<Long> readExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Author a SET a.deletedAt = :deletedAt WHERE a.id = :id")
+    int markDeleted(@Param("id") Long id, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Modifying
+    @Query("UPDATE Author a SET a.newsCount = a.newsCount + :delta WHERE a.id IN :ids")
+    int addToNewsCount(@Param("ids") Collection<Long> ids, @Param("delta") long delta);
+
+    @Query("SELECT a.id FROM Author a WHERE a.id BETWEEN :fromId AND :toId AND a.newsCount <> (SELECT COUNT(n) FROM News n WHERE n.author.id = a.id)")
+    List<Long> readIdsWithDriftedNewsCount(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Modifying
+    @Query("UPDATE Author a SET a.newsCount = (SELECT COUNT(n) FROM News n WHERE n.author.id = a.id) WHERE a.id IN :ids")
+    int recountNews(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT COALESCE(MAX(a.id), 0) FROM Author a")
+    Long readMaxId();
 }
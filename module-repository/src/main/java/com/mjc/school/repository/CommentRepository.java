@@ -1,36 +1,25 @@
 package com.mjc.school.repository;
 
 import com.mjc.school.model.Comment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CommentRepository extends JpaRepository<Comment, Long>, JpaSpecificationExecutor<Comment> {
 
-    @Override
-    @NonNull
-    @EntityGraph(attributePaths = "news")
-    List<Comment> findAll();
-
-    @Override
-    @NonNull
-    @EntityGraph(attributePaths = "news")
-    Page<Comment> findAll(@NonNull Pageable pageable);
-
-    @Override
-    @NonNull
-    @EntityGraph(attributePaths = "news")
-    Page<Comment> findAll(Specification<Comment> spec, @NonNull Pageable pageable);
-
     @Override
     @NonNull
     @EntityGraph(attributePaths = "news")
@@ -38,4 +27,14 @@ public interface CommentRepository extends JpaRepository<Comment, Long>, JpaSpec
 
     @Query("SELECT c FROM Comment c WHERE c.news.id = :newsId")
     Page<Comment> readByNewsId(@Param("newsId") Long newsId, Pageable pageable);
+
+    @Query("SELECT c.id FROM Comment c WHERE c.news.id IN :newsIds")
+    List<Long> readIdsByNewsIdIn(@Param("newsIds") Collection<Long> newsIds);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")})
+    @Query("SELECT c FROM Comment c JOIN FETCH c.news n JOIN FETCH n.author ORDER BY c.id")
+    Stream<Comment> streamAll();
 }
@@ -1,51 +1,111 @@
 package com.mjc.school.repository;
 
 import com.mjc.school.model.News;
-import com.mjc.school.model.SearchParameters;
+import com.mjc.school.projection.NewsCount;
+import com.mjc.school.projection.NewsSummary;
+import com.mjc.school.projection.NewsTagSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
-public interface NewsRepository extends JpaRepository<News, Long>, JpaSpecificationExecutor<News> {
+public interface NewsRepository extends JpaRepository<News, Long>, JpaSpecificationExecutor<News>, NewsRepositoryCustom {
     @Override
     @NonNull
-    @EntityGraph(attributePaths = {"news", "comments"})
+    @EntityGraph(attributePaths = "author")
     List<News> findAll();
 
     @Override
     @NonNull
-    @EntityGraph(attributePaths = {"author", "comments"})
+    @EntityGraph(attributePaths = "author")
     Page<News> findAll(@NonNull Pageable pageable);
 
     @Override
     @NonNull
-    @EntityGraph(attributePaths = {"author", "comments"})
+    @EntityGraph(attributePaths = "author")
     Page<News> findAll(Specification<News> spec, @NonNull Pageable pageable);
 
     @Override
     @NonNull
-    @EntityGraph(attributePaths = {"author", "comments"})
+    @EntityGraph(attributePaths = "author")
     Optional<News> findById(@NonNull Long id);
 
-    @EntityGraph(attributePaths = {"author", "tags"})
+    @Query(value = """
+                SELECT n.id FROM News n
+                WHERE fts_match(n.title, n.content, :query)
+                ORDER BY fts_rank(n.title, n.content, :query) DESC, n.id
+            """,
+            countQuery = "SELECT COUNT(n.id) FROM News n WHERE fts_match(n.title, n.content, :query)")
+    Page<Long> readIdsByFullText(@Param("query") String query, Pageable pageable);
+
+    @Query("""
+                SELECT new com.mjc.school.projection.NewsSummary(n.id, n.title, n.content, n.createDate, n.lastUpdateDate, a.id, a.name, n.commentCount)
+                FROM News n JOIN n.author a
+                WHERE n.id IN :ids
+            """)
+    List<NewsSummary> readSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
     @Query("""
-                SELECT n FROM News n
-                LEFT JOIN n.author a
-                LEFT JOIN n.tags t
-                WHERE (:#{#params.newsTitle} IS NULL OR LOWER(n.title) LIKE LOWER(CONCAT('%', :#{#params.newsTitle}, '%')))
-                AND (:#{#params.newsContent} IS NULL OR LOWER(n.content) LIKE LOWER(CONCAT('%', :#{#params.newsContent}, '%')))
-                AND (:#{#params.authorName} IS NULL OR LOWER(a.name) = LOWER(:#{#params.authorName}))
-                AND (:#{#params.tagIds} IS NULL OR t.id IN (:#{#params.tagIds}))
-                AND (:#{#params.tagNames} IS NULL OR LOWER(t.name) IN (:#{#params.tagNames}))
+                SELECT new com.mjc.school.projection.NewsTagSummary(n.id, t.id, t.name)
+                FROM News n JOIN n.tags t
+                WHERE n.id IN :ids
+                ORDER BY t.id
             """)
-    Page<News> readByParams(@Param("params") SearchParameters params, Pageable pageable);
+    List<NewsTagSummary> readTagSummariesByNewsIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT n.id FROM News n WHERE n.id IN :ids")
+    Set<Long> readExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT n.title FROM News n WHERE n.title IN :titles")
+    Set<String> readExistingTitles(@Param("titles") Collection<String> titles);
+
+    @Query("SELECT n.id FROM News n WHERE n.author.id = :authorId")
+    List<Long> readIdsByAuthorId(@Param("authorId") Long authorId);
+
+    @Query("SELECT DISTINCT t.id FROM News n INNER JOIN n.tags t WHERE n.author.id = :authorId")
+    List<Long> readTagIdsByAuthorId(@Param("authorId") Long authorId);
+
+    @Query("SELECT new com.mjc.school.projection.NewsCount(t.id, COUNT(n)) FROM News n INNER JOIN n.tags t WHERE n.author.id = :authorId GROUP BY t.id")
+    List<NewsCount> countNewsByTagForAuthorId(@Param("authorId") Long authorId);
+
+    @Modifying
+    @Query("UPDATE News n SET n.deletedAt = :deletedAt WHERE n.author.id = :authorId")
+    int markDeletedByAuthorId(@Param("authorId") Long authorId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Modifying
+    @Query("UPDATE News n SET n.commentCount = n.commentCount + :delta WHERE n.id IN :ids")
+    int addToCommentCount(@Param("ids") Collection<Long> ids, @Param("delta") long delta);
+
+    @Query("SELECT n.id FROM News n WHERE n.id BETWEEN :fromId AND :toId AND n.commentCount <> (SELECT COUNT(c) FROM Comment c WHERE c.news.id = n.id)")
+    List<Long> readIdsWithDriftedCommentCount(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Modifying
+    @Query("UPDATE News n SET n.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.news.id = n.id) WHERE n.id IN :ids")
+    int recountComments(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT COALESCE(MAX(n.id), 0) FROM News n")
+    Long readMaxId();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")})
+    @Query("SELECT n FROM News n JOIN FETCH n.author ORDER BY n.id")
+    Stream<News> streamAll();
 }
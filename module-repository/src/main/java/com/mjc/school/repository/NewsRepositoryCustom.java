@@ -0,0 +1,18 @@
+package com.mjc.school.repository;
+
+import com.mjc.school.model.News;
+import com.mjc.school.projection.NewsFacetCount;
+import com.mjc.school.projection.NewsSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface NewsRepositoryCustom {
+    Page<NewsSummary> findSummaries(Specification<News> specification, Pageable pageable);
+
+    List<NewsFacetCount> findTopTags(Specification<News> specification, int limit);
+
+    List<NewsFacetCount> findTopAuthors(Specification<News> specification, int limit);
+}
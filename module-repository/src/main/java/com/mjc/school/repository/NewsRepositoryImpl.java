@@ -0,0 +1,102 @@
+package com.mjc.school.repository;
+
+import com.mjc.school.model.Author;
+import com.mjc.school.model.News;
+import com.mjc.school.projection.NewsFacetCount;
+import com.mjc.school.projection.NewsSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+public class NewsRepositoryImpl implements NewsRepositoryCustom {
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final String CREATE_DATE = "createDate";
+    private static final String LAST_UPDATE_DATE = "lastUpdateDate";
+    private static final String COMMENT_COUNT = "commentCount";
+    private static final String AUTHOR = "author";
+    private static final String TAGS = "tags";
+    private static final String NAME = "name";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<NewsSummary> findSummaries(Specification<News> specification, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<NewsSummary> query = cb.createQuery(NewsSummary.class);
+        Root<News> root = query.from(News.class);
+        Join<News, Author> author = root.join(AUTHOR);
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.construct(NewsSummary.class,
+                        root.get(ID), root.get(TITLE), root.get(CONTENT), root.get(CREATE_DATE), root.get(LAST_UPDATE_DATE),
+                        author.get(ID), author.get(NAME), root.get(COMMENT_COUNT)))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<NewsSummary> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> countMatching(specification));
+    }
+
+    @Override
+    public List<NewsFacetCount> findTopTags(Specification<News> specification, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<NewsFacetCount> query = cb.createQuery(NewsFacetCount.class);
+        Root<News> root = query.from(News.class);
+        return findTop(query, root, root.join(TAGS), specification, limit);
+    }
+
+    @Override
+    public List<NewsFacetCount> findTopAuthors(Specification<News> specification, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<NewsFacetCount> query = cb.createQuery(NewsFacetCount.class);
+        Root<News> root = query.from(News.class);
+        return findTop(query, root, root.join(AUTHOR), specification, limit);
+    }
+
+    private List<NewsFacetCount> findTop(CriteriaQuery<NewsFacetCount> query, Root<News> root, Join<News, ?> facet,
+                                         Specification<News> specification, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        Expression<Long> count = cb.count(root);
+        query.select(cb.construct(NewsFacetCount.class, facet.get(ID), facet.get(NAME), count))
+                .groupBy(facet.get(ID), facet.get(NAME))
+                .orderBy(cb.desc(count), cb.asc(facet.get(ID)));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    private long countMatching(Specification<News> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<News> root = query.from(News.class);
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.count(root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,29 @@
+package com.mjc.school.repository;
+
+import com.mjc.school.model.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    @Query("SELECT e FROM OutboxEvent e WHERE e.status = com.mjc.school.model.OutboxStatus.PENDING AND e.id > :afterId ORDER BY e.id")
+    List<OutboxEvent> readPendingAfter(@Param("afterId") long afterId, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt WHERE e.id = :id")
+    int retryLater(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.status = com.mjc.school.model.OutboxStatus.DEAD WHERE e.id IN :ids")
+    int moveToDeadLetter(@Param("ids") Collection<Long> ids);
+}
@@ -3,39 +3,34 @@ package com.mjc.school.repository;
 import com.mjc.school.model.Tag;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import org.springframework.lang.NonNull;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
 public interface TagRepository extends JpaRepository<Tag, Long>, JpaSpecificationExecutor<Tag> {
+    @Query("SELECT t FROM Tag t INNER JOIN t.news n WHERE n.id = :newsId")
+    Page<Tag> readByNewsId(@Param("newsId") Long newsId, Pageable pageable);
 
-    @Override
-    @NonNull
-    @EntityGraph(attributePaths = "news")
-    List<Tag> findAll();
+    @Query("SELECT t.id FROM Tag t WHERE t.id IN :ids")
+    Set<Long> readExistingIds(@Param("ids") Collection<Long> ids);
 
-    @Override
-    @NonNull
-    @EntityGraph(attributePaths = "news")
-    Page<Tag> findAll(@NonNull Pageable pageable);
+    @Modifying
+    @Query("UPDATE Tag t SET t.newsCount = t.newsCount + :delta WHERE t.id IN :ids")
+    int addToNewsCount(@Param("ids") Collection<Long> ids, @Param("delta") long delta);
 
-    @Override
-    @NonNull
-    @EntityGraph(attributePaths = "news")
-    Page<Tag> findAll(Specification<Tag> spec, @NonNull Pageable pageable);
+    @Query("SELECT t.id FROM Tag t WHERE t.id BETWEEN :fromId AND :toId AND t.newsCount <> (SELECT COUNT(n) FROM News n INNER JOIN n.tags nt WHERE nt.id = t.id)")
+    List<Long> readIdsWithDriftedNewsCount(@Param("fromId") Long fromId, @Param("toId") Long toId);
 
-    @Override
-    @NonNull
-    @EntityGraph(attributePaths = "news")
-    Optional<Tag> findById(@NonNull Long id);
+    @Modifying
+    @Query("UPDATE Tag t SET t.newsCount = (SELECT COUNT(n) FROM News n INNER JOIN n.tags nt WHERE nt.id = t.id) WHERE t.id IN :ids")
+    int recountNews(@Param("ids") Collection<Long> ids);
 
-    @Query("SELECT t FROM Tag t INNER JOIN t.news n WHERE n.id = :newsId")
-    Page<Tag> readByNewsId(@Param("newsId") Long newsId, Pageable pageable);
+    @Query("SELECT COALESCE(MAX(t.id), 0) FROM Tag t")
+    Long readMaxId();
 }
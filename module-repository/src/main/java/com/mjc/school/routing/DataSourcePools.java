@@ -0,0 +1,107 @@
+package com.mjc.school.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+public class DataSourcePools implements MeterBinder, DisposableBean {
+    private final static Logger LOGGER = LoggerFactory.getLogger(DataSourcePools.class);
+    private static final String POSTGRESQL = "PostgreSQL";
+    private static final String POSTGRES_LAG_QUERY = "SELECT CASE"
+            + " WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE CAST(COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) AS BIGINT) END";
+    private static final String GENERIC_LAG_QUERY = "SELECT 0";
+    private static final String ROUTED_READS_METRIC = "datasource.routing.reads";
+    private static final String REPLICA_LAG_METRIC = "datasource.replica.lag";
+    private static final String POOL_TAG = "pool";
+
+    private final HikariDataSource primary;
+    private final List<ReplicaPool> replicas;
+    private final ReplicaRoutingDataSource readOnlyDataSource;
+
+    public DataSourcePools(HikariDataSource primary, List<HikariDataSource> replicaDataSources, ReadYourWritesTracker readYourWritesTracker, long maxLagMillis) {
+        this.primary = primary;
+        this.replicas = replicaDataSources.stream()
+                .map(dataSource -> new ReplicaPool(dataSource.getPoolName(), dataSource))
+                .toList();
+        this.readOnlyDataSource = new ReplicaRoutingDataSource(primary, replicas, readYourWritesTracker, maxLagMillis);
+    }
+
+    public HikariDataSource getPrimary() {
+        return primary;
+    }
+
+    public List<ReplicaPool> getReplicas() {
+        return replicas;
+    }
+
+    public ReplicaRoutingDataSource getReadOnlyDataSource() {
+        return readOnlyDataSource;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replicas.lag-check-interval-ms}")
+    public void checkReplicaLag() {
+        for (ReplicaPool replica : replicas) {
+            try {
+                replica.updateLag(measureLag(replica));
+            } catch (SQLException e) {
+                if (replica.getLagMillis() >= 0) {
+                    LOGGER.warn("Replica {} is unreachable, routing its reads to the primary", replica.getName(), e);
+                }
+                replica.markUnavailable();
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder(ROUTED_READS_METRIC, readOnlyDataSource, ReplicaRoutingDataSource::getPrimaryReads)
+                .tag(POOL_TAG, primary.getPoolName())
+                .register(registry);
+        for (ReplicaPool replica : replicas) {
+            FunctionCounter.builder(ROUTED_READS_METRIC, replica, ReplicaPool::getRoutedConnections)
+                    .tag(POOL_TAG, replica.getName())
+                    .register(registry);
+            Gauge.builder(REPLICA_LAG_METRIC, replica, ReplicaPool::getLagMillis)
+                    .tag(POOL_TAG, replica.getName())
+                    .baseUnit("milliseconds")
+                    .register(registry);
+            if (replica.getDataSource() instanceof HikariDataSource dataSource && dataSource.getMetricsTrackerFactory() == null) {
+                dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        for (ReplicaPool replica : replicas) {
+            if (replica.getDataSource() instanceof HikariDataSource dataSource) {
+                dataSource.close();
+            }
+        }
+        primary.close();
+    }
+
+    private long measureLag(ReplicaPool replica) throws SQLException {
+        try (Connection connection = replica.getDataSource().getConnection(); Statement statement = connection.createStatement()) {
+            String query = POSTGRESQL.equals(connection.getMetaData().getDatabaseProductName()) ? POSTGRES_LAG_QUERY : GENERIC_LAG_QUERY;
+            try (ResultSet resultSet = statement.executeQuery(query)) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+}
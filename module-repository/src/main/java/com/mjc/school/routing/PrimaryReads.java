@@ -0,0 +1,26 @@
+package com.mjc.school.routing;
+
+public final class PrimaryReads {
+    private static final ThreadLocal<Boolean> REQUIRED = new ThreadLocal<>();
+
+    private PrimaryReads() {
+    }
+
+    public static boolean isRequired() {
+        return Boolean.TRUE.equals(REQUIRED.get());
+    }
+
+    public static boolean require() {
+        boolean previous = isRequired();
+        REQUIRED.set(Boolean.TRUE);
+        return previous;
+    }
+
+    public static void restore(boolean previous) {
+        if (previous) {
+            REQUIRED.set(Boolean.TRUE);
+        } else {
+            REQUIRED.remove();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.mjc.school.routing;
+
+import java.util.function.LongConsumer;
+
+public class ReadYourWritesTracker {
+    private final long windowMillis;
+    private final ThreadLocal<ClientWrites> clientWrites = new ThreadLocal<>();
+
+    public ReadYourWritesTracker(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    public long getWindowMillis() {
+        return windowMillis;
+    }
+
+    public void bind(Long lastWriteMillis, LongConsumer writeListener) {
+        clientWrites.set(new ClientWrites(lastWriteMillis, writeListener));
+    }
+
+    public void unbind() {
+        clientWrites.remove();
+    }
+
+    public boolean isTracking() {
+        return clientWrites.get() != null;
+    }
+
+    public void recordWrite() {
+        ClientWrites writes = clientWrites.get();
+        if (writes != null) {
+            long now = System.currentTimeMillis();
+            writes.lastWriteMillis = now;
+            writes.writeListener.accept(now);
+        }
+    }
+
+    public boolean isPinnedToPrimary() {
+        ClientWrites writes = clientWrites.get();
+        return writes != null && writes.lastWriteMillis != null
+                && Math.abs(System.currentTimeMillis() - writes.lastWriteMillis) < windowMillis;
+    }
+
+    private static final class ClientWrites {
+        private final LongConsumer writeListener;
+        private Long lastWriteMillis;
+
+        private ClientWrites(Long lastWriteMillis, LongConsumer writeListener) {
+            this.lastWriteMillis = lastWriteMillis;
+            this.writeListener = writeListener;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.mjc.school.routing;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ReplicaPool {
+    private static final long UNKNOWN_LAG = -1;
+
+    private final String name;
+    private final DataSource dataSource;
+    private final AtomicLong routedConnections = new AtomicLong();
+    private volatile long lagMillis = UNKNOWN_LAG;
+
+    public ReplicaPool(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    public long getRoutedConnections() {
+        return routedConnections.get();
+    }
+
+    public boolean isWithinLag(long maxLagMillis) {
+        long lag = lagMillis;
+        return lag != UNKNOWN_LAG && lag <= maxLagMillis;
+    }
+
+    public void updateLag(long lagMillis) {
+        this.lagMillis = Math.max(0, lagMillis);
+    }
+
+    public void markUnavailable() {
+        this.lagMillis = UNKNOWN_LAG;
+    }
+
+    void recordRouted() {
+        routedConnections.incrementAndGet();
+    }
+}
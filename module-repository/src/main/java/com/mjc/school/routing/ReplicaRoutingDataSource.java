@@ -0,0 +1,55 @@
+package com.mjc.school.routing;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+    private final DataSource primary;
+    private final List<ReplicaPool> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final long maxLagMillis;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final AtomicLong primaryReads = new AtomicLong();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<ReplicaPool> replicas, ReadYourWritesTracker readYourWritesTracker, long maxLagMillis) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route().getConnection(username, password);
+    }
+
+    public long getPrimaryReads() {
+        return primaryReads.get();
+    }
+
+    DataSource route() {
+        if (!replicas.isEmpty() && !PrimaryReads.isRequired() && !readYourWritesTracker.isPinnedToPrimary()) {
+            int first = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+            for (int i = 0; i < replicas.size(); i++) {
+                ReplicaPool replica = replicas.get((first + i) % replicas.size());
+                if (replica.isWithinLag(maxLagMillis)) {
+                    replica.recordRouted();
+                    return replica.getDataSource();
+                }
+            }
+        }
+        primaryReads.incrementAndGet();
+        return primary;
+    }
+}
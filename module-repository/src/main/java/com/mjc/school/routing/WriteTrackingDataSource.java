@@ -0,0 +1,43 @@
+package com.mjc.school.routing;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public class WriteTrackingDataSource extends DelegatingDataSource {
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public WriteTrackingDataSource(DataSource primary, ReadYourWritesTracker readYourWritesTracker) {
+        super(primary);
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        trackWrite();
+        return super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        trackWrite();
+        return super.getConnection(username, password);
+    }
+
+    private void trackWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || !readYourWritesTracker.isTracking()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.recordWrite();
+            }
+        });
+    }
+}
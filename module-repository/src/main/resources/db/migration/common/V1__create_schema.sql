@@ -0,0 +1,61 @@
+CREATE TABLE IF NOT EXISTS authors
+(
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name             VARCHAR(255) NOT NULL,
+    create_date      TIMESTAMP(6) NOT NULL,
+    last_update_date TIMESTAMP(6) NOT NULL,
+    CONSTRAINT authors_name_key UNIQUE (name)
+);
+
+CREATE TABLE IF NOT EXISTS tags
+(
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL UNIQUE
+);
+
+CREATE TABLE IF NOT EXISTS news
+(
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title            VARCHAR(255) NOT NULL,
+    content          TEXT         NOT NULL,
+    create_date      TIMESTAMP(6) NOT NULL,
+    last_update_date TIMESTAMP(6) NOT NULL,
+    author_id        BIGINT       NOT NULL REFERENCES authors (id),
+    CONSTRAINT news_title_key UNIQUE (title)
+);
+
+CREATE TABLE IF NOT EXISTS news_tags
+(
+    news_id BIGINT NOT NULL REFERENCES news (id),
+    tag_id  BIGINT NOT NULL REFERENCES tags (id),
+    PRIMARY KEY (news_id, tag_id)
+);
+
+CREATE TABLE IF NOT EXISTS comments
+(
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    content          TEXT         NOT NULL,
+    create_date      TIMESTAMP(6) NOT NULL,
+    last_update_date TIMESTAMP(6) NOT NULL,
+    news_id          BIGINT       NOT NULL REFERENCES news (id)
+);
+
+CREATE TABLE IF NOT EXISTS security_users
+(
+    id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    firstname VARCHAR(255),
+    lastname  VARCHAR(255),
+    username  VARCHAR(255) NOT NULL UNIQUE,
+    password  VARCHAR(255) NOT NULL UNIQUE,
+    role      VARCHAR(255) CHECK (role IN ('USER', 'ADMIN'))
+);
+
+CREATE INDEX IF NOT EXISTS news_author_id_idx ON news (author_id);
+CREATE INDEX IF NOT EXISTS news_create_date_id_idx ON news (create_date, id);
+CREATE INDEX IF NOT EXISTS news_last_update_date_id_idx ON news (last_update_date, id);
+CREATE INDEX IF NOT EXISTS news_tags_tag_id_news_id_idx ON news_tags (tag_id, news_id);
+
+CREATE INDEX IF NOT EXISTS comments_news_id_create_date_id_idx ON comments (news_id, create_date, id);
+CREATE INDEX IF NOT EXISTS comments_create_date_id_idx ON comments (create_date, id);
+CREATE INDEX IF NOT EXISTS authors_create_date_id_idx ON authors (create_date, id);
+CREATE INDEX IF NOT EXISTS authors_last_update_date_id_idx ON authors (last_update_date, id);
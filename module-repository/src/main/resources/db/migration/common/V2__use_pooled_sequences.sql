@@ -0,0 +1,5 @@
+CREATE SEQUENCE IF NOT EXISTS authors_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tags_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS news_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS comments_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS security_users_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,7 @@
+ALTER TABLE authors ADD COLUMN IF NOT EXISTS news_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tags ADD COLUMN IF NOT EXISTS news_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE news ADD COLUMN IF NOT EXISTS comment_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE authors a SET news_count = (SELECT count(*) FROM news n WHERE n.author_id = a.id);
+UPDATE tags t SET news_count = (SELECT count(*) FROM news_tags nt WHERE nt.tag_id = t.id);
+UPDATE news n SET comment_count = (SELECT count(*) FROM comments c WHERE c.news_id = n.id);
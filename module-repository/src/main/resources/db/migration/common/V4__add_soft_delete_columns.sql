@@ -0,0 +1,5 @@
+ALTER TABLE authors ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP;
+ALTER TABLE news ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP;
+
+ALTER TABLE authors DROP CONSTRAINT IF EXISTS authors_name_key;
+ALTER TABLE news DROP CONSTRAINT IF EXISTS news_title_key;
@@ -0,0 +1,11 @@
+CREATE SEQUENCE IF NOT EXISTS outbox_events_seq START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS outbox_events
+(
+    id             BIGINT       PRIMARY KEY,
+    aggregate_type VARCHAR(32)  NOT NULL,
+    aggregate_id   BIGINT       NOT NULL,
+    change_type    VARCHAR(32)  NOT NULL,
+    occurred_at    TIMESTAMP(6) NOT NULL,
+    attempts       INTEGER      NOT NULL DEFAULT 0
+);
@@ -0,0 +1,5 @@
+ALTER TABLE authors ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE tags ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE news ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE comments ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE security_users ALTER COLUMN id DROP IDENTITY;
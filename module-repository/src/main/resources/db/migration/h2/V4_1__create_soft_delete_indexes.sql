@@ -0,0 +1,2 @@
+CREATE UNIQUE NULLS NOT DISTINCT INDEX IF NOT EXISTS authors_name_live_key ON authors (name, deleted_at);
+CREATE UNIQUE NULLS NOT DISTINCT INDEX IF NOT EXISTS news_title_live_key ON news (title, deleted_at);
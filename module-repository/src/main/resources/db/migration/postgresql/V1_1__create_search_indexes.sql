@@ -0,0 +1,11 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS news_title_trgm_idx ON news USING GIN (lower(title) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS news_content_full_text_idx ON news USING GIN (to_tsvector('english', coalesce(content, '')));
+CREATE INDEX IF NOT EXISTS news_full_text_idx ON news USING GIN (
+    (setweight(to_tsvector('english', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(content, '')), 'B'))
+);
+CREATE INDEX IF NOT EXISTS comments_content_trgm_idx ON comments USING GIN (lower(content) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS authors_name_lower_idx ON authors (lower(name));
+CREATE INDEX IF NOT EXISTS tags_name_pattern_idx ON tags (lower(name) text_pattern_ops);
@@ -0,0 +1,11 @@
+SELECT setval('authors_seq', (SELECT coalesce(max(id), 0) FROM authors) + 50, false);
+SELECT setval('tags_seq', (SELECT coalesce(max(id), 0) FROM tags) + 50, false);
+SELECT setval('news_seq', (SELECT coalesce(max(id), 0) FROM news) + 50, false);
+SELECT setval('comments_seq', (SELECT coalesce(max(id), 0) FROM comments) + 50, false);
+SELECT setval('security_users_seq', (SELECT coalesce(max(id), 0) FROM security_users) + 50, false);
+
+ALTER TABLE authors ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE tags ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE news ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE comments ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE security_users ALTER COLUMN id DROP IDENTITY IF EXISTS;
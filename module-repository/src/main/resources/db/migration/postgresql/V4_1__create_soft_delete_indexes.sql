@@ -0,0 +1,5 @@
+CREATE INDEX IF NOT EXISTS authors_deleted_at_idx ON authors (deleted_at, id) WHERE deleted_at IS NOT NULL;
+CREATE INDEX IF NOT EXISTS news_author_id_deleted_idx ON news (author_id, id) WHERE deleted_at IS NOT NULL;
+
+CREATE UNIQUE INDEX IF NOT EXISTS authors_name_live_key ON authors (name) WHERE deleted_at IS NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS news_title_live_key ON news (title) WHERE deleted_at IS NULL;
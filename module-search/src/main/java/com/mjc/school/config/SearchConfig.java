@@ -0,0 +1,9 @@
+package com.mjc.school.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+@Configuration
+@PropertySource("classpath:application-search.properties")
+public class SearchConfig {
+}
@@ -0,0 +1,4 @@
+package com.mjc.school.search;
+
+public record Highlight(String field, int start, int end) {
+}
@@ -0,0 +1,6 @@
+package com.mjc.school.search;
+
+import java.util.List;
+
+public record NewsDocument(Long id, String title, String content, Long authorId, String authorName, List<Long> tagIds, List<String> tagNames) {
+}
@@ -0,0 +1,92 @@
+package com.mjc.school.search;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+@Repository
+public class NewsDocumentReader {
+    private static final String NEWS_COLUMNS = "SELECT n.id, n.title, n.content, a.id AS author_id, a.name AS author_name"
+            + " FROM news n JOIN authors a ON a.id = n.author_id WHERE n.deleted_at IS NULL AND ";
+    private static final String TAG_COLUMNS = "SELECT nt.news_id, t.id AS tag_id, t.name AS tag_name"
+            + " FROM news_tags nt JOIN tags t ON t.id = nt.tag_id WHERE ";
+    private static final String ID_RANGE = "n.id BETWEEN ? AND ?";
+    private static final String TAG_ID_RANGE = "nt.news_id BETWEEN ? AND ?";
+    private static final String READ_ID_BOUNDS = "SELECT min(id), max(id) FROM news WHERE deleted_at IS NULL";
+    private static final String READ_IDS_BY_TAG_ID = "SELECT news_id FROM news_tags WHERE tag_id = ?";
+    private static final String READ_TAG_LINKS = "SELECT n.id AS news_id, nt.tag_id"
+            + " FROM news n LEFT JOIN news_tags nt ON nt.news_id = n.id WHERE n.deleted_at IS NULL";
+    private static final int TAG_LINKS_FETCH_SIZE = 10000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public NewsDocumentReader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional(readOnly = true)
+    public long[] readIdBounds() {
+        return jdbcTemplate.queryForObject(READ_ID_BOUNDS, (resultSet, rowNumber) -> resultSet.getObject(1) == null
+                ? new long[0]
+                : new long[]{resultSet.getLong(1), resultSet.getLong(2)});
+    }
+
+    @Transactional(readOnly = true)
+    public List<NewsDocument> readRange(long fromId, long toId) {
+        return read(NEWS_COLUMNS + ID_RANGE, TAG_COLUMNS + TAG_ID_RANGE, new Object[]{fromId, toId});
+    }
+
+    @Transactional(readOnly = true)
+    public List<NewsDocument> readByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        return read(NEWS_COLUMNS + "n.id IN (" + placeholders + ")", TAG_COLUMNS + "nt.news_id IN (" + placeholders + ")", ids.toArray());
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> readIdsByTagId(Long tagId) {
+        return jdbcTemplate.queryForList(READ_IDS_BY_TAG_ID, Long.class, tagId);
+    }
+
+    @Transactional(readOnly = true)
+    public void readTagLinks(BiConsumer<Long, Long> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(READ_TAG_LINKS);
+            statement.setFetchSize(TAG_LINKS_FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> {
+            long tagId = resultSet.getLong("tag_id");
+            consumer.accept(resultSet.getLong("news_id"), resultSet.wasNull() ? null : tagId);
+        });
+    }
+
+    private List<NewsDocument> read(String newsSql, String tagsSql, Object[] arguments) {
+        Map<Long, List<Long>> tagIds = new HashMap<>();
+        Map<Long, List<String>> tagNames = new HashMap<>();
+        jdbcTemplate.query(tagsSql, resultSet -> {
+            Long newsId = resultSet.getLong("news_id");
+            tagIds.computeIfAbsent(newsId, id -> new ArrayList<>()).add(resultSet.getLong("tag_id"));
+            tagNames.computeIfAbsent(newsId, id -> new ArrayList<>()).add(resultSet.getString("tag_name"));
+        }, arguments);
+        return jdbcTemplate.query(newsSql, (resultSet, rowNumber) -> {
+            Long id = resultSet.getLong("id");
+            return new NewsDocument(id, resultSet.getString("title"), resultSet.getString("content"),
+                    resultSet.getLong("author_id"), resultSet.getString("author_name"),
+                    tagIds.getOrDefault(id, List.of()), tagNames.getOrDefault(id, List.of()));
+        }, arguments);
+    }
+}
@@ -0,0 +1,28 @@
+package com.mjc.school.search;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class NewsIdSet {
+    private final RoaringBitmap ids;
+
+    NewsIdSet(RoaringBitmap ids) {
+        this.ids = ids;
+    }
+
+    public long size() {
+        return ids.getLongCardinality();
+    }
+
+    public List<Long> page(long offset, int limit, boolean descending) {
+        long size = size();
+        long end = Math.min(size, offset + limit);
+        List<Long> page = new ArrayList<>((int) Math.max(0, end - offset));
+        for (long rank = offset; rank < end; rank++) {
+            page.add((long) ids.select((int) (descending ? size - 1 - rank : rank)));
+        }
+        return page;
+    }
+}
@@ -0,0 +1,433 @@
+package com.mjc.school.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.uhighlight.Passage;
+import org.apache.lucene.search.uhighlight.PassageFormatter;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.MMapDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class NewsIndex implements SmartLifecycle {
+    private final static Logger LOGGER = LoggerFactory.getLogger(NewsIndex.class);
+    public static final String TITLE = "title";
+    public static final String CONTENT = "content";
+    public static final String AUTHOR = "author";
+    public static final String TAGS = "tags";
+
+    private static final String ID = "id";
+    private static final String ID_VALUE = "id_value";
+    private static final String AUTHOR_ID = "author_id";
+    private static final String TAG_ID = "tag_id";
+    private static final String CLEAN_SHUTDOWN = "clean_shutdown";
+    private static final String[] HIGHLIGHTED_FIELDS = {TITLE, CONTENT};
+    private static final int MAX_PASSAGES = 5;
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(TITLE, 2.0f, TAGS, 1.5f, AUTHOR, 1.0f, CONTENT, 1.0f);
+    private static final FieldType HIGHLIGHTED_TEXT = new FieldType(TextField.TYPE_STORED);
+
+    static {
+        HIGHLIGHTED_TEXT.setIndexOptions(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS);
+        HIGHLIGHTED_TEXT.freeze();
+    }
+
+    private final NewsDocumentReader newsDocumentReader;
+    private final Path path;
+    private final boolean rebuildOnStartup;
+    private final int rebuildThreads;
+    private final int rebuildSliceSize;
+    private final Analyzer analyzer = new EnglishAnalyzer();
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private volatile boolean running;
+
+    @Autowired
+    public NewsIndex(NewsDocumentReader newsDocumentReader,
+                     @Value("${search.index.path}") Path path,
+                     @Value("${search.index.rebuild-on-startup}") boolean rebuildOnStartup,
+                     @Value("${search.index.rebuild-threads}") int rebuildThreads,
+                     @Value("${search.index.rebuild-slice-size}") int rebuildSliceSize) {
+        this.newsDocumentReader = newsDocumentReader;
+        this.path = path;
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.rebuildThreads = rebuildThreads;
+        this.rebuildSliceSize = rebuildSliceSize;
+    }
+
+    public SearchPage search(String text, int offset, int limit) {
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, FIELD_WEIGHTS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query query = parser.parse(text);
+        if (query == null) {
+            return new SearchPage(0, List.of());
+        }
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, offset + limit);
+                long total = searcher.count(query);
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                int from = Math.min(offset, scoreDocs.length);
+                int[] docIds = new int[scoreDocs.length - from];
+                for (int i = 0; i < docIds.length; i++) {
+                    docIds[i] = scoreDocs[from + i].doc;
+                }
+                Map<String, Object[]> offsets = new OffsetHighlighter(UnifiedHighlighter.builder(searcher, analyzer))
+                        .highlightOffsets(query, docIds);
+                List<SearchHit> hits = new ArrayList<>(docIds.length);
+                for (int i = 0; i < docIds.length; i++) {
+                    Long id = Long.valueOf(searcher.storedFields().document(docIds[i]).get(ID));
+                    hits.add(new SearchHit(id, scoreDocs[from + i].score, highlightsOf(offsets, i)));
+                }
+                return new SearchPage(total, hits);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Unable to search news index for {}", text, e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void update(Collection<NewsDocument> documents) {
+        write(() -> {
+            for (NewsDocument document : documents) {
+                writer.updateDocument(new Term(ID, String.valueOf(document.id())), toDocument(document));
+            }
+        });
+    }
+
+    public void delete(Collection<Long> ids) {
+        write(() -> writer.deleteDocuments(ids.stream().map(id -> new Term(ID, String.valueOf(id))).toArray(Term[]::new)));
+    }
+
+    public void deleteByAuthorId(Long authorId) {
+        write(() -> writer.deleteDocuments(new Term(AUTHOR_ID, String.valueOf(authorId))));
+    }
+
+    public List<Long> readIdsByAuthorId(Long authorId) {
+        return readIds(new TermQuery(new Term(AUTHOR_ID, String.valueOf(authorId))));
+    }
+
+    public List<Long> readIdsByTagId(Long tagId) {
+        return readIds(new TermQuery(new Term(TAG_ID, String.valueOf(tagId))));
+    }
+
+    public long rebuild() {
+        rebuildLock.writeLock().lock();
+        try {
+            long started = System.nanoTime();
+            writer.deleteAll();
+            long indexed = indexAll();
+            commit(false);
+            searcherManager.maybeRefreshBlocking();
+            LOGGER.info("Rebuilt news index with {} documents in {} ms using {} threads",
+                    indexed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), rebuildThreads);
+            return indexed;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("News index rebuild failed, rolling back to the last commit", e);
+            rollback();
+            throw e instanceof IOException io ? new UncheckedIOException(io) : (RuntimeException) e;
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.commit-interval-ms}")
+    public void commit() {
+        rebuildLock.readLock().lock();
+        try {
+            if (running && writer.hasUncommittedChanges()) {
+                commit(false);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Unable to commit news index", e);
+            throw new UncheckedIOException(e);
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void start() {
+        try {
+            Files.createDirectories(path);
+            directory = new MMapDirectory(path);
+            boolean reusable = !rebuildOnStartup && DirectoryReader.indexExists(directory)
+                    && Boolean.parseBoolean(SegmentInfos.readLatestCommit(directory).getUserData().get(CLEAN_SHUTDOWN));
+            open();
+            running = true;
+            if (reusable) {
+                commit(false);
+                LOGGER.info("Opened news index at {} with {} documents", path, writer.getDocStats().numDocs);
+            } else {
+                LOGGER.info("News index at {} is missing or was not closed cleanly, rebuilding it", path);
+                rebuild();
+            }
+        } catch (IOException e) {
+            LOGGER.error("Unable to open news index at {}", path, e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void stop() {
+        rebuildLock.writeLock().lock();
+        try {
+            running = false;
+            commit(true);
+            searcherManager.close();
+            writer.close();
+            directory.close();
+            LOGGER.info("Closed news index at {}", path);
+        } catch (IOException e) {
+            LOGGER.error("Unable to close news index at {}", path, e);
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private long indexAll() throws IOException {
+        long[] bounds = newsDocumentReader.readIdBounds();
+        if (bounds.length == 0) {
+            return 0;
+        }
+        AtomicLong indexed = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(rebuildThreads);
+        try {
+            List<Future<?>> slices = new ArrayList<>();
+            for (long from = bounds[0]; from <= bounds[1]; from += rebuildSliceSize) {
+                long fromId = from;
+                long toId = Math.min(from + rebuildSliceSize - 1, bounds[1]);
+                slices.add(executor.submit(() -> {
+                    List<NewsDocument> documents = newsDocumentReader.readRange(fromId, toId);
+                    for (NewsDocument document : documents) {
+                        writer.addDocument(toDocument(document));
+                    }
+                    indexed.addAndGet(documents.size());
+                    return null;
+                }));
+            }
+            for (Future<?> slice : slices) {
+                slice.get();
+            }
+            return indexed.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("News index rebuild was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IllegalStateException("News index rebuild failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Long> readIds(Query query) {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return searcher.search(query, new CollectorManager<IdCollector, List<Long>>() {
+                    @Override
+                    public IdCollector newCollector() {
+                        return new IdCollector();
+                    }
+
+                    @Override
+                    public List<Long> reduce(Collection<IdCollector> collectors) {
+                        return collectors.stream().flatMap(collector -> collector.ids.stream()).toList();
+                    }
+                });
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Unable to read ids from news index for {}", query, e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(IndexOperation operation) {
+        rebuildLock.readLock().lock();
+        try {
+            operation.run();
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            LOGGER.error("Unable to write to news index", e);
+            throw new UncheckedIOException(e);
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    private void open() throws IOException {
+        IndexWriterConfig config = new IndexWriterConfig(analyzer);
+        config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        config.setCommitOnClose(false);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    private void rollback() {
+        try {
+            searcherManager.close();
+            writer.rollback();
+            open();
+        } catch (IOException e) {
+            LOGGER.error("Unable to roll back news index at {}", path, e);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void commit(boolean cleanShutdown) throws IOException {
+        writer.setLiveCommitData(Map.of(CLEAN_SHUTDOWN, String.valueOf(cleanShutdown)).entrySet(), true);
+        writer.commit();
+    }
+
+    private static Document toDocument(NewsDocument news) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(news.id()), Field.Store.YES));
+        document.add(new NumericDocValuesField(ID_VALUE, news.id()));
+        document.add(new Field(TITLE, news.title(), HIGHLIGHTED_TEXT));
+        document.add(new Field(CONTENT, news.content(), HIGHLIGHTED_TEXT));
+        document.add(new StringField(AUTHOR_ID, String.valueOf(news.authorId()), Field.Store.NO));
+        document.add(new TextField(AUTHOR, news.authorName(), Field.Store.NO));
+        for (Long tagId : news.tagIds()) {
+            document.add(new StringField(TAG_ID, String.valueOf(tagId), Field.Store.NO));
+        }
+        for (String tagName : news.tagNames()) {
+            document.add(new TextField(TAGS, tagName, Field.Store.NO));
+        }
+        return document;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Highlight> highlightsOf(Map<String, Object[]> offsets, int hit) {
+        List<Highlight> highlights = new ArrayList<>();
+        for (String field : HIGHLIGHTED_FIELDS) {
+            Object matches = offsets.get(field)[hit];
+            if (matches != null) {
+                for (int[] match : (List<int[]>) matches) {
+                    highlights.add(new Highlight(field, match[0], match[1]));
+                }
+            }
+        }
+        return highlights;
+    }
+
+    @FunctionalInterface
+    private interface IndexOperation {
+        void run() throws IOException;
+    }
+
+    private static class IdCollector extends SimpleCollector {
+        private final List<Long> ids = new ArrayList<>();
+        private NumericDocValues values;
+
+        @Override
+        protected void doSetNextReader(LeafReaderContext context) throws IOException {
+            values = DocValues.getNumeric(context.reader(), ID_VALUE);
+        }
+
+        @Override
+        public void collect(int doc) throws IOException {
+            if (values.advanceExact(doc)) {
+                ids.add(values.longValue());
+            }
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE_NO_SCORES;
+        }
+    }
+
+    private static class OffsetHighlighter extends UnifiedHighlighter {
+        private OffsetHighlighter(Builder builder) {
+            super(builder.withFormatter(new OffsetFormatter()));
+        }
+
+        private Map<String, Object[]> highlightOffsets(Query query, int[] docIds) throws IOException {
+            return highlightFieldsAsObjects(HIGHLIGHTED_FIELDS, query, docIds, new int[]{MAX_PASSAGES, MAX_PASSAGES});
+        }
+    }
+
+    private static class OffsetFormatter extends PassageFormatter {
+        @Override
+        public Object format(Passage[] passages, String content) {
+            List<int[]> matches = new ArrayList<>();
+            for (Passage passage : passages) {
+                for (int i = 0; i < passage.getNumMatches(); i++) {
+                    matches.add(new int[]{passage.getMatchStarts()[i], passage.getMatchEnds()[i]});
+                }
+            }
+            matches.sort(Comparator.comparingInt(match -> match[0]));
+            return matches;
+        }
+    }
+}
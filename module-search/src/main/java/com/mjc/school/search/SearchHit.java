@@ -0,0 +1,6 @@
+package com.mjc.school.search;
+
+import java.util.List;
+
+public record SearchHit(Long id, float score, List<Highlight> highlights) {
+}
@@ -0,0 +1,6 @@
+package com.mjc.school.search;
+
+import java.util.List;
+
+public record SearchPage(long total, List<SearchHit> hits) {
+}
@@ -0,0 +1,19 @@
+package com.mjc.school.search;
+
+public sealed interface TagExpression {
+    static TagExpression parse(String text) {
+        return new TagExpressionParser(text).parse();
+    }
+
+    record Tag(long id) implements TagExpression {
+    }
+
+    record And(TagExpression left, TagExpression right) implements TagExpression {
+    }
+
+    record Or(TagExpression left, TagExpression right) implements TagExpression {
+    }
+
+    record Not(TagExpression operand) implements TagExpression {
+    }
+}
@@ -0,0 +1,110 @@
+package com.mjc.school.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class TagExpressionParser {
+    private static final int MAX_LENGTH = 1000;
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+
+    private final List<String> tokens;
+    private int position;
+
+    TagExpressionParser(String text) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("must not be blank");
+        }
+        if (text.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("must not be longer than " + MAX_LENGTH + " characters");
+        }
+        this.tokens = tokenize(text);
+    }
+
+    TagExpression parse() {
+        TagExpression expression = parseOr();
+        if (position < tokens.size()) {
+            throw unexpected();
+        }
+        return expression;
+    }
+
+    private TagExpression parseOr() {
+        TagExpression expression = parseAnd();
+        while (accept(OR)) {
+            expression = new TagExpression.Or(expression, parseAnd());
+        }
+        return expression;
+    }
+
+    private TagExpression parseAnd() {
+        TagExpression expression = parseNot();
+        while (accept(AND)) {
+            expression = new TagExpression.And(expression, parseNot());
+        }
+        return expression;
+    }
+
+    private TagExpression parseNot() {
+        if (accept(NOT)) {
+            return new TagExpression.Not(parseNot());
+        }
+        if (accept(OPEN)) {
+            TagExpression expression = parseOr();
+            if (!accept(CLOSE)) {
+                throw unexpected();
+            }
+            return expression;
+        }
+        if (position < tokens.size() && Character.isDigit(tokens.get(position).charAt(0))) {
+            try {
+                return new TagExpression.Tag(Long.parseLong(tokens.get(position++)));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("tag id " + tokens.get(position - 1) + " is out of range");
+            }
+        }
+        throw unexpected();
+    }
+
+    private boolean accept(String token) {
+        if (position < tokens.size() && tokens.get(position).equalsIgnoreCase(token)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private IllegalArgumentException unexpected() {
+        return new IllegalArgumentException(position < tokens.size()
+                ? "unexpected '" + tokens.get(position) + "'"
+                : "unexpected end of expression");
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        int index = 0;
+        while (index < text.length()) {
+            char current = text.charAt(index);
+            int end = index + 1;
+            if (Character.isDigit(current)) {
+                while (end < text.length() && Character.isDigit(text.charAt(end))) {
+                    end++;
+                }
+            } else if (Character.isLetter(current)) {
+                while (end < text.length() && Character.isLetter(text.charAt(end))) {
+                    end++;
+                }
+            } else if (current != '(' && current != ')' && !Character.isWhitespace(current)) {
+                throw new IllegalArgumentException("unexpected '" + current + "'");
+            }
+            if (!Character.isWhitespace(current)) {
+                tokens.add(text.substring(index, end));
+            }
+            index = end;
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,147 @@
+package com.mjc.school.search;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class TagIndex implements SmartLifecycle {
+    private final static Logger LOGGER = LoggerFactory.getLogger(TagIndex.class);
+
+    private final NewsDocumentReader newsDocumentReader;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private RoaringBitmap newsIds = new RoaringBitmap();
+    private Map<Long, RoaringBitmap> newsIdsByTagId = new HashMap<>();
+    private volatile boolean running;
+
+    @Autowired
+    public TagIndex(NewsDocumentReader newsDocumentReader) {
+        this.newsDocumentReader = newsDocumentReader;
+    }
+
+    public NewsIdSet match(TagExpression expression) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matched = evaluate(expression);
+            return new NewsIdSet(expression instanceof TagExpression.Tag ? matched.clone() : matched);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public synchronized void update(Collection<NewsDocument> documents) {
+        RoaringBitmap changed = toBitmap(documents.stream().map(NewsDocument::id).toList());
+        lock.writeLock().lock();
+        try {
+            removeFromTags(changed);
+            newsIds.or(changed);
+            for (NewsDocument document : documents) {
+                int newsId = Math.toIntExact(document.id());
+                document.tagIds().forEach(tagId -> newsIdsByTagId.computeIfAbsent(tagId, id -> new RoaringBitmap()).add(newsId));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public synchronized void delete(Collection<Long> ids) {
+        RoaringBitmap deleted = toBitmap(ids);
+        lock.writeLock().lock();
+        try {
+            removeFromTags(deleted);
+            newsIds.andNot(deleted);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public synchronized long rebuild() {
+        long started = System.nanoTime();
+        RoaringBitmap rebuiltNewsIds = new RoaringBitmap();
+        Map<Long, RoaringBitmap> rebuiltNewsIdsByTagId = new HashMap<>();
+        newsDocumentReader.readTagLinks((newsId, tagId) -> {
+            int id = Math.toIntExact(newsId);
+            rebuiltNewsIds.add(id);
+            if (tagId != null) {
+                rebuiltNewsIdsByTagId.computeIfAbsent(tagId, key -> new RoaringBitmap()).add(id);
+            }
+        });
+        rebuiltNewsIds.runOptimize();
+        rebuiltNewsIdsByTagId.values().forEach(RoaringBitmap::runOptimize);
+        lock.writeLock().lock();
+        try {
+            newsIds = rebuiltNewsIds;
+            newsIdsByTagId = rebuiltNewsIdsByTagId;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        LOGGER.info("Rebuilt tag index with {} news and {} tags in {} ms", rebuiltNewsIds.getLongCardinality(),
+                rebuiltNewsIdsByTagId.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return rebuiltNewsIds.getLongCardinality();
+    }
+
+    @Override
+    public void start() {
+        rebuild();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private RoaringBitmap evaluate(TagExpression expression) {
+        if (expression instanceof TagExpression.Tag tag) {
+            return newsIdsByTagId.getOrDefault(tag.id(), new RoaringBitmap());
+        }
+        if (expression instanceof TagExpression.And and) {
+            return RoaringBitmap.and(evaluate(and.left()), evaluate(and.right()));
+        }
+        if (expression instanceof TagExpression.Or or) {
+            return RoaringBitmap.or(evaluate(or.left()), evaluate(or.right()));
+        }
+        if (expression instanceof TagExpression.Not not) {
+            return RoaringBitmap.andNot(newsIds, evaluate(not.operand()));
+        }
+        throw new IllegalArgumentException("Unknown tag expression " + expression);
+    }
+
+    private void removeFromTags(RoaringBitmap ids) {
+        Iterator<RoaringBitmap> bitmaps = newsIdsByTagId.values().iterator();
+        while (bitmaps.hasNext()) {
+            RoaringBitmap bitmap = bitmaps.next();
+            bitmap.andNot(ids);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove();
+            }
+        }
+    }
+
+    private static RoaringBitmap toBitmap(Collection<Long> ids) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        ids.forEach(id -> bitmap.add(Math.toIntExact(id)));
+        return bitmap;
+    }
+}
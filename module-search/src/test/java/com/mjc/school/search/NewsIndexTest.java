@@ -0,0 +1,99 @@
+package com.mjc.school.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NewsIndexTest {
+    private static final NewsDocument ELECTION = new NewsDocument(1L, "Election results announced",
+            "The city council announced the election results today", 10L, "Anna Smith", List.of(100L), List.of("politics"));
+    private static final NewsDocument WEATHER = new NewsDocument(2L, "Storm warning",
+            "Forecasters expect heavy rain before the election", 11L, "John Doe", List.of(101L), List.of("weather"));
+    private static final NewsDocument MARKETS = new NewsDocument(5L, "Markets rally",
+            "Stocks climbed after the council meeting", 10L, "Anna Smith", List.of(100L, 102L), List.of("politics", "economy"));
+
+    @Mock
+    private NewsDocumentReader newsDocumentReader;
+    @TempDir
+    private Path path;
+
+    private NewsIndex newsIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(newsDocumentReader.readIdBounds()).thenReturn(new long[]{1L, 5L});
+        when(newsDocumentReader.readRange(1L, 2L)).thenReturn(List.of(ELECTION, WEATHER));
+        when(newsDocumentReader.readRange(3L, 4L)).thenReturn(List.of());
+        when(newsDocumentReader.readRange(5L, 5L)).thenReturn(List.of(MARKETS));
+        newsIndex = new NewsIndex(newsDocumentReader, path, false, 2, 2);
+        newsIndex.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (newsIndex.isRunning()) {
+            newsIndex.stop();
+        }
+    }
+
+    @Test
+    void search_shouldRankTitleMatchesFirstAndReturnHighlightOffsets() {
+        SearchPage page = newsIndex.search("election", 0, 10);
+
+        assertThat(page.total()).isEqualTo(2);
+        assertThat(page.hits()).extracting(SearchHit::id).containsExactly(1L, 2L);
+        assertThat(page.hits().get(0).highlights()).containsExactly(
+                new Highlight(NewsIndex.TITLE, 0, 8),
+                new Highlight(NewsIndex.CONTENT, 31, 39));
+    }
+
+    @Test
+    void search_shouldMatchPhrasesAuthorsAndTagsAndPageThroughHits() {
+        assertThat(newsIndex.search("\"results announced\"", 0, 10).hits()).extracting(SearchHit::id).containsExactly(1L);
+        assertThat(newsIndex.search("\"announced results\"", 0, 10).total()).isZero();
+        assertThat(newsIndex.search("smith politics", 0, 10).total()).isEqualTo(2);
+        assertThat(newsIndex.search("smith politics", 1, 10).hits()).hasSize(1);
+    }
+
+    @Test
+    void update_shouldReplaceDocumentAndMakeItSearchableImmediately() {
+        newsIndex.update(List.of(new NewsDocument(2L, "Storm passed", "Sunny weekend ahead", 11L, "John Doe", List.of(), List.of())));
+        newsIndex.delete(List.of(5L));
+
+        assertThat(newsIndex.search("election", 0, 10).hits()).extracting(SearchHit::id).containsExactly(1L);
+        assertThat(newsIndex.search("sunny", 0, 10).hits()).extracting(SearchHit::id).containsExactly(2L);
+        assertThat(newsIndex.readIdsByTagId(100L)).containsExactly(1L);
+        assertThat(newsIndex.readIdsByAuthorId(11L)).containsExactly(2L);
+    }
+
+    @Test
+    void start_shouldReuseCleanlyClosedIndexAndRebuildOtherwise() {
+        newsIndex.stop();
+        newsIndex = new NewsIndex(newsDocumentReader, path, false, 2, 2);
+        newsIndex.start();
+
+        assertThat(newsIndex.search("markets", 0, 10).total()).isEqualTo(1);
+        verify(newsDocumentReader, times(1)).readIdBounds();
+
+        newsIndex.stop();
+        newsIndex = new NewsIndex(newsDocumentReader, path, true, 2, 2);
+        newsIndex.start();
+
+        assertThat(newsIndex.search("markets", 0, 10).total()).isEqualTo(1);
+        verify(newsDocumentReader, times(2)).readIdBounds();
+    }
+}
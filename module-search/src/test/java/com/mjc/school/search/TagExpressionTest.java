@@ -0,0 +1,29 @@
+package com.mjc.school.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TagExpressionTest {
+    @Test
+    void parse_shouldBindNotTighterThanAndAndAndTighterThanOr() {
+        TagExpression expression = TagExpression.parse("1 or not 2 AND (3 OR 4)");
+
+        assertThat(expression).isEqualTo(new TagExpression.Or(
+                new TagExpression.Tag(1L),
+                new TagExpression.And(
+                        new TagExpression.Not(new TagExpression.Tag(2L)),
+                        new TagExpression.Or(new TagExpression.Tag(3L), new TagExpression.Tag(4L)))));
+    }
+
+    @Test
+    void parse_shouldRejectMalformedExpressions() {
+        assertThatThrownBy(() -> TagExpression.parse(" ")).hasMessage("must not be blank");
+        assertThatThrownBy(() -> TagExpression.parse("1 AND")).hasMessage("unexpected end of expression");
+        assertThatThrownBy(() -> TagExpression.parse("(1 OR 2")).hasMessage("unexpected end of expression");
+        assertThatThrownBy(() -> TagExpression.parse("1 2")).hasMessage("unexpected '2'");
+        assertThatThrownBy(() -> TagExpression.parse("1 XOR 2")).hasMessage("unexpected 'XOR'");
+        assertThatThrownBy(() -> TagExpression.parse("1 & 2")).hasMessage("unexpected '&'");
+    }
+}
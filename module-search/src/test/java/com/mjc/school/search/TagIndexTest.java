@@ -0,0 +1,79 @@
+package com.mjc.school.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class TagIndexTest {
+    @Mock
+    private NewsDocumentReader newsDocumentReader;
+
+    private TagIndex tagIndex;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        doAnswer(invocation -> {
+            BiConsumer<Long, Long> consumer = invocation.getArgument(0);
+            consumer.accept(1L, 100L);
+            consumer.accept(1L, 101L);
+            consumer.accept(2L, 100L);
+            consumer.accept(3L, 101L);
+            consumer.accept(4L, null);
+            consumer.accept(5L, 100L);
+            consumer.accept(5L, 102L);
+            return null;
+        }).when(newsDocumentReader).readTagLinks(any(BiConsumer.class));
+        tagIndex = new TagIndex(newsDocumentReader);
+        tagIndex.start();
+    }
+
+    private List<Long> match(String expression) {
+        return tagIndex.match(TagExpression.parse(expression)).page(0, 100, false);
+    }
+
+    @Test
+    void match_shouldEvaluateAndOrNotOverTagBitmaps() {
+        assertThat(match("100")).containsExactly(1L, 2L, 5L);
+        assertThat(match("100 AND 101")).containsExactly(1L);
+        assertThat(match("101 OR 102")).containsExactly(1L, 3L, 5L);
+        assertThat(match("NOT 100")).containsExactly(3L, 4L);
+        assertThat(match("100 AND NOT (101 OR 102)")).containsExactly(2L);
+        assertThat(match("999")).isEmpty();
+    }
+
+    @Test
+    void page_shouldSliceMatchesInRequestedIdOrder() {
+        NewsIdSet matches = tagIndex.match(TagExpression.parse("100 OR 101"));
+
+        assertThat(matches.size()).isEqualTo(4);
+        assertThat(matches.page(1, 2, false)).containsExactly(2L, 3L);
+        assertThat(matches.page(0, 3, true)).containsExactly(5L, 3L, 2L);
+        assertThat(matches.page(3, 10, true)).containsExactly(1L);
+        assertThat(matches.page(8, 10, true)).isEmpty();
+    }
+
+    @Test
+    void update_shouldReplaceTagsOfChangedNewsAndDeleteShouldDropThem() {
+        NewsIdSet before = tagIndex.match(TagExpression.parse("100"));
+
+        tagIndex.update(List.of(new NewsDocument(2L, "title", "content", 1L, "author", List.of(102L), List.of("economy")),
+                new NewsDocument(6L, "title", "content", 1L, "author", List.of(100L), List.of("politics"))));
+        tagIndex.delete(List.of(5L));
+
+        assertThat(match("100")).containsExactly(1L, 6L);
+        assertThat(match("102")).containsExactly(2L);
+        assertThat(match("NOT 101")).containsExactly(2L, 4L, 6L);
+        assertThat(before.page(0, 10, false)).containsExactly(1L, 2L, 5L);
+    }
+}
@@ -0,0 +1,26 @@
+package com.mjc.school.aspect;
+
+import com.mjc.school.routing.PrimaryReads;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class PrimaryReadAspect {
+    @Pointcut(value = "@annotation(com.mjc.school.annotation.ReadFromPrimary)")
+    public void readFromPrimaryAnnotation() {
+    }
+
+    @Around(value = "readFromPrimaryAnnotation()")
+    public Object readFromPrimary(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean previous = PrimaryReads.require();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            PrimaryReads.restore(previous);
+        }
+    }
+}
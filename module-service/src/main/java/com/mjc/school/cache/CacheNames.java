@@ -0,0 +1,15 @@
+package com.mjc.school.cache;
+
+import java.util.List;
+
+public class CacheNames {
+    public static final String NEWS = "news";
+    public static final String AUTHORS = "authors";
+    public static final String TAGS = "tags";
+    public static final String COMMENTS = "comments";
+
+    public static final List<String> ALL = List.of(NEWS, AUTHORS, TAGS, COMMENTS);
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,53 @@
+package com.mjc.school.cache;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+public class CopyOnReadCaffeineCache extends CaffeineCache {
+    private final ObjectMapper objectMapper;
+
+    public CopyOnReadCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache, ObjectMapper objectMapper) {
+        super(name, cache, false);
+        this.objectMapper = objectMapper.copy()
+                .addMixIn(RepresentationModel.class, IgnoreLinks.class)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    @Override
+    protected Object toStoreValue(Object userValue) {
+        if (userValue == null) {
+            return super.toStoreValue(null);
+        }
+        try {
+            return new StoredValue(userValue.getClass(), objectMapper.writeValueAsBytes(userValue));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unable to store " + userValue.getClass().getName() + " in cache " + getName(), e);
+        }
+    }
+
+    @Override
+    protected Object fromStoreValue(Object storeValue) {
+        if (!(storeValue instanceof StoredValue stored)) {
+            return super.fromStoreValue(storeValue);
+        }
+        try {
+            return objectMapper.readValue(stored.value(), stored.type());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read " + stored.type().getName() + " from cache " + getName(), e);
+        }
+    }
+
+    private record StoredValue(Class<?> type, byte[] value) {
+    }
+
+    @JsonIgnoreProperties("links")
+    private abstract static class IgnoreLinks {
+    }
+}
@@ -0,0 +1,183 @@
+package com.mjc.school.cache;
+
+import com.mjc.school.bus.InvalidationBus;
+import com.mjc.school.bus.InvalidationListener;
+import com.mjc.school.model.Author;
+import com.mjc.school.model.News;
+import com.mjc.school.model.Tag;
+import com.mjc.school.projection.NewsSummary;
+import com.mjc.school.projection.NewsTagSummary;
+import com.mjc.school.repository.CommentRepository;
+import com.mjc.school.repository.NewsRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import static com.mjc.school.cache.CacheNames.AUTHORS;
+import static com.mjc.school.cache.CacheNames.COMMENTS;
+import static com.mjc.school.cache.CacheNames.NEWS;
+import static com.mjc.school.cache.CacheNames.TAGS;
+
+@Component
+public class ReadCacheInvalidator implements InvalidationListener {
+    private final static Logger LOGGER = LoggerFactory.getLogger(ReadCacheInvalidator.class);
+    private static final String NEWS_TAGS_ROLE = News.class.getName() + ".tags";
+
+    private final CacheManager cacheManager;
+    private final NewsRepository newsRepository;
+    private final CommentRepository commentRepository;
+    private final InvalidationBus invalidationBus;
+    private final org.hibernate.Cache secondLevelCache;
+    private final TaskScheduler taskScheduler;
+    private final Duration staleReadWindow;
+
+    @Autowired
+    public ReadCacheInvalidator(CacheManager cacheManager, NewsRepository newsRepository, CommentRepository commentRepository, InvalidationBus invalidationBus,
+                                EntityManagerFactory entityManagerFactory, TaskScheduler taskScheduler,
+                                @Value("${datasource.replicas.max-lag-ms}") long maxLagMillis,
+                                @Value("${datasource.replicas.lag-check-interval-ms}") long lagCheckIntervalMillis) {
+        this.cacheManager = cacheManager;
+        this.newsRepository = newsRepository;
+        this.commentRepository = commentRepository;
+        this.invalidationBus = invalidationBus;
+        this.secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        this.taskScheduler = taskScheduler;
+        this.staleReadWindow = Duration.ofMillis(maxLagMillis + lagCheckIntervalMillis);
+        invalidationBus.subscribe(this);
+    }
+
+    public void authorChanged(Long authorId) {
+        evict(AUTHORS, List.of(authorId));
+        newsChanged(newsRepository.readIdsByAuthorId(authorId));
+    }
+
+    public void authorDeleted(Long authorId) {
+        evict(TAGS, newsRepository.readTagIdsByAuthorId(authorId));
+        evict(AUTHORS, List.of(authorId));
+        clear(NEWS);
+        clear(COMMENTS);
+    }
+
+    public void tagChanged(Long tagId) {
+        tagsChanged(List.of(tagId));
+    }
+
+    public void tagsChanged(Collection<Long> tagIds) {
+        evict(TAGS, tagIds);
+        clear(NEWS);
+        clear(COMMENTS);
+    }
+
+    public void newsChanged(Collection<Long> newsIds) {
+        if (newsIds.isEmpty()) {
+            return;
+        }
+        evict(NEWS, newsIds);
+        evict(COMMENTS, commentRepository.readIdsByNewsIdIn(newsIds));
+    }
+
+    public void newsDeleted(Long newsId) {
+        evict(AUTHORS, newsRepository.readSummariesByIdIn(List.of(newsId)).stream().map(NewsSummary::authorId).toList());
+        evict(TAGS, newsRepository.readTagSummariesByNewsIdIn(List.of(newsId)).stream().map(NewsTagSummary::tagId).toList());
+        newsChanged(List.of(newsId));
+    }
+
+    public void newsLinksChanged(Collection<Long> authorIds, Collection<Long> tagIds) {
+        evict(AUTHORS, authorIds);
+        evict(TAGS, tagIds);
+    }
+
+    public void commentChanged(Long commentId) {
+        evict(COMMENTS, List.of(commentId));
+    }
+
+    @Override
+    public void onInvalidation(String region, List<Long> ids) {
+        if (!CacheNames.ALL.contains(region)) {
+            return;
+        }
+        invalidateLocally(region, ids);
+        afterStaleReadWindow(() -> invalidateLocally(region, ids));
+    }
+
+    @Override
+    public void onReset() {
+        LOGGER.info("Clearing read caches after missed invalidations");
+        CacheNames.ALL.stream().map(cacheManager::getCache).filter(Objects::nonNull).forEach(Cache::clear);
+        secondLevelCache.evictAllRegions();
+    }
+
+    private void evict(String cacheName, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Long> evictedIds = List.copyOf(ids);
+        evictLocally(cacheName, evictedIds);
+        invalidationBus.publish(cacheName, evictedIds);
+        afterStaleReadWindow(() -> evictLocally(cacheName, evictedIds));
+    }
+
+    private void clear(String cacheName) {
+        clearLocally(cacheName);
+        invalidationBus.publishClear(cacheName);
+        afterStaleReadWindow(() -> clearLocally(cacheName));
+    }
+
+    private void afterStaleReadWindow(Runnable invalidation) {
+        if (!staleReadWindow.isZero()) {
+            taskScheduler.schedule(invalidation, Instant.now().plus(staleReadWindow));
+        }
+    }
+
+    private void invalidateLocally(String region, List<Long> ids) {
+        if (ids.isEmpty()) {
+            clearLocally(region);
+            return;
+        }
+        evictLocally(region, ids);
+        switch (region) {
+            case AUTHORS -> ids.forEach(id -> secondLevelCache.evictEntityData(Author.class, id));
+            case TAGS -> ids.forEach(id -> secondLevelCache.evictEntityData(Tag.class, id));
+            case NEWS -> ids.forEach(id -> secondLevelCache.evictCollectionData(NEWS_TAGS_ROLE, id));
+            default -> {
+            }
+        }
+    }
+
+    private void clearLocally(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            LOGGER.debug("Clearing cache {}", cacheName);
+            cache.clear();
+        }
+        switch (cacheName) {
+            case AUTHORS -> secondLevelCache.evictEntityData(Author.class);
+            case TAGS -> secondLevelCache.evictEntityData(Tag.class);
+            case NEWS -> secondLevelCache.evictCollectionData(NEWS_TAGS_ROLE);
+            default -> {
+            }
+        }
+    }
+
+    private void evictLocally(String cacheName, Collection<Long> ids) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null || ids.isEmpty()) {
+            return;
+        }
+        LOGGER.debug("Evicting {} entries from cache {}", ids.size(), cacheName);
+        ids.stream().filter(Objects::nonNull).distinct().forEach(cache::evict);
+    }
+}
@@ -0,0 +1,32 @@
+package com.mjc.school.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mjc.school.cache.CacheNames;
+import com.mjc.school.cache.CopyOnReadCaffeineCache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    private static final String CACHE_SPEC_PROPERTY = "cache.%s.spec";
+    private static final String DEFAULT_CACHE_SPEC = "maximumSize=10000,expireAfterWrite=10m,recordStats";
+
+    @Bean
+    public CacheManager cacheManager(Environment environment, ObjectMapper objectMapper) {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(CacheNames.ALL.stream()
+                .map(name -> new CopyOnReadCaffeineCache(name,
+                        Caffeine.from(environment.getProperty(String.format(CACHE_SPEC_PROPERTY, name), DEFAULT_CACHE_SPEC)).build(),
+                        objectMapper))
+                .toList());
+        cacheManager.initializeCaches();
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,77 @@
+package com.mjc.school.counter;
+
+import com.mjc.school.cache.ReadCacheInvalidator;
+import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.repository.TagRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Component
+public class CounterRepairJob {
+    private final static Logger LOGGER = LoggerFactory.getLogger(CounterRepairJob.class);
+
+    private final AuthorRepository authorRepository;
+    private final TagRepository tagRepository;
+    private final NewsRepository newsRepository;
+    private final ReadCacheInvalidator readCacheInvalidator;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    @Autowired
+    public CounterRepairJob(AuthorRepository authorRepository, TagRepository tagRepository, NewsRepository newsRepository,
+                            ReadCacheInvalidator readCacheInvalidator, TransactionTemplate transactionTemplate,
+                            @Value("${counters.repair.batch-size}") int batchSize) {
+        this.authorRepository = authorRepository;
+        this.tagRepository = tagRepository;
+        this.newsRepository = newsRepository;
+        this.readCacheInvalidator = readCacheInvalidator;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${counters.repair.cron}")
+    public long repairAll() {
+        return repair("authors.news_count", authorRepository::readMaxId, authorRepository::readIdsWithDriftedNewsCount,
+                authorRepository::recountNews, ids -> readCacheInvalidator.newsLinksChanged(ids, List.of()))
+                + repair("tags.news_count", tagRepository::readMaxId, tagRepository::readIdsWithDriftedNewsCount,
+                tagRepository::recountNews, ids -> readCacheInvalidator.newsLinksChanged(List.of(), ids))
+                + repair("news.comment_count", newsRepository::readMaxId, newsRepository::readIdsWithDriftedCommentCount,
+                newsRepository::recountComments, readCacheInvalidator::newsChanged);
+    }
+
+    private long repair(String counter, Supplier<Long> maxId, BiFunction<Long, Long, List<Long>> driftedIds,
+                        Function<Collection<Long>, Integer> recount, Consumer<List<Long>> evict) {
+        long lastId = maxId.get();
+        long repaired = 0;
+        for (long fromId = 1; fromId <= lastId; fromId += batchSize) {
+            long batchFromId = fromId;
+            long batchToId = fromId + batchSize - 1;
+            Integer batchRepaired = transactionTemplate.execute(status -> {
+                List<Long> ids = driftedIds.apply(batchFromId, batchToId);
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                LOGGER.warn("Repairing drifted {} for ids {}", counter, ids);
+                recount.apply(ids);
+                evict.accept(ids);
+                return ids.size();
+            });
+            repaired += batchRepaired == null ? 0 : batchRepaired;
+        }
+        LOGGER.info("Counter {} checked up to id {}, {} rows repaired", counter, lastId, repaired);
+        return repaired;
+    }
+}
@@ -0,0 +1,73 @@
+package com.mjc.school.counter;
+
+import com.mjc.school.projection.NewsCount;
+import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.repository.TagRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+@Component
+public class EntityCounters {
+    private final AuthorRepository authorRepository;
+    private final TagRepository tagRepository;
+    private final NewsRepository newsRepository;
+
+    @Autowired
+    public EntityCounters(AuthorRepository authorRepository, TagRepository tagRepository, NewsRepository newsRepository) {
+        this.authorRepository = authorRepository;
+        this.tagRepository = tagRepository;
+        this.newsRepository = newsRepository;
+    }
+
+    public void newsLinksChanged(Collection<NewsLinks> removed, Collection<NewsLinks> added) {
+        Map<Long, Long> authorDeltas = new HashMap<>();
+        Map<Long, Long> tagDeltas = new HashMap<>();
+        removed.forEach(links -> addLinks(links, -1, authorDeltas, tagDeltas));
+        added.forEach(links -> addLinks(links, 1, authorDeltas, tagDeltas));
+        apply(authorDeltas, authorRepository::addToNewsCount);
+        apply(tagDeltas, tagRepository::addToNewsCount);
+    }
+
+    public void authorDeleted(Long authorId) {
+        apply(newsRepository.countNewsByTagForAuthorId(authorId).stream()
+                        .collect(Collectors.toMap(NewsCount::id, count -> -count.count())),
+                tagRepository::addToNewsCount);
+    }
+
+    public void commentsAdded(Collection<Long> newsIds) {
+        apply(countOccurrences(newsIds, 1), newsRepository::addToCommentCount);
+    }
+
+    public void commentsRemoved(Collection<Long> newsIds) {
+        apply(countOccurrences(newsIds, -1), newsRepository::addToCommentCount);
+    }
+
+    private static void addLinks(NewsLinks links, long delta, Map<Long, Long> authorDeltas, Map<Long, Long> tagDeltas) {
+        if (links.authorId() != null) {
+            authorDeltas.merge(links.authorId(), delta, Long::sum);
+        }
+        links.tagIds().stream().filter(Objects::nonNull).distinct()
+                .forEach(tagId -> tagDeltas.merge(tagId, delta, Long::sum));
+    }
+
+    private static Map<Long, Long> countOccurrences(Collection<Long> ids, long delta) {
+        return ids.stream().filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(id -> id, Collectors.summingLong(id -> delta)));
+    }
+
+    private static void apply(Map<Long, Long> deltas, BiFunction<Collection<Long>, Long, Integer> update) {
+        Map<Long, List<Long>> idsByDelta = deltas.entrySet().stream()
+                .filter(delta -> delta.getValue() != 0)
+                .collect(Collectors.groupingBy(Map.Entry::getValue, Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+        idsByDelta.forEach((delta, ids) -> update.apply(ids, delta));
+    }
+}
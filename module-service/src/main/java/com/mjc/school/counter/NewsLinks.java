@@ -0,0 +1,15 @@
+package com.mjc.school.counter;
+
+import com.mjc.school.model.News;
+import com.mjc.school.model.Tag;
+
+import java.util.Collection;
+import java.util.List;
+
+public record NewsLinks(Long authorId, Collection<Long> tagIds) {
+    public static NewsLinks of(News news) {
+        return new NewsLinks(
+                news.getAuthor() == null ? null : news.getAuthor().getId(),
+                news.getTags() == null ? List.of() : news.getTags().stream().map(Tag::getId).distinct().toList());
+    }
+}
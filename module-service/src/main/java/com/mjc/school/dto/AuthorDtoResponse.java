@@ -1,5 +1,6 @@
 package com.mjc.school.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.springframework.hateoas.RepresentationModel;
 
 import java.time.LocalDateTime;
@@ -10,6 +11,8 @@ public class AuthorDtoResponse extends RepresentationModel<AuthorDtoResponse> {
     private String name;
     private LocalDateTime createDate;
     private LocalDateTime lastUpdateDate;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long newsCount;
 
     public AuthorDtoResponse() {
     }
@@ -53,6 +56,14 @@ public class AuthorDtoResponse extends RepresentationModel<AuthorDtoResponse> {
         this.lastUpdateDate = lastUpdateDate;
     }
 
+    public Long getNewsCount() {
+        return newsCount;
+    }
+
+    public void setNewsCount(Long newsCount) {
+        this.newsCount = newsCount;
+    }
+
     @Override
     public String toString() {
         return "AuthorDtoResponse{" +
@@ -60,6 +71,7 @@ public class AuthorDtoResponse extends RepresentationModel<AuthorDtoResponse> {
                 ", name='" + name + '\'' +
                 ", createDate=" + createDate +
                 ", lastUpdateDate=" + lastUpdateDate +
+                ", newsCount=" + newsCount +
                 '}';
     }
 
@@ -0,0 +1,76 @@
+package com.mjc.school.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+public class CursorPageDtoResponse<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    public CursorPageDtoResponse() {
+    }
+
+    public CursorPageDtoResponse(List<T> content, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = content.size();
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    @Override
+    public String toString() {
+        return "CursorPageDtoResponse{" +
+                "content=" + content +
+                ", size=" + size +
+                ", hasNext=" + hasNext +
+                ", nextCursor='" + nextCursor + '\'' +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CursorPageDtoResponse<?> that = (CursorPageDtoResponse<?>) o;
+        return size == that.size && hasNext == that.hasNext && content.equals(that.content) && Objects.equals(nextCursor, that.nextCursor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(content, size, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,64 @@
+package com.mjc.school.dto;
+
+import java.util.Objects;
+
+public class FacetDtoResponse {
+    private Long id;
+    private String name;
+    private long count;
+
+    public FacetDtoResponse() {
+    }
+
+    public FacetDtoResponse(Long id, String name, long count) {
+        this.id = id;
+        this.name = name;
+        this.count = count;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    @Override
+    public String toString() {
+        return "FacetDtoResponse{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                ", count=" + count +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        FacetDtoResponse that = (FacetDtoResponse) o;
+        return count == that.count && Objects.equals(id, that.id) && Objects.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, count);
+    }
+}
@@ -0,0 +1,64 @@
+package com.mjc.school.dto;
+
+import java.util.Objects;
+
+public class HighlightDtoResponse {
+    private String field;
+    private int start;
+    private int end;
+
+    public HighlightDtoResponse() {
+    }
+
+    public HighlightDtoResponse(String field, int start, int end) {
+        this.field = field;
+        this.start = start;
+        this.end = end;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public void setField(String field) {
+        this.field = field;
+    }
+
+    public int getStart() {
+        return start;
+    }
+
+    public void setStart(int start) {
+        this.start = start;
+    }
+
+    public int getEnd() {
+        return end;
+    }
+
+    public void setEnd(int end) {
+        this.end = end;
+    }
+
+    @Override
+    public String toString() {
+        return "HighlightDtoResponse{" +
+                "field='" + field + '\'' +
+                ", start=" + start +
+                ", end=" + end +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        HighlightDtoResponse that = (HighlightDtoResponse) o;
+        return start == that.start && end == that.end && Objects.equals(field, that.field);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, start, end);
+    }
+}
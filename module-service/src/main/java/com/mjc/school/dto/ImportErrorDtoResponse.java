@@ -0,0 +1,53 @@
+package com.mjc.school.dto;
+
+import java.util.Objects;
+
+public class ImportErrorDtoResponse {
+    private long line;
+    private String message;
+
+    public ImportErrorDtoResponse() {
+    }
+
+    public ImportErrorDtoResponse(long line, String message) {
+        this.line = line;
+        this.message = message;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public void setLine(long line) {
+        this.line = line;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    @Override
+    public String toString() {
+        return "ImportErrorDtoResponse{" +
+                "line=" + line +
+                ", message='" + message + '\'' +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ImportErrorDtoResponse that = (ImportErrorDtoResponse) o;
+        return line == that.line && Objects.equals(message, that.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(line, message);
+    }
+}
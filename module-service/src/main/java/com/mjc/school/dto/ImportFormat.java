@@ -0,0 +1,35 @@
+package com.mjc.school.dto;
+
+import com.mjc.school.exception.ValidationException;
+
+import java.util.Locale;
+
+import static com.mjc.school.exception.ExceptionErrorCodes.VALIDATION_EXCEPTION;
+
+public enum ImportFormat {
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String mediaType;
+
+    ImportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public static ImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            String normalized = contentType.toLowerCase(Locale.ROOT);
+            for (ImportFormat format : values()) {
+                if (normalized.startsWith(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        throw new ValidationException(String.format(VALIDATION_EXCEPTION.getErrorMessage(),
+                "unsupported import content type " + contentType));
+    }
+}
@@ -0,0 +1,76 @@
+package com.mjc.school.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+public class ImportReportDtoResponse {
+    private long processed;
+    private long imported;
+    private long failed;
+    private List<ImportErrorDtoResponse> errors;
+
+    public ImportReportDtoResponse() {
+    }
+
+    public ImportReportDtoResponse(long processed, long imported, long failed, List<ImportErrorDtoResponse> errors) {
+        this.processed = processed;
+        this.imported = imported;
+        this.failed = failed;
+        this.errors = errors;
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public void setProcessed(long processed) {
+        this.processed = processed;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public List<ImportErrorDtoResponse> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<ImportErrorDtoResponse> errors) {
+        this.errors = errors;
+    }
+
+    @Override
+    public String toString() {
+        return "ImportReportDtoResponse{" +
+                "processed=" + processed +
+                ", imported=" + imported +
+                ", failed=" + failed +
+                ", errors=" + errors +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ImportReportDtoResponse that = (ImportReportDtoResponse) o;
+        return processed == that.processed && imported == that.imported && failed == that.failed && Objects.equals(errors, that.errors);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(processed, imported, failed, errors);
+    }
+}
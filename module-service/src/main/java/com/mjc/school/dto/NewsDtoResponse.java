@@ -1,5 +1,6 @@
 package com.mjc.school.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.springframework.hateoas.RepresentationModel;
 
 import java.time.LocalDateTime;
@@ -14,6 +15,8 @@ public class NewsDtoResponse extends RepresentationModel<NewsDtoResponse> {
     private LocalDateTime lastUpdateDate;
     private AuthorDtoResponse authorDtoResponse;
     private List<TagDtoResponse> tagDtoResponseList;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long commentCount;
 
     public NewsDtoResponse() {
     }
@@ -84,6 +87,14 @@ public class NewsDtoResponse extends RepresentationModel<NewsDtoResponse> {
         this.tagDtoResponseList = tagDtoResponseSet;
     }
 
+    public Long getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(Long commentCount) {
+        this.commentCount = commentCount;
+    }
+
     @Override
     public String toString() {
         return "NewsDtoResponse{" +
@@ -94,6 +105,7 @@ public class NewsDtoResponse extends RepresentationModel<NewsDtoResponse> {
                 ", lastUpdateDate=" + lastUpdateDate +
                 ", authorDtoResponse=" + authorDtoResponse +
                 ", tagDtoResponseList=" + tagDtoResponseList +
+                ", commentCount=" + commentCount +
                 '}';
     }
 
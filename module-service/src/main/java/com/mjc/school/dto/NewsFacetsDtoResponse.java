@@ -0,0 +1,65 @@
+package com.mjc.school.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+public class NewsFacetsDtoResponse {
+    private long total;
+    private List<FacetDtoResponse> tags;
+    private List<FacetDtoResponse> authors;
+
+    public NewsFacetsDtoResponse() {
+    }
+
+    public NewsFacetsDtoResponse(long total, List<FacetDtoResponse> tags, List<FacetDtoResponse> authors) {
+        this.total = total;
+        this.tags = tags;
+        this.authors = authors;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public List<FacetDtoResponse> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<FacetDtoResponse> tags) {
+        this.tags = tags;
+    }
+
+    public List<FacetDtoResponse> getAuthors() {
+        return authors;
+    }
+
+    public void setAuthors(List<FacetDtoResponse> authors) {
+        this.authors = authors;
+    }
+
+    @Override
+    public String toString() {
+        return "NewsFacetsDtoResponse{" +
+                "total=" + total +
+                ", tags=" + tags +
+                ", authors=" + authors +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        NewsFacetsDtoResponse that = (NewsFacetsDtoResponse) o;
+        return total == that.total && Objects.equals(tags, that.tags) && Objects.equals(authors, that.authors);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(total, tags, authors);
+    }
+}
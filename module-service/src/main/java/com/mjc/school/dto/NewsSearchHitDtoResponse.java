@@ -0,0 +1,65 @@
+package com.mjc.school.dto;
+
+import java.util.List;
+import java.util.Objects;
+
+public class NewsSearchHitDtoResponse {
+    private NewsDtoResponse news;
+    private float score;
+    private List<HighlightDtoResponse> highlights;
+
+    public NewsSearchHitDtoResponse() {
+    }
+
+    public NewsSearchHitDtoResponse(NewsDtoResponse news, float score, List<HighlightDtoResponse> highlights) {
+        this.news = news;
+        this.score = score;
+        this.highlights = highlights;
+    }
+
+    public NewsDtoResponse getNews() {
+        return news;
+    }
+
+    public void setNews(NewsDtoResponse news) {
+        this.news = news;
+    }
+
+    public float getScore() {
+        return score;
+    }
+
+    public void setScore(float score) {
+        this.score = score;
+    }
+
+    public List<HighlightDtoResponse> getHighlights() {
+        return highlights;
+    }
+
+    public void setHighlights(List<HighlightDtoResponse> highlights) {
+        this.highlights = highlights;
+    }
+
+    @Override
+    public String toString() {
+        return "NewsSearchHitDtoResponse{" +
+                "news=" + news +
+                ", score=" + score +
+                ", highlights=" + highlights +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        NewsSearchHitDtoResponse that = (NewsSearchHitDtoResponse) o;
+        return Float.compare(score, that.score) == 0 && Objects.equals(news, that.news) && Objects.equals(highlights, that.highlights);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(news, score, highlights);
+    }
+}
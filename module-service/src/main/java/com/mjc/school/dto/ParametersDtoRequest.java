@@ -7,5 +7,6 @@ public record ParametersDtoRequest(
         String newsContent,
         String authorName,
         List<Integer> tagIds,
-        List<String> tagNames) {
+        List<String> tagNames,
+        String tagExpression) {
 }
@@ -0,0 +1,6 @@
+package com.mjc.school.dto;
+
+public enum RetagAction {
+    ADD,
+    REMOVE
+}
@@ -0,0 +1,61 @@
+package com.mjc.school.dto;
+
+import com.mjc.school.annotation.IdField;
+import com.mjc.school.annotation.NotNull;
+import com.mjc.school.annotation.StringField;
+
+public final class RetagDtoRequest {
+    @NotNull
+    private RetagAction action;
+
+    @IdField
+    private Long authorId;
+
+    @IdField
+    private Long taggedWithId;
+
+    @StringField(min = 1, max = 30)
+    private String titleContains;
+
+    public RetagDtoRequest() {
+    }
+
+    public RetagDtoRequest(RetagAction action, Long authorId, Long taggedWithId, String titleContains) {
+        this.action = action;
+        this.authorId = authorId;
+        this.taggedWithId = taggedWithId;
+        this.titleContains = titleContains;
+    }
+
+    public RetagAction getAction() {
+        return action;
+    }
+
+    public void setAction(RetagAction action) {
+        this.action = action;
+    }
+
+    public Long getAuthorId() {
+        return authorId;
+    }
+
+    public void setAuthorId(Long authorId) {
+        this.authorId = authorId;
+    }
+
+    public Long getTaggedWithId() {
+        return taggedWithId;
+    }
+
+    public void setTaggedWithId(Long taggedWithId) {
+        this.taggedWithId = taggedWithId;
+    }
+
+    public String getTitleContains() {
+        return titleContains;
+    }
+
+    public void setTitleContains(String titleContains) {
+        this.titleContains = titleContains;
+    }
+}
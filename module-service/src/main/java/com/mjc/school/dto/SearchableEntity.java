@@ -0,0 +1,23 @@
+package com.mjc.school.dto;
+
+import com.mjc.school.model.Author;
+import com.mjc.school.model.Comment;
+import com.mjc.school.model.News;
+import com.mjc.school.model.Tag;
+
+public enum SearchableEntity {
+    NEWS(News.class),
+    AUTHOR(Author.class),
+    TAG(Tag.class),
+    COMMENT(Comment.class);
+
+    private final Class<?> entityType;
+
+    SearchableEntity(Class<?> entityType) {
+        this.entityType = entityType;
+    }
+
+    public Class<?> getEntityType() {
+        return entityType;
+    }
+}
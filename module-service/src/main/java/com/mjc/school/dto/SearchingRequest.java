@@ -3,16 +3,35 @@ package com.mjc.school.dto;
 import com.mjc.school.annotation.Search;
 
 public class SearchingRequest {
+    private SearchableEntity entity;
+
     @Search
     private String fieldNameAndValue;
 
     public SearchingRequest() {
     }
 
-    public SearchingRequest(String fieldNameAndValue) {
+    public SearchingRequest(SearchableEntity entity, String fieldNameAndValue) {
+        this.entity = entity;
         this.fieldNameAndValue = fieldNameAndValue;
     }
 
+    public SearchableEntity getEntity() {
+        return entity;
+    }
+
+    public void setEntity(SearchableEntity entity) {
+        this.entity = entity;
+    }
+
+    public String getFieldName() {
+        return fieldNameAndValue.split(":", 2)[0];
+    }
+
+    public String getFieldValue() {
+        return fieldNameAndValue.split(":", 2)[1];
+    }
+
     public String getFieldNameAndValue() {
         return fieldNameAndValue;
     }
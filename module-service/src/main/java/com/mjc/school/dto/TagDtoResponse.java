@@ -1,5 +1,6 @@
 package com.mjc.school.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.springframework.hateoas.RepresentationModel;
 
 import java.util.Objects;
@@ -7,6 +8,8 @@ import java.util.Objects;
 public class TagDtoResponse extends RepresentationModel<TagDtoResponse> {
     private Long id;
     private String name;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long newsCount;
 
     public TagDtoResponse() {
     }
@@ -32,11 +35,20 @@ public class TagDtoResponse extends RepresentationModel<TagDtoResponse> {
         this.name = name;
     }
 
+    public Long getNewsCount() {
+        return newsCount;
+    }
+
+    public void setNewsCount(Long newsCount) {
+        this.newsCount = newsCount;
+    }
+
     @Override
     public String toString() {
         return "TagDtoResponse{" +
                 "id=" + id +
                 ", name=" + name +
+                ", newsCount=" + newsCount +
                 '}';
     }
 
@@ -11,6 +11,7 @@ public enum ExceptionErrorCodes {
     USER_DOES_NOT_EXIST("000008", "User with username %s does not exist"),
     METHOD_ARGUMENT_TYPE_MISMATCH_EXCEPTION("000009", "Id url path should be a number: %s"),
     ENTITY_ALREADY_EXISTS("000010", "Entity with such field value already exists. Value should be unique: %s"),
+    REFERENCES_DO_NOT_EXIST("000011", "Referenced entities do not exist: %s"),
     ;
 
     private final String errorCode;
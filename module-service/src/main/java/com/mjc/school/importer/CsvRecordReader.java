@@ -0,0 +1,106 @@
+package com.mjc.school.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+public class CsvRecordReader<T> implements RecordReader<T> {
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private final BufferedReader reader;
+    private final Function<Map<String, String>, T> mapper;
+    private List<String> header;
+    private long lineNumber;
+    private long recordLine;
+
+    public CsvRecordReader(BufferedReader reader, Function<Map<String, String>, T> mapper) {
+        this.reader = reader;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public ImportRecord<T> next() throws IOException {
+        if (header == null) {
+            header = readFields();
+            if (header == null) {
+                return null;
+            }
+        }
+        List<String> fields = readFields();
+        if (fields == null) {
+            return null;
+        }
+        if (fields.size() != header.size()) {
+            return ImportRecord.failure(recordLine,
+                    "Expected " + header.size() + " columns but found " + fields.size());
+        }
+
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            values.put(header.get(i).trim(), fields.get(i));
+        }
+        try {
+            return ImportRecord.success(recordLine, mapper.apply(values));
+        } catch (IllegalArgumentException e) {
+            return ImportRecord.failure(recordLine, "Malformed value: " + e.getMessage());
+        }
+    }
+
+    private List<String> readFields() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+        recordLine = lineNumber;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                String continuation = reader.readLine();
+                if (continuation == null) {
+                    break;
+                }
+                field.append('\n');
+                line = continuation;
+                lineNumber++;
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c == QUOTE && i < line.length() && line.charAt(i) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else if (c == QUOTE) {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == QUOTE) {
+                quoted = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
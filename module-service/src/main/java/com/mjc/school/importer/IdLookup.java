@@ -0,0 +1,36 @@
+package com.mjc.school.importer;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class IdLookup {
+    private final Function<Collection<Long>, Set<Long>> loader;
+    private final Set<Long> existing = new HashSet<>();
+    private final Set<Long> missing = new HashSet<>();
+
+    public IdLookup(Function<Collection<Long>, Set<Long>> loader) {
+        this.loader = loader;
+    }
+
+    public void load(Collection<Long> ids) {
+        Set<Long> unknown = ids.stream()
+                .filter(Objects::nonNull)
+                .filter(id -> !existing.contains(id) && !missing.contains(id))
+                .collect(Collectors.toSet());
+        if (unknown.isEmpty()) {
+            return;
+        }
+        Set<Long> found = loader.apply(unknown);
+        existing.addAll(found);
+        unknown.removeAll(found);
+        missing.addAll(unknown);
+    }
+
+    public boolean contains(Long id) {
+        return existing.contains(id);
+    }
+}
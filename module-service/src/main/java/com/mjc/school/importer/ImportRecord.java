@@ -0,0 +1,15 @@
+package com.mjc.school.importer;
+
+public record ImportRecord<T>(long line, T value, String error) {
+    public static <T> ImportRecord<T> success(long line, T value) {
+        return new ImportRecord<>(line, value, null);
+    }
+
+    public static <T> ImportRecord<T> failure(long line, String error) {
+        return new ImportRecord<>(line, null, error);
+    }
+
+    public boolean isFailure() {
+        return error != null;
+    }
+}
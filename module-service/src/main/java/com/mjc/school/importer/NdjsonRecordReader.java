@@ -0,0 +1,38 @@
+package com.mjc.school.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+public class NdjsonRecordReader<T> implements RecordReader<T> {
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final Class<T> type;
+    private long lineNumber;
+
+    public NdjsonRecordReader(BufferedReader reader, ObjectMapper objectMapper, Class<T> type) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+        this.type = type;
+    }
+
+    @Override
+    public ImportRecord<T> next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        try {
+            return ImportRecord.success(lineNumber, objectMapper.readValue(line, type));
+        } catch (JsonProcessingException e) {
+            return ImportRecord.failure(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.mjc.school.importer;
+
+import java.io.IOException;
+
+public interface RecordReader<T> {
+    ImportRecord<T> next() throws IOException;
+}
@@ -16,7 +16,8 @@ public interface AuthorDtoMapper {
             @Mapping(target = "id", ignore = true),
             @Mapping(target = "createDate", ignore = true),
             @Mapping(target = "lastUpdateDate", ignore = true),
-            @Mapping(target = "news", ignore = true)
+            @Mapping(target = "news", ignore = true),
+            @Mapping(target = "newsCount", ignore = true)
     })
     Author dtoToModel(AuthorDtoRequest dtoRequest);
 }
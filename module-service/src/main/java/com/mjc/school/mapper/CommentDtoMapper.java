@@ -2,6 +2,7 @@ package com.mjc.school.mapper;
 
 import com.mjc.school.dto.CommentDtoRequest;
 import com.mjc.school.dto.CommentDtoResponse;
+import com.mjc.school.dto.NewsDtoResponse;
 import com.mjc.school.model.Comment;
 import com.mjc.school.repository.NewsRepository;
 import org.mapstruct.Context;
@@ -17,6 +18,15 @@ public interface CommentDtoMapper {
     })
     CommentDtoResponse modelToDto(Comment model, @Context NewsDtoMapper newsDtoMapper);
 
+    @Mapping(target = "newsDtoResponse", ignore = true)
+    CommentDtoResponse modelToDtoWithoutNews(Comment model);
+
+    default CommentDtoResponse modelToDto(Comment model, NewsDtoResponse newsDtoResponse) {
+        CommentDtoResponse dtoResponse = modelToDtoWithoutNews(model);
+        dtoResponse.setNewsDtoResponse(newsDtoResponse);
+        return dtoResponse;
+    }
+
     @Mappings({
             @Mapping(target = "id", ignore = true),
             @Mapping(target = "news", expression = "java(newsRepository.getReferenceById(dtoRequest.getNewsId()))"),
@@ -1,16 +1,22 @@
 package com.mjc.school.mapper;
 
+import com.mjc.school.dto.AuthorDtoResponse;
 import com.mjc.school.dto.NewsDtoRequest;
 import com.mjc.school.dto.NewsDtoResponse;
+import com.mjc.school.dto.TagDtoResponse;
+import com.mjc.school.model.Author;
 import com.mjc.school.model.News;
-import com.mjc.school.repository.AuthorRepository;
-import com.mjc.school.repository.TagRepository;
+import com.mjc.school.model.Tag;
+import com.mjc.school.projection.NewsSummary;
+import com.mjc.school.reference.References;
 import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Mappings;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @Mapper(componentModel = "spring")
 public interface NewsDtoMapper {
@@ -19,17 +25,25 @@ public interface NewsDtoMapper {
             @Mapping(target = "id", ignore = true),
             @Mapping(target = "createDate", ignore = true),
             @Mapping(target = "lastUpdateDate", ignore = true),
-            @Mapping(target = "author", expression = "java(authorRepository.getReferenceById(dtoRequest.getAuthorId()))"),
-            @Mapping(target = "tags",
-                    expression = "java(dtoRequest.getTagIds() != null ? dtoRequest.getTagIds().stream().map(tagId -> tagRepository.getReferenceById(tagId)).toList() : java.util.Collections.emptyList())"),
-            @Mapping(target = "comments", ignore = true)})
-    News dtoToModel(
-            NewsDtoRequest dtoRequest,
-            @Context AuthorRepository authorRepository,
-            @Context TagRepository tagRepository);
+            @Mapping(target = "author", expression = "java(references.author(dtoRequest.getAuthorId()))"),
+            @Mapping(target = "tags", expression = "java(references.tags(dtoRequest.getTagIds()))"),
+            @Mapping(target = "comments", ignore = true),
+            @Mapping(target = "commentCount", ignore = true)})
+    News dtoToModel(NewsDtoRequest dtoRequest, @Context References references);
 
     @Mappings({
             @Mapping(source = "author", target = "authorDtoResponse"),
             @Mapping(source = "tags", target = "tagDtoResponseList")})
     NewsDtoResponse modelToDto(News news);
+
+    @Mapping(target = "newsCount", ignore = true)
+    AuthorDtoResponse authorToDto(Author author);
+
+    @Mapping(target = "newsCount", ignore = true)
+    TagDtoResponse tagToDto(Tag tag);
+
+    @Mappings({
+            @Mapping(target = "authorDtoResponse", expression = "java(new AuthorDtoResponse(summary.authorId(), summary.authorName(), null, null))"),
+            @Mapping(source = "tags", target = "tagDtoResponseList")})
+    NewsDtoResponse summaryToDto(NewsSummary summary, List<TagDtoResponse> tags);
 }
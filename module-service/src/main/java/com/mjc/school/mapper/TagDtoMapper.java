@@ -10,12 +10,12 @@ import org.mapstruct.Mappings;
 @Mapper(componentModel = "spring")
 public interface TagDtoMapper {
 
-
     TagDtoResponse modelToDto(Tag tag);
 
     @Mappings(value = {
             @Mapping(target = "id", ignore = true),
-            @Mapping(target = "news", ignore = true)
+            @Mapping(target = "news", ignore = true),
+            @Mapping(target = "newsCount", ignore = true)
     })
     Tag dtoToModel(TagDtoRequest dtoRequest);
 }
@@ -0,0 +1,13 @@
+package com.mjc.school.outbox;
+
+import com.mjc.school.model.AggregateType;
+import com.mjc.school.model.ChangeType;
+import com.mjc.school.model.OutboxEvent;
+
+import java.time.LocalDateTime;
+
+public record EntityChange(Long eventId, AggregateType aggregateType, Long aggregateId, ChangeType changeType, LocalDateTime occurredAt) {
+    public static EntityChange of(OutboxEvent event) {
+        return new EntityChange(event.getId(), event.getAggregateType(), event.getAggregateId(), event.getChangeType(), event.getOccurredAt());
+    }
+}
@@ -0,0 +1,5 @@
+package com.mjc.school.outbox;
+
+public interface EntityChangeListener {
+    void onChange(EntityChange change);
+}
@@ -0,0 +1,140 @@
+package com.mjc.school.outbox;
+
+import com.mjc.school.bulk.OutboxWriter;
+import com.mjc.school.model.OutboxEvent;
+import com.mjc.school.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Component
+public class OutboxRelay {
+    private final static Logger LOGGER = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final int MAX_BACKOFF_DOUBLINGS = 30;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxWriter outboxWriter;
+    private final List<EntityChangeListener> listeners;
+    private final TransactionTemplate batchTransaction;
+    private final TransactionTemplate listenerTransaction;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    @Autowired
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, OutboxWriter outboxWriter,
+                       ObjectProvider<EntityChangeListener> listeners, PlatformTransactionManager transactionManager,
+                       @Value("${outbox.relay.batch-size}") int batchSize,
+                       @Value("${outbox.relay.max-attempts}") int maxAttempts,
+                       @Value("${outbox.relay.initial-backoff-ms}") long initialBackoffMillis,
+                       @Value("${outbox.relay.max-backoff-ms}") long maxBackoffMillis) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxWriter = outboxWriter;
+        this.listeners = listeners.orderedStream().toList();
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.listenerTransaction = new TransactionTemplate(transactionManager);
+        this.listenerTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms}")
+    public long relay() {
+        long delivered = 0;
+        long afterId = 0;
+        Set<String> blockedAggregates = new HashSet<>();
+        BatchResult result;
+        do {
+            long cursor = afterId;
+            result = batchTransaction.execute(status -> relayBatch(cursor, blockedAggregates));
+            if (result == null) {
+                break;
+            }
+            delivered += result.delivered();
+            afterId = result.lastId();
+        } while (result.read() == batchSize);
+        if (delivered > 0) {
+            LOGGER.debug("Relayed {} outbox events to {} listeners", delivered, listeners.size());
+        }
+        return delivered;
+    }
+
+    private BatchResult relayBatch(long afterId, Set<String> blockedAggregates) {
+        if (!outboxWriter.tryLockRelay()) {
+            LOGGER.debug("Outbox relay is running on another node");
+            return null;
+        }
+        List<OutboxEvent> events = outboxEventRepository.readPendingAfter(afterId, Limit.of(batchSize));
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> delivered = new ArrayList<>(events.size());
+        List<Long> dead = new ArrayList<>();
+        for (OutboxEvent event : events) {
+            String aggregate = event.getAggregateType() + ":" + event.getAggregateId();
+            if (blockedAggregates.contains(aggregate)) {
+                continue;
+            }
+            if (event.getNextAttemptAt() != null && event.getNextAttemptAt().isAfter(now)) {
+                blockedAggregates.add(aggregate);
+                continue;
+            }
+            try {
+                dispatch(EntityChange.of(event));
+                delivered.add(event.getId());
+            } catch (RuntimeException e) {
+                int attempt = event.getAttempts() + 1;
+                if (attempt >= maxAttempts) {
+                    LOGGER.error("Outbox event {} for {} failed {} times, moving it to the dead letter status",
+                            event.getId(), aggregate, attempt, e);
+                    dead.add(event.getId());
+                } else {
+                    Duration backoff = backoff(attempt);
+                    LOGGER.warn("Outbox event {} for {} failed on attempt {}, retrying in {} ms and holding back later events of the aggregate",
+                            event.getId(), aggregate, attempt, backoff.toMillis(), e);
+                    blockedAggregates.add(aggregate);
+                    outboxEventRepository.retryLater(event.getId(), now.plus(backoff));
+                }
+            }
+        }
+        if (!delivered.isEmpty()) {
+            outboxEventRepository.deleteByIdIn(delivered);
+        }
+        if (!dead.isEmpty()) {
+            outboxEventRepository.moveToDeadLetter(dead);
+        }
+        long lastId = events.isEmpty() ? afterId : events.get(events.size() - 1).getId();
+        return new BatchResult(events.size(), delivered.size(), lastId);
+    }
+
+    private Duration backoff(int attempt) {
+        long backoffMillis = initialBackoffMillis << Math.min(attempt - 1, MAX_BACKOFF_DOUBLINGS);
+        return Duration.ofMillis(Math.min(backoffMillis, maxBackoffMillis));
+    }
+
+    private void dispatch(EntityChange change) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        listenerTransaction.executeWithoutResult(status -> listeners.forEach(listener -> listener.onChange(change)));
+    }
+
+    private record BatchResult(int read, int delivered, long lastId) {
+    }
+}
@@ -0,0 +1,140 @@
+package com.mjc.school.outbox;
+
+import com.mjc.school.bus.InvalidationBus;
+import com.mjc.school.bus.InvalidationListener;
+import com.mjc.school.model.AggregateType;
+import com.mjc.school.model.ChangeType;
+import com.mjc.school.search.NewsDocument;
+import com.mjc.school.search.NewsDocumentReader;
+import com.mjc.school.search.NewsIndex;
+import com.mjc.school.search.TagIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Component
+public class SearchIndexListener implements EntityChangeListener, InvalidationListener, DisposableBean {
+    private final static Logger LOGGER = LoggerFactory.getLogger(SearchIndexListener.class);
+    private static final int CHUNK_SIZE = 500;
+    private static final String REGION_PREFIX = "search:";
+    private static final String REGION_SEPARATOR = ":";
+
+    private final NewsIndex newsIndex;
+    private final TagIndex tagIndex;
+    private final NewsDocumentReader newsDocumentReader;
+    private final InvalidationBus invalidationBus;
+    private final ExecutorService remoteUpdates = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "search-index-updates");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public SearchIndexListener(NewsIndex newsIndex, TagIndex tagIndex, NewsDocumentReader newsDocumentReader, InvalidationBus invalidationBus) {
+        this.newsIndex = newsIndex;
+        this.tagIndex = tagIndex;
+        this.newsDocumentReader = newsDocumentReader;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(this);
+    }
+
+    @Override
+    public void onChange(EntityChange change) {
+        apply(change.aggregateType(), change.aggregateId(), change.changeType());
+        invalidationBus.publish(REGION_PREFIX + change.aggregateType() + REGION_SEPARATOR + change.changeType(), List.of(change.aggregateId()));
+    }
+
+    @Override
+    public void onInvalidation(String region, List<Long> ids) {
+        if (!region.startsWith(REGION_PREFIX)) {
+            return;
+        }
+        String[] change = region.substring(REGION_PREFIX.length()).split(REGION_SEPARATOR);
+        AggregateType aggregateType = AggregateType.valueOf(change[0]);
+        ChangeType changeType = ChangeType.valueOf(change[1]);
+        remoteUpdates.execute(() -> ids.forEach(id -> applyRemote(aggregateType, id, changeType)));
+    }
+
+    @Override
+    public void onReset() {
+        remoteUpdates.execute(() -> {
+            LOGGER.info("Rebuilding search indexes after missed index updates");
+            try {
+                newsIndex.rebuild();
+                tagIndex.rebuild();
+            } catch (RuntimeException e) {
+                LOGGER.error("Unable to rebuild search indexes", e);
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        remoteUpdates.shutdownNow();
+    }
+
+    private void applyRemote(AggregateType aggregateType, Long id, ChangeType changeType) {
+        try {
+            apply(aggregateType, id, changeType);
+        } catch (RuntimeException e) {
+            LOGGER.error("Unable to apply {} {} {} to the local search indexes", aggregateType, id, changeType, e);
+        }
+    }
+
+    private void apply(AggregateType aggregateType, Long id, ChangeType changeType) {
+        switch (aggregateType) {
+            case NEWS -> {
+                if (changeType == ChangeType.DELETED) {
+                    newsIndex.delete(List.of(id));
+                    tagIndex.delete(List.of(id));
+                } else {
+                    reindex(List.of(id));
+                }
+            }
+            case AUTHOR -> {
+                if (changeType == ChangeType.DELETED) {
+                    List<Long> newsIds = newsIndex.readIdsByAuthorId(id);
+                    newsIndex.deleteByAuthorId(id);
+                    tagIndex.delete(newsIds);
+                } else if (changeType == ChangeType.UPDATED) {
+                    reindex(newsIndex.readIdsByAuthorId(id));
+                }
+            }
+            case TAG -> {
+                if (changeType != ChangeType.CREATED) {
+                    Set<Long> newsIds = new LinkedHashSet<>(newsIndex.readIdsByTagId(id));
+                    newsIds.addAll(newsDocumentReader.readIdsByTagId(id));
+                    reindex(newsIds);
+                }
+            }
+            case COMMENT -> {
+            }
+        }
+    }
+
+    private void reindex(Collection<Long> newsIds) {
+        List<Long> ids = List.copyOf(newsIds);
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            List<NewsDocument> documents = newsDocumentReader.readByIds(chunk);
+            newsIndex.update(documents);
+            tagIndex.update(documents);
+            Set<Long> missing = new LinkedHashSet<>(chunk);
+            documents.forEach(document -> missing.remove(document.id()));
+            if (!missing.isEmpty()) {
+                newsIndex.delete(missing);
+                tagIndex.delete(missing);
+            }
+        }
+        LOGGER.debug("Reindexed {} news", ids.size());
+    }
+}
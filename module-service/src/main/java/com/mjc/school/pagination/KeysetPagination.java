@@ -0,0 +1,125 @@
+package com.mjc.school.pagination;
+
+import com.mjc.school.dto.CursorPageDtoResponse;
+import com.mjc.school.exception.ValidationException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.mjc.school.exception.ExceptionErrorCodes.VALIDATION_EXCEPTION;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public final class KeysetPagination {
+    private static final String ID = "id";
+    private static final String ENTRY_SEPARATOR = "&";
+    private static final String KEY_SEPARATOR = "=";
+    private static final String TYPE_SEPARATOR = ":";
+    private static final String LONG_TYPE = "L";
+    private static final String INTEGER_TYPE = "I";
+    private static final String STRING_TYPE = "S";
+    private static final String DATE_TIME_TYPE = "T";
+    private static final String UNSUPPORTED_SORT = "sorting by '%s' is not supported in cursor mode, allowed keys are %s";
+    private static final String INVALID_CURSOR = "cursor '%s' is invalid for the requested sort";
+
+    private KeysetPagination() {
+    }
+
+    public static Sort seekSort(Sort requested, Set<String> indexedKeys) {
+        Sort sort = requested.isSorted() ? requested : Sort.by(Sort.Direction.ASC, ID);
+        Sort.Direction lastDirection = Sort.Direction.ASC;
+        for (Sort.Order order : sort) {
+            if (!indexedKeys.contains(order.getProperty())) {
+                throw new ValidationException(String.format(VALIDATION_EXCEPTION.getErrorMessage(),
+                        UNSUPPORTED_SORT.formatted(order.getProperty(), indexedKeys)));
+            }
+            lastDirection = order.getDirection();
+        }
+        if (sort.getOrderFor(ID) == null) {
+            sort = sort.and(Sort.by(lastDirection, ID));
+        }
+        return sort;
+    }
+
+    public static KeysetScrollPosition decode(String cursor, Sort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        Set<String> sortKeys = sort.stream().map(Sort.Order::getProperty).collect(Collectors.toSet());
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+            Map<String, Object> keys = new LinkedHashMap<>();
+            for (String entry : decoded.split(ENTRY_SEPARATOR)) {
+                String[] keyAndValue = entry.split(KEY_SEPARATOR, 2);
+                keys.put(URLDecoder.decode(keyAndValue[0], UTF_8), readValue(URLDecoder.decode(keyAndValue[1], UTF_8)));
+            }
+            if (!keys.keySet().equals(sortKeys)) {
+                throw invalidCursor(cursor);
+            }
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw invalidCursor(cursor);
+        }
+    }
+
+    public static String encode(KeysetScrollPosition position) {
+        StringJoiner joiner = new StringJoiner(ENTRY_SEPARATOR);
+        position.getKeys().forEach((key, value) ->
+                joiner.add(URLEncoder.encode(key, UTF_8) + KEY_SEPARATOR + URLEncoder.encode(writeValue(value), UTF_8)));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joiner.toString().getBytes(UTF_8));
+    }
+
+    public static <E, R> CursorPageDtoResponse<R> toPage(Window<E> window, Function<E, R> mapper) {
+        List<R> content = window.stream().map(mapper).toList();
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            nextCursor = encode((KeysetScrollPosition) window.positionAt(window.size() - 1));
+        }
+        return new CursorPageDtoResponse<>(content, window.hasNext(), nextCursor);
+    }
+
+    private static String writeValue(Object value) {
+        if (value instanceof Long) {
+            return LONG_TYPE + TYPE_SEPARATOR + value;
+        }
+        if (value instanceof Integer) {
+            return INTEGER_TYPE + TYPE_SEPARATOR + value;
+        }
+        if (value instanceof LocalDateTime) {
+            return DATE_TIME_TYPE + TYPE_SEPARATOR + value;
+        }
+        if (value instanceof String) {
+            return STRING_TYPE + TYPE_SEPARATOR + value;
+        }
+        throw new IllegalStateException("Unsupported keyset value " + value);
+    }
+
+    private static Object readValue(String typedValue) {
+        String[] typeAndValue = typedValue.split(TYPE_SEPARATOR, 2);
+        String value = typeAndValue[1];
+        return switch (typeAndValue[0]) {
+            case LONG_TYPE -> Long.valueOf(value);
+            case INTEGER_TYPE -> Integer.valueOf(value);
+            case DATE_TIME_TYPE -> LocalDateTime.parse(value);
+            case STRING_TYPE -> value;
+            default -> throw new IllegalArgumentException("Unknown keyset value type " + typeAndValue[0]);
+        };
+    }
+
+    private static ValidationException invalidCursor(String cursor) {
+        return new ValidationException(String.format(VALIDATION_EXCEPTION.getErrorMessage(), INVALID_CURSOR.formatted(cursor)));
+    }
+}
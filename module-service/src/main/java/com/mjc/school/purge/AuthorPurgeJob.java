@@ -0,0 +1,73 @@
+package com.mjc.school.purge;
+
+import com.mjc.school.bulk.AuthorPurger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static com.mjc.school.bulk.AuthorPurger.COMMENTS;
+import static com.mjc.school.bulk.AuthorPurger.NEWS;
+import static com.mjc.school.bulk.AuthorPurger.NEWS_TAGS;
+
+@Component
+public class AuthorPurgeJob {
+    private final static Logger LOGGER = LoggerFactory.getLogger(AuthorPurgeJob.class);
+
+    private final AuthorPurger authorPurger;
+    private final int authorsPerRun;
+    private final int chunkSize;
+
+    @Autowired
+    public AuthorPurgeJob(AuthorPurger authorPurger,
+                          @Value("${purge.authors.per-run}") int authorsPerRun,
+                          @Value("${purge.authors.chunk-size}") int chunkSize) {
+        this.authorPurger = authorPurger;
+        this.authorsPerRun = authorsPerRun;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${purge.authors.interval-ms}")
+    public int purgeDeletedAuthors() {
+        List<Long> authorIds = authorPurger.readDeletedAuthorIds(authorsPerRun);
+        int purged = 0;
+        for (Long authorId : authorIds) {
+            if (purge(authorId)) {
+                purged++;
+            }
+        }
+        if (!authorIds.isEmpty()) {
+            LOGGER.info("Purged {} of {} deleted authors picked up in this run", purged, authorIds.size());
+        }
+        return purged;
+    }
+
+    private boolean purge(Long authorId) {
+        LOGGER.info("Purging deleted author {}", authorId);
+        long comments = drain(authorId, COMMENTS, authorPurger::deleteComments);
+        long newsTags = drain(authorId, NEWS_TAGS, authorPurger::deleteNewsTags);
+        long news = drain(authorId, NEWS, authorPurger::deleteNews);
+        boolean deleted = authorPurger.deleteAuthor(authorId);
+        if (deleted) {
+            LOGGER.info("Purged deleted author {}: {} news, {} news tags, {} comments", authorId, news, newsTags, comments);
+        } else {
+            LOGGER.warn("Deleted author {} still has news after purge, retrying on the next run", authorId);
+        }
+        return deleted;
+    }
+
+    private long drain(Long authorId, String table, BiFunction<Long, Integer, Integer> deleteChunk) {
+        long total = 0;
+        int deleted;
+        while ((deleted = deleteChunk.apply(authorId, chunkSize)) > 0) {
+            total += deleted;
+            LOGGER.info("Purged {} rows from {} for deleted author {}, {} so far", deleted, table, authorId, total);
+        }
+        return total;
+    }
+}
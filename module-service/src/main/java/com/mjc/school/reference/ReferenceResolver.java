@@ -0,0 +1,86 @@
+package com.mjc.school.reference;
+
+import com.mjc.school.exception.NotFoundException;
+import com.mjc.school.model.Author;
+import com.mjc.school.model.BaseEntity;
+import com.mjc.school.model.Tag;
+import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.repository.TagRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.mjc.school.exception.ExceptionErrorCodes.AUTHOR_DOES_NOT_EXIST;
+import static com.mjc.school.exception.ExceptionErrorCodes.REFERENCES_DO_NOT_EXIST;
+import static com.mjc.school.exception.ExceptionErrorCodes.TAG_DOES_NOT_EXIST;
+
+@Component
+public class ReferenceResolver {
+    private final static Logger LOGGER = LoggerFactory.getLogger(ReferenceResolver.class);
+
+    private final AuthorRepository authorRepository;
+    private final TagRepository tagRepository;
+
+    @Autowired
+    public ReferenceResolver(AuthorRepository authorRepository, TagRepository tagRepository) {
+        this.authorRepository = authorRepository;
+        this.tagRepository = tagRepository;
+    }
+
+    public References resolve(Collection<Long> authorIds, Collection<Long> tagIds) {
+        Set<Long> requestedAuthorIds = distinct(authorIds);
+        Set<Long> requestedTagIds = distinct(tagIds);
+        Map<Long, Author> authors = load(requestedAuthorIds, authorRepository::findAllById);
+        Map<Long, Tag> tags = load(requestedTagIds, tagRepository::findAllById);
+        Set<Long> missingAuthorIds = missing(requestedAuthorIds, authors);
+        Set<Long> missingTagIds = missing(requestedTagIds, tags);
+        if (!missingAuthorIds.isEmpty() || !missingTagIds.isEmpty()) {
+            LOGGER.error("Referenced authors {} and tags {} not found", missingAuthorIds, missingTagIds);
+            throw missingReferences(missingAuthorIds, missingTagIds);
+        }
+        return new References(authors, tags);
+    }
+
+    private static Set<Long> distinct(Collection<Long> ids) {
+        return ids == null ? new LinkedHashSet<>()
+                : ids.stream().filter(Objects::nonNull).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static <T extends BaseEntity<Long>> Map<Long, T> load(Set<Long> ids, Function<Set<Long>, List<T>> finder) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return finder.apply(ids).stream().collect(Collectors.toMap(BaseEntity::getId, Function.identity()));
+    }
+
+    private static Set<Long> missing(Set<Long> requestedIds, Map<Long, ?> found) {
+        return requestedIds.stream().filter(id -> !found.containsKey(id)).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static NotFoundException missingReferences(Set<Long> missingAuthorIds, Set<Long> missingTagIds) {
+        if (missingAuthorIds.size() + missingTagIds.size() == 1) {
+            return missingAuthorIds.isEmpty()
+                    ? new NotFoundException(String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), missingTagIds.iterator().next()))
+                    : new NotFoundException(String.format(AUTHOR_DOES_NOT_EXIST.getErrorMessage(), missingAuthorIds.iterator().next()));
+        }
+        List<String> missing = new ArrayList<>();
+        if (!missingAuthorIds.isEmpty()) {
+            missing.add("authors " + missingAuthorIds);
+        }
+        if (!missingTagIds.isEmpty()) {
+            missing.add("tags " + missingTagIds);
+        }
+        return new NotFoundException(String.format(REFERENCES_DO_NOT_EXIST.getErrorMessage(), String.join(", ", missing)));
+    }
+}
@@ -0,0 +1,23 @@
+package com.mjc.school.reference;
+
+import com.mjc.school.model.Author;
+import com.mjc.school.model.Tag;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public record References(Map<Long, Author> authors, Map<Long, Tag> tags) {
+    public Author author(Long authorId) {
+        return authors.get(authorId);
+    }
+
+    public List<Tag> tags(Collection<Long> tagIds) {
+        List<Tag> resolved = new ArrayList<>();
+        if (tagIds != null) {
+            tagIds.stream().distinct().map(tags::get).forEach(resolved::add);
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,70 @@
+package com.mjc.school.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    public static final String LAST_WRITE_COOKIE = "last_write";
+    public static final String LAST_WRITE_HEADER = "X-Last-Write";
+    private static final String ROOT_PATH = "/";
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @Autowired
+    public ReadYourWritesFilter(ReadYourWritesTracker readYourWritesTracker) {
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        readYourWritesTracker.bind(lastWrite(request), lastWrite -> pin(response, lastWrite));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            readYourWritesTracker.unbind();
+        }
+    }
+
+    private void pin(HttpServletResponse response, long lastWrite) {
+        Cookie cookie = new Cookie(LAST_WRITE_COOKIE, String.valueOf(lastWrite));
+        cookie.setPath(ROOT_PATH);
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) TimeUnit.MILLISECONDS.toSeconds(readYourWritesTracker.getWindowMillis() + 999));
+        response.addCookie(cookie);
+        response.setHeader(LAST_WRITE_HEADER, String.valueOf(lastWrite));
+    }
+
+    private static Long lastWrite(HttpServletRequest request) {
+        String value = request.getHeader(LAST_WRITE_HEADER);
+        if (value == null && request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (LAST_WRITE_COOKIE.equals(cookie.getName())) {
+                    value = cookie.getValue();
+                }
+            }
+        }
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.mjc.school.service;
 
 import com.mjc.school.annotation.Valid;
+import com.mjc.school.dto.CursorPageDtoResponse;
 import com.mjc.school.dto.SearchingRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,6 +9,8 @@ import org.springframework.data.domain.Pageable;
 public interface BaseService<T, R, K> {
     Page<R> readAll(@Valid SearchingRequest searchingRequest, Pageable pageable);
 
+    CursorPageDtoResponse<R> scroll(@Valid SearchingRequest searchingRequest, String cursor, Pageable pageable);
+
     R readById(K id);
 
     R create(T createRequest);
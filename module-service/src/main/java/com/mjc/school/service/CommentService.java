@@ -2,9 +2,16 @@ package com.mjc.school.service;
 
 import com.mjc.school.dto.CommentDtoRequest;
 import com.mjc.school.dto.CommentDtoResponse;
+import com.mjc.school.dto.CursorPageDtoResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface CommentService extends BaseService<CommentDtoRequest, CommentDtoResponse, Long> {
     Page<CommentDtoResponse> readByNewsId(Long newsId, Pageable pageable);
+
+    CursorPageDtoResponse<CommentDtoResponse> scrollByNewsId(Long newsId, String cursor, Pageable pageable);
+
+    List<CommentDtoResponse> createAll(List<CommentDtoRequest> createRequests);
 }
@@ -0,0 +1,9 @@
+package com.mjc.school.service;
+
+import java.io.OutputStream;
+
+public interface ExportService {
+    long exportNews(OutputStream output);
+
+    long exportComments(OutputStream output);
+}
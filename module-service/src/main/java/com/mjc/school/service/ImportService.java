@@ -0,0 +1,12 @@
+package com.mjc.school.service;
+
+import com.mjc.school.dto.ImportFormat;
+import com.mjc.school.dto.ImportReportDtoResponse;
+
+import java.io.InputStream;
+
+public interface ImportService {
+    ImportReportDtoResponse importNews(InputStream input, ImportFormat format);
+
+    ImportReportDtoResponse importComments(InputStream input, ImportFormat format);
+}
@@ -2,10 +2,24 @@ package com.mjc.school.service;
 
 import com.mjc.school.dto.NewsDtoRequest;
 import com.mjc.school.dto.NewsDtoResponse;
+import com.mjc.school.dto.NewsFacetsDtoResponse;
+import com.mjc.school.dto.NewsSearchHitDtoResponse;
 import com.mjc.school.dto.ParametersDtoRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface NewsService extends BaseService<NewsDtoRequest, NewsDtoResponse, Long> {
     Page<NewsDtoResponse> readByParams(ParametersDtoRequest parametersDtoRequest, Pageable pageable);
+
+    Page<NewsDtoResponse> readByFullText(String query, Pageable pageable);
+
+    Page<NewsSearchHitDtoResponse> readByIndex(String query, Pageable pageable);
+
+    NewsFacetsDtoResponse readFacets(ParametersDtoRequest parametersDtoRequest, int limit);
+
+    long rebuildIndex();
+
+    List<NewsDtoResponse> createAll(List<NewsDtoRequest> createRequests);
 }
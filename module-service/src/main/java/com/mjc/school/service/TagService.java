@@ -1,5 +1,6 @@
 package com.mjc.school.service;
 
+import com.mjc.school.dto.RetagDtoRequest;
 import com.mjc.school.dto.TagDtoRequest;
 import com.mjc.school.dto.TagDtoResponse;
 import org.springframework.data.domain.Page;
@@ -7,4 +8,8 @@ import org.springframework.data.domain.Pageable;
 
 public interface TagService extends BaseService<TagDtoRequest, TagDtoResponse, Long> {
     Page<TagDtoResponse> readByNewsId(Long newsId, Pageable pageable);
+
+    void merge(Long sourceId, Long targetId);
+
+    void retag(Long id, RetagDtoRequest retagRequest);
 }
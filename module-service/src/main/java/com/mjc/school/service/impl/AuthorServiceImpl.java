@@ -1,26 +1,44 @@
 package com.mjc.school.service.impl;
 
+import com.mjc.school.annotation.ReadFromPrimary;
 import com.mjc.school.annotation.Valid;
+import com.mjc.school.bulk.OutboxWriter;
+import com.mjc.school.cache.ReadCacheInvalidator;
+import com.mjc.school.counter.EntityCounters;
 import com.mjc.school.dto.AuthorDtoRequest;
 import com.mjc.school.dto.AuthorDtoResponse;
+import com.mjc.school.dto.CursorPageDtoResponse;
 import com.mjc.school.dto.SearchingRequest;
 import com.mjc.school.exception.NotFoundException;
 import com.mjc.school.filter.EntitySpecification;
 import com.mjc.school.mapper.AuthorDtoMapper;
+import com.mjc.school.model.AggregateType;
 import com.mjc.school.model.Author;
+import com.mjc.school.model.ChangeType;
+import com.mjc.school.pagination.KeysetPagination;
 import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.repository.NewsRepository;
 import com.mjc.school.service.AuthorService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static com.mjc.school.cache.CacheNames.AUTHORS;
 import static com.mjc.school.exception.ExceptionErrorCodes.AUTHOR_DOES_NOT_EXIST;
 import static com.mjc.school.exception.ExceptionErrorCodes.NEWS_DOES_NOT_EXIST;
 
@@ -28,15 +46,24 @@ import static com.mjc.school.exception.ExceptionErrorCodes.NEWS_DOES_NOT_EXIST;
 @Scope(proxyMode = ScopedProxyMode.TARGET_CLASS)
 public class AuthorServiceImpl implements AuthorService {
     private static final Logger LOGGER = LoggerFactory.getLogger(AuthorServiceImpl.class);
+    private static final Set<String> SEEK_KEYS = Set.of("id", "name", "createDate", "lastUpdateDate");
 
     private final AuthorRepository authorRepository;
+    private final NewsRepository newsRepository;
 
     private final AuthorDtoMapper authorDtoMapper;
+    private final ReadCacheInvalidator readCacheInvalidator;
+    private final EntityCounters entityCounters;
+    private final OutboxWriter outboxWriter;
 
     @Autowired
-    public AuthorServiceImpl(AuthorRepository authorRepository, AuthorDtoMapper authorDtoMapper) {
+    public AuthorServiceImpl(AuthorRepository authorRepository, NewsRepository newsRepository, AuthorDtoMapper authorDtoMapper, ReadCacheInvalidator readCacheInvalidator, EntityCounters entityCounters, OutboxWriter outboxWriter) {
         this.authorRepository = authorRepository;
+        this.newsRepository = newsRepository;
         this.authorDtoMapper = authorDtoMapper;
+        this.readCacheInvalidator = readCacheInvalidator;
+        this.entityCounters = entityCounters;
+        this.outboxWriter = outboxWriter;
     }
 
     @Override
@@ -46,13 +73,24 @@ public class AuthorServiceImpl implements AuthorService {
         if (searchingRequest == null) {
             return authorRepository.findAll(pageable).map(authorDtoMapper::modelToDto);
         }
-        String[] specs = searchingRequest.getFieldNameAndValue().split(":");
-        Specification<Author> specification = EntitySpecification.searchByField(specs[0], specs[1]);
-        return authorRepository.findAll(specification, pageable).map(authorDtoMapper::modelToDto);
+        return authorRepository.findAll(toSpecification(searchingRequest), pageable).map(authorDtoMapper::modelToDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDtoResponse<AuthorDtoResponse> scroll(@Valid SearchingRequest searchingRequest, String cursor, Pageable pageable) {
+        LOGGER.info("Scrolling authors for {} after cursor {}", searchingRequest, cursor);
+        Sort sort = KeysetPagination.seekSort(pageable.getSort(), SEEK_KEYS);
+        KeysetScrollPosition position = KeysetPagination.decode(cursor, sort);
+        Window<Author> window = authorRepository.findBy(toSpecification(searchingRequest),
+                query -> query.sortBy(sort).limit(pageable.getPageSize()).scroll(position));
+        return KeysetPagination.toPage(window, authorDtoMapper::modelToDto);
     }
 
     @Override
     @Transactional(readOnly = true)
+    @ReadFromPrimary
+    @Cacheable(cacheNames = AUTHORS, sync = true)
     public AuthorDtoResponse readById(@Valid Long id) {
         LOGGER.info("Reading author by id {}", id);
         Author author = authorRepository.findById(id)
@@ -70,6 +108,7 @@ public class AuthorServiceImpl implements AuthorService {
 
         Author model = authorDtoMapper.dtoToModel(createRequest);
         Author author = authorRepository.save(model);
+        outboxWriter.append(AggregateType.AUTHOR, List.of(author.getId()), ChangeType.CREATED);
         return authorDtoMapper.modelToDto(author);
     }
 
@@ -85,6 +124,8 @@ public class AuthorServiceImpl implements AuthorService {
                 });
 
         author.setName(updateRequest.getName());
+        readCacheInvalidator.authorChanged(id);
+        outboxWriter.append(AggregateType.AUTHOR, List.of(id), ChangeType.UPDATED);
         return authorDtoMapper.modelToDto(authorRepository.save(author));
     }
 
@@ -105,6 +146,8 @@ public class AuthorServiceImpl implements AuthorService {
         }
 
         Author savedAuthor = authorRepository.save(prevAuthor);
+        readCacheInvalidator.authorChanged(id);
+        outboxWriter.append(AggregateType.AUTHOR, List.of(id), ChangeType.UPDATED);
         return authorDtoMapper.modelToDto(savedAuthor);
     }
 
@@ -116,7 +159,13 @@ public class AuthorServiceImpl implements AuthorService {
             LOGGER.warn("Author with id {} not found. Unable to delete author", id);
             throw new NotFoundException(String.format(AUTHOR_DOES_NOT_EXIST.getErrorMessage(), id));
         }
-        authorRepository.deleteById(id);
+        readCacheInvalidator.authorDeleted(id);
+        entityCounters.authorDeleted(id);
+        LocalDateTime deletedAt = LocalDateTime.now();
+        int news = newsRepository.markDeletedByAuthorId(id, deletedAt);
+        authorRepository.markDeleted(id, deletedAt);
+        outboxWriter.append(AggregateType.AUTHOR, List.of(id), ChangeType.DELETED);
+        LOGGER.info("Author with id {} and {} news marked deleted, rows are purged in background", id, news);
     }
 
     @Override
@@ -129,4 +178,11 @@ public class AuthorServiceImpl implements AuthorService {
         });
         return authorDtoMapper.modelToDto(author);
     }
+
+    private Specification<Author> toSpecification(SearchingRequest searchingRequest) {
+        if (searchingRequest == null) {
+            return Specification.where(null);
+        }
+        return EntitySpecification.searchByField(Author.class, searchingRequest.getFieldName(), searchingRequest.getFieldValue());
+    }
 }
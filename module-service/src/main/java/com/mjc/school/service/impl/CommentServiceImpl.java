@@ -1,48 +1,82 @@
 package com.mjc.school.service.impl;
 
+import com.mjc.school.annotation.ReadFromPrimary;
 import com.mjc.school.annotation.Valid;
+import com.mjc.school.bulk.OutboxWriter;
+import com.mjc.school.cache.ReadCacheInvalidator;
+import com.mjc.school.counter.EntityCounters;
 import com.mjc.school.dto.CommentDtoRequest;
 import com.mjc.school.dto.CommentDtoResponse;
+import com.mjc.school.dto.CursorPageDtoResponse;
+import com.mjc.school.dto.NewsDtoResponse;
 import com.mjc.school.dto.SearchingRequest;
+import com.mjc.school.dto.TagDtoResponse;
 import com.mjc.school.exception.NotFoundException;
+import com.mjc.school.exception.ValidationException;
 import com.mjc.school.filter.EntitySpecification;
 import com.mjc.school.mapper.CommentDtoMapper;
 import com.mjc.school.mapper.NewsDtoMapper;
+import com.mjc.school.model.AggregateType;
+import com.mjc.school.model.ChangeType;
 import com.mjc.school.model.Comment;
+import com.mjc.school.model.News;
+import com.mjc.school.pagination.KeysetPagination;
+import com.mjc.school.projection.NewsSummary;
+import com.mjc.school.projection.NewsTagSummary;
 import com.mjc.school.repository.CommentRepository;
 import com.mjc.school.repository.NewsRepository;
 import com.mjc.school.service.CommentService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.mjc.school.cache.CacheNames.COMMENTS;
 import static com.mjc.school.exception.ExceptionErrorCodes.COMMENT_DOES_NOT_EXIST;
 import static com.mjc.school.exception.ExceptionErrorCodes.NEWS_DOES_NOT_EXIST;
+import static com.mjc.school.exception.ExceptionErrorCodes.VALIDATION_EXCEPTION;
 
 @Service
 @Scope(proxyMode = ScopedProxyMode.TARGET_CLASS)
 public class CommentServiceImpl implements CommentService {
     private final static Logger LOGGER = LoggerFactory.getLogger(CommentServiceImpl.class);
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final Set<String> SEEK_KEYS = Set.of("id", "createDate", "lastUpdateDate");
 
     private final CommentRepository commentRepository;
     private final NewsRepository newsRepository;
 
     private final CommentDtoMapper commentDtoMapper;
     private final NewsDtoMapper newsDtoMapper;
+    private final ReadCacheInvalidator readCacheInvalidator;
+    private final EntityCounters entityCounters;
+    private final OutboxWriter outboxWriter;
 
     @Autowired
-    public CommentServiceImpl(CommentRepository commentRepository, NewsRepository newsRepository, CommentDtoMapper commentDtoMapper, NewsDtoMapper newsDtoMapper) {
+    public CommentServiceImpl(CommentRepository commentRepository, NewsRepository newsRepository, CommentDtoMapper commentDtoMapper, NewsDtoMapper newsDtoMapper, ReadCacheInvalidator readCacheInvalidator, EntityCounters entityCounters, OutboxWriter outboxWriter) {
         this.commentRepository = commentRepository;
         this.newsRepository = newsRepository;
         this.commentDtoMapper = commentDtoMapper;
         this.newsDtoMapper = newsDtoMapper;
+        this.readCacheInvalidator = readCacheInvalidator;
+        this.entityCounters = entityCounters;
+        this.outboxWriter = outboxWriter;
     }
 
     @Override
@@ -50,15 +84,26 @@ public class CommentServiceImpl implements CommentService {
     public Page<CommentDtoResponse> readAll(@Valid SearchingRequest searchingRequest, Pageable pageable) {
         LOGGER.info("Reading all the comments for {}", searchingRequest);
         if (searchingRequest == null) {
-            return commentRepository.findAll(pageable).map(comment -> commentDtoMapper.modelToDto(comment, newsDtoMapper));
+            return toDtoPage(commentRepository.findAll(pageable));
         }
-        String[] specs = searchingRequest.getFieldNameAndValue().split(":");
-        Specification<Comment> specification = EntitySpecification.searchByField(specs[0], specs[1]);
-        return commentRepository.findAll(specification, pageable).map(comment -> commentDtoMapper.modelToDto(comment, newsDtoMapper));
+        return toDtoPage(commentRepository.findAll(toSpecification(searchingRequest), pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDtoResponse<CommentDtoResponse> scroll(@Valid SearchingRequest searchingRequest, String cursor, Pageable pageable) {
+        LOGGER.info("Scrolling the comments for {} after cursor {}", searchingRequest, cursor);
+        Sort sort = KeysetPagination.seekSort(pageable.getSort(), SEEK_KEYS);
+        KeysetScrollPosition position = KeysetPagination.decode(cursor, sort);
+        Window<Comment> window = commentRepository.findBy(toSpecification(searchingRequest),
+                query -> query.sortBy(sort).limit(pageable.getPageSize()).scroll(position));
+        return toDtoPage(window);
     }
 
     @Override
     @Transactional(readOnly = true)
+    @ReadFromPrimary
+    @Cacheable(cacheNames = COMMENTS, sync = true)
     public CommentDtoResponse readById(@Valid Long id) {
         LOGGER.info("Reading comment with id {}", id);
         Comment comment = commentRepository.findById(id)
@@ -78,7 +123,41 @@ public class CommentServiceImpl implements CommentService {
             throw new NotFoundException(String.format(NEWS_DOES_NOT_EXIST.getErrorMessage(), createRequest.getNewsId()));
         }
         Comment model = commentDtoMapper.dtoToModel(createRequest, newsRepository);
-        return commentDtoMapper.modelToDto(commentRepository.save(model), newsDtoMapper);
+        Comment savedComment = commentRepository.save(model);
+        entityCounters.commentsAdded(List.of(createRequest.getNewsId()));
+        readCacheInvalidator.newsChanged(List.of(createRequest.getNewsId()));
+        outboxWriter.append(AggregateType.COMMENT, List.of(savedComment.getId()), ChangeType.CREATED);
+        return commentDtoMapper.modelToDto(savedComment, newsDtoMapper);
+    }
+
+    @Override
+    @Transactional
+    public List<CommentDtoResponse> createAll(@Valid List<CommentDtoRequest> createRequests) {
+        LOGGER.info("Creating {} comments in batch", createRequests.size());
+        if (createRequests.isEmpty() || createRequests.size() > MAX_BATCH_SIZE) {
+            LOGGER.error("Comment batch size {} is out of range", createRequests.size());
+            throw new ValidationException(String.format(VALIDATION_EXCEPTION.getErrorMessage(),
+                    "batch size must be between 1 and " + MAX_BATCH_SIZE));
+        }
+        Set<Long> newsIds = createRequests.stream().map(CommentDtoRequest::getNewsId).collect(Collectors.toSet());
+        Set<Long> foundNewsIds = newsRepository.findAllById(newsIds).stream().map(News::getId).collect(Collectors.toSet());
+        for (Long newsId : newsIds) {
+            if (!foundNewsIds.contains(newsId)) {
+                LOGGER.error("News with id {} not found. Unable to create comment batch", newsId);
+                throw new NotFoundException(String.format(NEWS_DOES_NOT_EXIST.getErrorMessage(), newsId));
+            }
+        }
+        List<Comment> models = createRequests.stream()
+                .map(request -> commentDtoMapper.dtoToModel(request, newsRepository))
+                .toList();
+        List<Comment> savedComments = commentRepository.saveAll(models);
+        entityCounters.commentsAdded(createRequests.stream().map(CommentDtoRequest::getNewsId).toList());
+        readCacheInvalidator.newsChanged(newsIds);
+        outboxWriter.append(AggregateType.COMMENT, savedComments.stream().map(Comment::getId).toList(), ChangeType.CREATED);
+        Map<Long, NewsDtoResponse> newsById = readNews(savedComments);
+        return savedComments.stream()
+                .map(comment -> commentDtoMapper.modelToDto(comment, newsById.get(comment.getNews().getId())))
+                .toList();
     }
 
     @Override
@@ -91,6 +170,8 @@ public class CommentServiceImpl implements CommentService {
                     return new NotFoundException(String.format(COMMENT_DOES_NOT_EXIST.getErrorMessage(), id));
                 });
         prevComment.setContent(updateRequest.getContent());
+        readCacheInvalidator.commentChanged(id);
+        outboxWriter.append(AggregateType.COMMENT, List.of(id), ChangeType.UPDATED);
 
         return commentDtoMapper.modelToDto(commentRepository.save(prevComment), newsDtoMapper);
     }
@@ -111,6 +192,8 @@ public class CommentServiceImpl implements CommentService {
         }
 
         Comment savedComment = commentRepository.save(prevComment);
+        readCacheInvalidator.commentChanged(id);
+        outboxWriter.append(AggregateType.COMMENT, List.of(id), ChangeType.UPDATED);
         return commentDtoMapper.modelToDto(savedComment, newsDtoMapper);
     }
 
@@ -118,11 +201,17 @@ public class CommentServiceImpl implements CommentService {
     @Transactional
     public void deleteById(@Valid Long id) {
         LOGGER.info("Deleting comment with id {}", id);
-        if (!commentRepository.existsById(id)) {
-            LOGGER.error("Comment with id {} not found. Unable to delete comment", id);
-            throw new NotFoundException(String.format(COMMENT_DOES_NOT_EXIST.getErrorMessage(), id));
-        }
-        commentRepository.deleteById(id);
+        Comment comment = commentRepository.findById(id)
+                .orElseThrow(() -> {
+                    LOGGER.error("Comment with id {} not found. Unable to delete comment", id);
+                    return new NotFoundException(String.format(COMMENT_DOES_NOT_EXIST.getErrorMessage(), id));
+                });
+        Long newsId = comment.getNews().getId();
+        readCacheInvalidator.commentChanged(id);
+        commentRepository.delete(comment);
+        entityCounters.commentsRemoved(List.of(newsId));
+        readCacheInvalidator.newsChanged(List.of(newsId));
+        outboxWriter.append(AggregateType.COMMENT, List.of(id), ChangeType.DELETED);
     }
 
     @Override
@@ -133,6 +222,51 @@ public class CommentServiceImpl implements CommentService {
             LOGGER.error("News with id {} not found. Unable to read comments", newsId);
             throw new NotFoundException(String.format(NEWS_DOES_NOT_EXIST.getErrorMessage(), newsId));
         }
-        return commentRepository.readByNewsId(newsId, pageable).map(comment -> commentDtoMapper.modelToDto(comment, newsDtoMapper));
+        return toDtoPage(commentRepository.readByNewsId(newsId, pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDtoResponse<CommentDtoResponse> scrollByNewsId(@Valid Long newsId, String cursor, Pageable pageable) {
+        LOGGER.info("Scrolling comments by news id {} after cursor {}", newsId, cursor);
+        if (!newsRepository.existsById(newsId)) {
+            LOGGER.error("News with id {} not found. Unable to scroll comments", newsId);
+            throw new NotFoundException(String.format(NEWS_DOES_NOT_EXIST.getErrorMessage(), newsId));
+        }
+        Sort sort = KeysetPagination.seekSort(pageable.getSort(), SEEK_KEYS);
+        KeysetScrollPosition position = KeysetPagination.decode(cursor, sort);
+        Window<Comment> window = commentRepository.findBy(EntitySpecification.belongsTo("news", newsId),
+                query -> query.sortBy(sort).limit(pageable.getPageSize()).scroll(position));
+        return toDtoPage(window);
+    }
+
+    private Page<CommentDtoResponse> toDtoPage(Page<Comment> comments) {
+        Map<Long, NewsDtoResponse> newsById = readNews(comments.getContent());
+        return comments.map(comment -> commentDtoMapper.modelToDto(comment, newsById.get(comment.getNews().getId())));
+    }
+
+    private CursorPageDtoResponse<CommentDtoResponse> toDtoPage(Window<Comment> comments) {
+        Map<Long, NewsDtoResponse> newsById = readNews(comments.getContent());
+        return KeysetPagination.toPage(comments, comment -> commentDtoMapper.modelToDto(comment, newsById.get(comment.getNews().getId())));
+    }
+
+    private Map<Long, NewsDtoResponse> readNews(List<Comment> comments) {
+        List<Long> newsIds = comments.stream().map(comment -> comment.getNews().getId()).distinct().toList();
+        if (newsIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<TagDtoResponse>> tagsByNewsId = newsRepository.readTagSummariesByNewsIdIn(newsIds).stream()
+                .collect(Collectors.groupingBy(NewsTagSummary::newsId,
+                        Collectors.mapping(tag -> new TagDtoResponse(tag.tagId(), tag.tagName()), Collectors.toList())));
+        return newsRepository.readSummariesByIdIn(newsIds).stream()
+                .collect(Collectors.toMap(NewsSummary::id,
+                        summary -> newsDtoMapper.summaryToDto(summary, tagsByNewsId.getOrDefault(summary.id(), new ArrayList<>()))));
+    }
+
+    private Specification<Comment> toSpecification(SearchingRequest searchingRequest) {
+        if (searchingRequest == null) {
+            return Specification.where(null);
+        }
+        return EntitySpecification.searchByField(Comment.class, searchingRequest.getFieldName(), searchingRequest.getFieldValue());
     }
 }
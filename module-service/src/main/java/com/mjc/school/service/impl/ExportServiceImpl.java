@@ -0,0 +1,95 @@
+package com.mjc.school.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mjc.school.mapper.CommentDtoMapper;
+import com.mjc.school.mapper.NewsDtoMapper;
+import com.mjc.school.model.Comment;
+import com.mjc.school.model.News;
+import com.mjc.school.repository.CommentRepository;
+import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.service.ExportService;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Scope;
+import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Service
+@Scope(proxyMode = ScopedProxyMode.TARGET_CLASS)
+public class ExportServiceImpl implements ExportService {
+    private final static Logger LOGGER = LoggerFactory.getLogger(ExportServiceImpl.class);
+    private static final int CLEAR_INTERVAL = 500;
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final NewsRepository newsRepository;
+    private final CommentRepository commentRepository;
+    private final NewsDtoMapper newsDtoMapper;
+    private final CommentDtoMapper commentDtoMapper;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public ExportServiceImpl(NewsRepository newsRepository, CommentRepository commentRepository, NewsDtoMapper newsDtoMapper, CommentDtoMapper commentDtoMapper, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.newsRepository = newsRepository;
+        this.commentRepository = commentRepository;
+        this.newsDtoMapper = newsDtoMapper;
+        this.commentDtoMapper = commentDtoMapper;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportNews(OutputStream output) {
+        LOGGER.info("Exporting all the news");
+        try (Stream<News> news = newsRepository.streamAll()) {
+            long exported = write(news.iterator(), newsDtoMapper::modelToDto, output);
+            LOGGER.info("Exported {} news", exported);
+            return exported;
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportComments(OutputStream output) {
+        LOGGER.info("Exporting all the comments");
+        try (Stream<Comment> comments = commentRepository.streamAll()) {
+            long exported = write(comments.iterator(), comment -> commentDtoMapper.modelToDto(comment, newsDtoMapper), output);
+            LOGGER.info("Exported {} comments", exported);
+            return exported;
+        }
+    }
+
+    private <T> long write(Iterator<T> models, Function<T, ?> mapper, OutputStream output) {
+        long written = 0;
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.createGenerator(output).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            generator.setRootValueSeparator(null);
+            while (models.hasNext()) {
+                writer.writeValue(generator, mapper.apply(models.next()));
+                generator.writeRaw(LINE_SEPARATOR);
+                if (++written % CLEAR_INTERVAL == 0) {
+                    generator.flush();
+                    entityManager.clear();
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error("Export interrupted after {} records", written, e);
+            throw new UncheckedIOException(e);
+        }
+        return written;
+    }
+}
@@ -0,0 +1,247 @@
+package com.mjc.school.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mjc.school.bulk.BulkCommentRow;
+import com.mjc.school.bulk.BulkNewsRow;
+import com.mjc.school.bulk.BulkWriter;
+import com.mjc.school.cache.ReadCacheInvalidator;
+import com.mjc.school.dto.CommentDtoRequest;
+import com.mjc.school.dto.ImportErrorDtoResponse;
+import com.mjc.school.dto.ImportFormat;
+import com.mjc.school.dto.ImportReportDtoResponse;
+import com.mjc.school.dto.NewsDtoRequest;
+import com.mjc.school.importer.CsvRecordReader;
+import com.mjc.school.importer.IdLookup;
+import com.mjc.school.importer.ImportRecord;
+import com.mjc.school.importer.NdjsonRecordReader;
+import com.mjc.school.importer.RecordReader;
+import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.repository.TagRepository;
+import com.mjc.school.service.ImportService;
+import com.mjc.school.validator.ConstraintViolation;
+import com.mjc.school.validator.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Scope;
+import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.mjc.school.exception.ExceptionErrorCodes.AUTHOR_DOES_NOT_EXIST;
+import static com.mjc.school.exception.ExceptionErrorCodes.ENTITY_ALREADY_EXISTS;
+import static com.mjc.school.exception.ExceptionErrorCodes.NEWS_DOES_NOT_EXIST;
+import static com.mjc.school.exception.ExceptionErrorCodes.TAG_DOES_NOT_EXIST;
+import static com.mjc.school.exception.ExceptionErrorCodes.VALIDATION_EXCEPTION;
+
+@Service
+@Scope(proxyMode = ScopedProxyMode.TARGET_CLASS)
+public class ImportServiceImpl implements ImportService {
+    private final static Logger LOGGER = LoggerFactory.getLogger(ImportServiceImpl.class);
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final String TAG_IDS_SEPARATOR = ";";
+
+    private final BulkWriter bulkWriter;
+    private final NewsRepository newsRepository;
+    private final AuthorRepository authorRepository;
+    private final TagRepository tagRepository;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ReadCacheInvalidator readCacheInvalidator;
+
+    @Autowired
+    public ImportServiceImpl(BulkWriter bulkWriter, NewsRepository newsRepository, AuthorRepository authorRepository, TagRepository tagRepository, Validator validator, ObjectMapper objectMapper, ReadCacheInvalidator readCacheInvalidator) {
+        this.bulkWriter = bulkWriter;
+        this.newsRepository = newsRepository;
+        this.authorRepository = authorRepository;
+        this.tagRepository = tagRepository;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.readCacheInvalidator = readCacheInvalidator;
+    }
+
+    @Override
+    public ImportReportDtoResponse importNews(InputStream input, ImportFormat format) {
+        LOGGER.info("Importing news from {} stream", format);
+        IdLookup authors = new IdLookup(authorRepository::readExistingIds);
+        IdLookup tags = new IdLookup(tagRepository::readExistingIds);
+        ImportReportDtoResponse report = importRecords(
+                recordReader(input, format, NewsDtoRequest.class, ImportServiceImpl::toNewsRequest),
+                (chunk, summary) -> writeNews(chunk, summary, authors, tags));
+        LOGGER.info("News import finished: {} imported, {} failed", report.getImported(), report.getFailed());
+        return report;
+    }
+
+    @Override
+    public ImportReportDtoResponse importComments(InputStream input, ImportFormat format) {
+        LOGGER.info("Importing comments from {} stream", format);
+        IdLookup news = new IdLookup(newsRepository::readExistingIds);
+        ImportReportDtoResponse report = importRecords(
+                recordReader(input, format, CommentDtoRequest.class, ImportServiceImpl::toCommentRequest),
+                (chunk, summary) -> writeComments(chunk, summary, news));
+        LOGGER.info("Comment import finished: {} imported, {} failed", report.getImported(), report.getFailed());
+        return report;
+    }
+
+    private <T> ImportReportDtoResponse importRecords(RecordReader<T> reader, BiConsumer<List<ImportRecord<T>>, ImportSummary> writer) {
+        ImportSummary summary = new ImportSummary();
+        List<ImportRecord<T>> chunk = new ArrayList<>(CHUNK_SIZE);
+        try {
+            ImportRecord<T> record;
+            while ((record = reader.next()) != null) {
+                summary.processed++;
+                if (record.isFailure()) {
+                    summary.reject(record.line(), record.error());
+                    continue;
+                }
+                Set<ConstraintViolation> violations = validator.validate(record.value());
+                if (!violations.isEmpty()) {
+                    summary.reject(record.line(), String.format(VALIDATION_EXCEPTION.getErrorMessage(),
+                            violations.stream().map(ConstraintViolation::message).sorted().collect(Collectors.joining("; "))));
+                    continue;
+                }
+                chunk.add(record);
+                if (chunk.size() == CHUNK_SIZE) {
+                    writer.accept(chunk, summary);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error("Unable to read import stream after {} records", summary.processed, e);
+            throw new UncheckedIOException(e);
+        }
+        if (!chunk.isEmpty()) {
+            writer.accept(chunk, summary);
+        }
+        return summary.toDto();
+    }
+
+    private void writeNews(List<ImportRecord<NewsDtoRequest>> chunk, ImportSummary summary, IdLookup authors, IdLookup tags) {
+        authors.load(chunk.stream().map(record -> record.value().getAuthorId()).toList());
+        tags.load(chunk.stream()
+                .filter(record -> record.value().getTagIds() != null)
+                .flatMap(record -> record.value().getTagIds().stream())
+                .toList());
+        Set<String> takenTitles = new HashSet<>(newsRepository.readExistingTitles(
+                chunk.stream().map(record -> record.value().getTitle()).collect(Collectors.toSet())));
+
+        List<BulkNewsRow> rows = new ArrayList<>(chunk.size());
+        List<Long> lines = new ArrayList<>(chunk.size());
+        for (ImportRecord<NewsDtoRequest> record : chunk) {
+            NewsDtoRequest request = record.value();
+            Set<Long> tagIds = request.getTagIds() == null ? Set.of() : new LinkedHashSet<>(request.getTagIds());
+            Long missingTagId = tagIds.stream().filter(tagId -> !tags.contains(tagId)).findFirst().orElse(null);
+            if (!authors.contains(request.getAuthorId())) {
+                summary.reject(record.line(), String.format(AUTHOR_DOES_NOT_EXIST.getErrorMessage(), request.getAuthorId()));
+            } else if (missingTagId != null) {
+                summary.reject(record.line(), String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), missingTagId));
+            } else if (!takenTitles.add(request.getTitle())) {
+                summary.reject(record.line(), String.format(ENTITY_ALREADY_EXISTS.getErrorMessage(), request.getTitle()));
+            } else {
+                rows.add(new BulkNewsRow(request.getTitle(), request.getContent(), request.getAuthorId(), tagIds));
+                lines.add(record.line());
+            }
+        }
+        if (write(rows, lines, summary, bulkWriter::insertNews)) {
+            readCacheInvalidator.newsLinksChanged(
+                    rows.stream().map(BulkNewsRow::authorId).collect(Collectors.toSet()),
+                    rows.stream().flatMap(row -> row.tagIds().stream()).collect(Collectors.toSet()));
+        }
+    }
+
+    private void writeComments(List<ImportRecord<CommentDtoRequest>> chunk, ImportSummary summary, IdLookup news) {
+        news.load(chunk.stream().map(record -> record.value().getNewsId()).toList());
+
+        List<BulkCommentRow> rows = new ArrayList<>(chunk.size());
+        List<Long> lines = new ArrayList<>(chunk.size());
+        for (ImportRecord<CommentDtoRequest> record : chunk) {
+            CommentDtoRequest request = record.value();
+            if (!news.contains(request.getNewsId())) {
+                summary.reject(record.line(), String.format(NEWS_DOES_NOT_EXIST.getErrorMessage(), request.getNewsId()));
+            } else {
+                rows.add(new BulkCommentRow(request.getContent(), request.getNewsId()));
+                lines.add(record.line());
+            }
+        }
+        if (write(rows, lines, summary, bulkWriter::insertComments)) {
+            readCacheInvalidator.newsChanged(rows.stream().map(BulkCommentRow::newsId).collect(Collectors.toSet()));
+        }
+    }
+
+    private <R> boolean write(List<R> rows, List<Long> lines, ImportSummary summary, Function<List<R>, List<Long>> writer) {
+        if (rows.isEmpty()) {
+            return false;
+        }
+        try {
+            summary.imported += writer.apply(rows).size();
+            return true;
+        } catch (DataAccessException e) {
+            LOGGER.error("Import chunk of {} records starting at line {} was rolled back", rows.size(), lines.get(0), e);
+            String message = "Chunk was rolled back: " + e.getMostSpecificCause().getMessage();
+            for (Long line : lines) {
+                summary.reject(line, message);
+            }
+            return false;
+        }
+    }
+
+    private <T> RecordReader<T> recordReader(InputStream input, ImportFormat format, Class<T> type, Function<Map<String, String>, T> csvMapper) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return switch (format) {
+            case NDJSON -> new NdjsonRecordReader<>(reader, objectMapper, type);
+            case CSV -> new CsvRecordReader<>(reader, csvMapper);
+        };
+    }
+
+    private static NewsDtoRequest toNewsRequest(Map<String, String> values) {
+        List<Long> tagIds = values.get("tagIds") == null || values.get("tagIds").isBlank()
+                ? List.of()
+                : Arrays.stream(values.get("tagIds").split(TAG_IDS_SEPARATOR)).map(ImportServiceImpl::toId).toList();
+        return new NewsDtoRequest(values.get("title"), values.get("content"), toId(values.get("authorId")), tagIds);
+    }
+
+    private static CommentDtoRequest toCommentRequest(Map<String, String> values) {
+        return new CommentDtoRequest(values.get("content"), toId(values.get("newsId")));
+    }
+
+    private static Long toId(String value) {
+        return value == null || value.isBlank() ? null : Long.valueOf(value.trim());
+    }
+
+    private static class ImportSummary {
+        private final List<ImportErrorDtoResponse> errors = new ArrayList<>();
+        private long processed;
+        private long imported;
+        private long failed;
+
+        private void reject(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportErrorDtoResponse(line, message));
+            }
+        }
+
+        private ImportReportDtoResponse toDto() {
+            return new ImportReportDtoResponse(processed, imported, failed, errors);
+        }
+    }
+}
@@ -1,69 +1,131 @@
 package com.mjc.school.service.impl;
 
+import com.mjc.school.annotation.ReadFromPrimary;
 import com.mjc.school.annotation.Valid;
+import com.mjc.school.bulk.OutboxWriter;
+import com.mjc.school.cache.ReadCacheInvalidator;
+import com.mjc.school.counter.EntityCounters;
+import com.mjc.school.counter.NewsLinks;
+import com.mjc.school.dto.CursorPageDtoResponse;
+import com.mjc.school.dto.FacetDtoResponse;
+import com.mjc.school.dto.HighlightDtoResponse;
 import com.mjc.school.dto.NewsDtoRequest;
 import com.mjc.school.dto.NewsDtoResponse;
+import com.mjc.school.dto.NewsFacetsDtoResponse;
+import com.mjc.school.dto.NewsSearchHitDtoResponse;
 import com.mjc.school.dto.ParametersDtoRequest;
 import com.mjc.school.dto.SearchingRequest;
+import com.mjc.school.dto.TagDtoResponse;
 import com.mjc.school.exception.NotFoundException;
+import com.mjc.school.exception.ValidationException;
 import com.mjc.school.filter.EntitySpecification;
+import com.mjc.school.filter.NewsSpecification;
 import com.mjc.school.mapper.NewsDtoMapper;
+import com.mjc.school.model.AggregateType;
 import com.mjc.school.model.Author;
+import com.mjc.school.model.ChangeType;
 import com.mjc.school.model.News;
-import com.mjc.school.model.SearchParameters;
 import com.mjc.school.model.Tag;
-import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.pagination.KeysetPagination;
+import com.mjc.school.projection.NewsFacetCount;
+import com.mjc.school.projection.NewsSummary;
+import com.mjc.school.projection.NewsTagSummary;
+import com.mjc.school.reference.ReferenceResolver;
+import com.mjc.school.reference.References;
 import com.mjc.school.repository.NewsRepository;
-import com.mjc.school.repository.TagRepository;
+import com.mjc.school.routing.ReadYourWritesTracker;
+import com.mjc.school.search.NewsIdSet;
+import com.mjc.school.search.NewsIndex;
+import com.mjc.school.search.SearchHit;
+import com.mjc.school.search.SearchPage;
+import com.mjc.school.search.TagIndex;
+import com.mjc.school.search.TagExpression;
 import com.mjc.school.service.NewsService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static com.mjc.school.cache.CacheNames.NEWS;
 import static com.mjc.school.exception.ExceptionErrorCodes.*;
 
 @Service
 @Scope(proxyMode = ScopedProxyMode.TARGET_CLASS)
 public class NewsServiceImpl implements NewsService {
     private static final Logger LOGGER = LoggerFactory.getLogger(NewsServiceImpl.class);
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final int MAX_SEARCH_WINDOW = 10000;
+    private static final int MAX_FACET_LIMIT = 100;
+    private static final Set<String> SEEK_KEYS = Set.of("id", "title", "createDate", "lastUpdateDate");
+    private static final String ID = "id";
 
     private final NewsRepository newsRepository;
-    private final AuthorRepository authorRepository;
-    private final TagRepository tagRepository;
+    private final ReferenceResolver referenceResolver;
     private final NewsDtoMapper newsDtoMapper;
+    private final ReadCacheInvalidator readCacheInvalidator;
+    private final EntityCounters entityCounters;
+    private final OutboxWriter outboxWriter;
+    private final NewsIndex newsIndex;
+    private final TagIndex tagIndex;
+    private final ReadYourWritesTracker readYourWritesTracker;
 
     @Autowired
-    public NewsServiceImpl(NewsRepository newsRepository, AuthorRepository authorRepository, TagRepository tagRepository, NewsDtoMapper newsDtoMapper) {
+    public NewsServiceImpl(NewsRepository newsRepository, ReferenceResolver referenceResolver, NewsDtoMapper newsDtoMapper, ReadCacheInvalidator readCacheInvalidator, EntityCounters entityCounters, OutboxWriter outboxWriter, NewsIndex newsIndex, TagIndex tagIndex, ReadYourWritesTracker readYourWritesTracker) {
         this.newsRepository = newsRepository;
-        this.authorRepository = authorRepository;
-        this.tagRepository = tagRepository;
+        this.referenceResolver = referenceResolver;
         this.newsDtoMapper = newsDtoMapper;
+        this.readCacheInvalidator = readCacheInvalidator;
+        this.entityCounters = entityCounters;
+        this.outboxWriter = outboxWriter;
+        this.newsIndex = newsIndex;
+        this.tagIndex = tagIndex;
+        this.readYourWritesTracker = readYourWritesTracker;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<NewsDtoResponse> readAll(@Valid SearchingRequest searchingRequest, Pageable pageable) {
         LOGGER.info("Reading all the news for {}", searchingRequest);
-        if (searchingRequest == null) {
-            return newsRepository.findAll(pageable).map(newsDtoMapper::modelToDto);
-        }
-        String[] specs = searchingRequest.getFieldNameAndValue().split(":");
-        Specification<News> specification = EntitySpecification.searchByField(specs[0], specs[1]);
-        return newsRepository.findAll(specification, pageable).map(newsDtoMapper::modelToDto);
+        return toDtoPage(newsRepository.findSummaries(toSpecification(searchingRequest), pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDtoResponse<NewsDtoResponse> scroll(@Valid SearchingRequest searchingRequest, String cursor, Pageable pageable) {
+        LOGGER.info("Scrolling the news for {} after cursor {}", searchingRequest, cursor);
+        Sort sort = KeysetPagination.seekSort(pageable.getSort(), SEEK_KEYS);
+        KeysetScrollPosition position = KeysetPagination.decode(cursor, sort);
+        Window<News> window = newsRepository.findBy(toSpecification(searchingRequest),
+                query -> query.sortBy(sort).limit(pageable.getPageSize()).scroll(position));
+        return KeysetPagination.toPage(window, newsDtoMapper::modelToDto);
     }
 
     @Override
     @Transactional(readOnly = true)
+    @ReadFromPrimary
+    @Cacheable(cacheNames = NEWS, sync = true)
     public NewsDtoResponse readById(@Valid Long id) {
         LOGGER.info("Reading news with id {}", id);
         News news = newsRepository.findById(id)
@@ -78,12 +140,38 @@ public class NewsServiceImpl implements NewsService {
     @Transactional
     public NewsDtoResponse create(@Valid NewsDtoRequest createRequest) {
         LOGGER.info("Creating new news {}", createRequest.toString());
-        if (!authorRepository.existsById(createRequest.getAuthorId())) {
-            LOGGER.error("Author with id {} not found. Unable to create news", createRequest.getAuthorId());
-            throw new NotFoundException(String.format(AUTHOR_DOES_NOT_EXIST.getErrorMessage(), createRequest.getAuthorId()));
+        References references = referenceResolver.resolve(authorIdOf(createRequest.getAuthorId()), tagIdsOf(createRequest));
+        News model = newsDtoMapper.dtoToModel(createRequest, references);
+        readCacheInvalidator.newsLinksChanged(List.of(createRequest.getAuthorId()), tagIdsOf(createRequest));
+        News savedNews = newsRepository.save(model);
+        entityCounters.newsLinksChanged(List.of(), List.of(NewsLinks.of(savedNews)));
+        outboxWriter.append(AggregateType.NEWS, List.of(savedNews.getId()), ChangeType.CREATED);
+        return newsDtoMapper.modelToDto(savedNews);
+    }
+
+    @Override
+    @Transactional
+    public List<NewsDtoResponse> createAll(@Valid List<NewsDtoRequest> createRequests) {
+        LOGGER.info("Creating {} news in batch", createRequests.size());
+        if (createRequests.isEmpty() || createRequests.size() > MAX_BATCH_SIZE) {
+            LOGGER.error("News batch size {} is out of range", createRequests.size());
+            throw new ValidationException(String.format(VALIDATION_EXCEPTION.getErrorMessage(),
+                    "batch size must be between 1 and " + MAX_BATCH_SIZE));
         }
-        News model = newsDtoMapper.dtoToModel(createRequest, authorRepository, tagRepository);
-        return newsDtoMapper.modelToDto(newsRepository.save(model));
+        Set<Long> authorIds = createRequests.stream().map(NewsDtoRequest::getAuthorId).collect(Collectors.toSet());
+        Set<Long> tagIds = createRequests.stream()
+                .flatMap(request -> tagIdsOf(request).stream())
+                .collect(Collectors.toSet());
+        References references = referenceResolver.resolve(authorIds, tagIds);
+
+        List<News> models = createRequests.stream()
+                .map(request -> newsDtoMapper.dtoToModel(request, references))
+                .toList();
+        readCacheInvalidator.newsLinksChanged(authorIds, tagIds);
+        List<News> savedNews = newsRepository.saveAll(models);
+        entityCounters.newsLinksChanged(List.of(), savedNews.stream().map(NewsLinks::of).toList());
+        outboxWriter.append(AggregateType.NEWS, savedNews.stream().map(News::getId).toList(), ChangeType.CREATED);
+        return savedNews.stream().map(newsDtoMapper::modelToDto).toList();
     }
 
     @Override
@@ -97,30 +185,22 @@ public class NewsServiceImpl implements NewsService {
                     return new NotFoundException(String.format(NEWS_DOES_NOT_EXIST.getErrorMessage(), id));
                 });
 
-        Author author = authorRepository.findById(updateRequest.getAuthorId())
-                .orElseThrow(() -> {
-                    LOGGER.error("Author with id {} not found. Unable to update news", updateRequest.getAuthorId());
-                    return new NotFoundException(String.format(AUTHOR_DOES_NOT_EXIST.getErrorMessage(), updateRequest.getAuthorId()));
-                });
-
-        List<Tag> tags = new ArrayList<>();
-        if (updateRequest.getTagIds() != null) {
-            for (Long tagId : updateRequest.getTagIds()) {
-                Tag tag = tagRepository.findById(tagId)
-                        .orElseThrow(() -> {
-                            LOGGER.error("Tag with id {} not found. Unable to update news", tagId);
-                            return new NotFoundException(String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), tagId));
-                        });
-                tags.add(tag);
-            }
-        }
+        References references = referenceResolver.resolve(authorIdOf(updateRequest.getAuthorId()), tagIdsOf(updateRequest));
+        Author author = references.author(updateRequest.getAuthorId());
+        List<Tag> tags = references.tags(updateRequest.getTagIds());
 
+        NewsLinks previousLinks = NewsLinks.of(news);
+        evictCachedLinks(news);
         news.setTitle(updateRequest.getTitle());
         news.setContent(updateRequest.getContent());
         news.setAuthor(author);
         news.setTags(tags);
 
         News savedNews = newsRepository.save(news);
+        entityCounters.newsLinksChanged(List.of(previousLinks), List.of(NewsLinks.of(savedNews)));
+        evictCachedLinks(savedNews);
+        readCacheInvalidator.newsChanged(List.of(id));
+        outboxWriter.append(AggregateType.NEWS, List.of(id), ChangeType.UPDATED);
         return newsDtoMapper.modelToDto(savedNews);
     }
 
@@ -138,6 +218,9 @@ public class NewsServiceImpl implements NewsService {
                     LOGGER.error("News with id {} not found. Unable to patch news", id);
                     return new NotFoundException(String.format(NEWS_DOES_NOT_EXIST.getErrorMessage(), id));
                 });
+        References references = referenceResolver.resolve(authorIdOf(authorId), tagIdsOf(patchRequest));
+        NewsLinks previousLinks = NewsLinks.of(prevNews);
+        evictCachedLinks(prevNews);
         if (title != null) {
             prevNews.setTitle(title);
         }
@@ -146,25 +229,17 @@ public class NewsServiceImpl implements NewsService {
         }
 
         if (authorId != null) {
-            Author author = authorRepository.findById(authorId)
-                    .orElseThrow(() -> {
-                        LOGGER.error("Author with id {} not found. Unable to patch news", authorId);
-                        return new NotFoundException(String.format(AUTHOR_DOES_NOT_EXIST.getErrorMessage(), authorId));
-                    });
-            prevNews.setAuthor(author);
+            prevNews.setAuthor(references.author(authorId));
         }
         if (tagIds != null) {
-            List<Tag> tags = tagIds.stream()
-                    .map(tagId -> tagRepository.findById(tagId)
-                            .orElseThrow(() -> {
-                                LOGGER.error("Tag with id {} not found. Unable to patch news", tagId);
-                                return new NotFoundException(String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), tagId));
-                            }))
-                    .toList();
-            prevNews.setTags(tags);
+            prevNews.setTags(references.tags(tagIds));
         }
 
         News savedNews = newsRepository.save(prevNews);
+        entityCounters.newsLinksChanged(List.of(previousLinks), List.of(NewsLinks.of(savedNews)));
+        evictCachedLinks(savedNews);
+        readCacheInvalidator.newsChanged(List.of(id));
+        outboxWriter.append(AggregateType.NEWS, List.of(id), ChangeType.UPDATED);
         return newsDtoMapper.modelToDto(savedNews);
     }
 
@@ -172,23 +247,212 @@ public class NewsServiceImpl implements NewsService {
     @Transactional
     public void deleteById(@Valid Long id) {
         LOGGER.info("Deleting news with id {}", id);
-        if (!newsRepository.existsById(id)) {
-            LOGGER.error("News with id {} not found. Unable to delete news", id);
-            throw new NotFoundException(String.format(NEWS_DOES_NOT_EXIST.getErrorMessage(), id));
-        }
-        newsRepository.deleteById(id);
+        News news = newsRepository.findById(id)
+                .orElseThrow(() -> {
+                    LOGGER.error("News with id {} not found. Unable to delete news", id);
+                    return new NotFoundException(String.format(NEWS_DOES_NOT_EXIST.getErrorMessage(), id));
+                });
+        readCacheInvalidator.newsDeleted(id);
+        entityCounters.newsLinksChanged(List.of(NewsLinks.of(news)), List.of());
+        newsRepository.delete(news);
+        outboxWriter.append(AggregateType.NEWS, List.of(id), ChangeType.DELETED);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<NewsDtoResponse> readByParams(ParametersDtoRequest parametersDtoRequest, Pageable pageable) {
         LOGGER.info("Reading news by params {}", parametersDtoRequest);
-        SearchParameters params = new SearchParameters(
-                !parametersDtoRequest.newsTitle().isEmpty() ? parametersDtoRequest.newsTitle() : null,
-                !parametersDtoRequest.newsContent().isEmpty() ? parametersDtoRequest.newsContent() : null,
-                !parametersDtoRequest.authorName().isEmpty() ? parametersDtoRequest.authorName() : null,
-                (parametersDtoRequest.tagIds() != null && !parametersDtoRequest.tagIds().isEmpty()) ? parametersDtoRequest.tagIds() : null,
-                (parametersDtoRequest.tagNames() != null && !parametersDtoRequest.tagNames().isEmpty()) ? parametersDtoRequest.tagNames() : null);
-        return newsRepository.readByParams(params, pageable).map(newsDtoMapper::modelToDto);
+        TagExpression tagExpression = toTagExpression(parametersDtoRequest);
+        if (tagExpression == null) {
+            return toDtoPage(newsRepository.findSummaries(toSpecification(parametersDtoRequest), pageable));
+        }
+        Pageable ordered = pageable.isUnpaged() || pageable.getSort().isSorted() ? pageable
+                : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, ID));
+        if (ordered.isPaged() && isIdOrder(ordered.getSort()) && !hasFieldFilters(parametersDtoRequest)
+                && !readYourWritesTracker.isPinnedToPrimary()) {
+            NewsIdSet ids = tagIndex.match(tagExpression);
+            List<Long> page = ids.page(ordered.getOffset(), ordered.getPageSize(), ordered.getSort().getOrderFor(ID).isDescending());
+            return readPage(new PageImpl<>(page, ordered, ids.size()), ordered);
+        }
+        return toDtoPage(newsRepository.findSummaries(
+                toSpecification(parametersDtoRequest).and(toSpecification(tagExpression)), ordered));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<NewsDtoResponse> readByFullText(String query, Pageable pageable) {
+        LOGGER.info("Reading news by full text query {}", query);
+        if (!StringUtils.hasText(query)) {
+            LOGGER.error("Full text query is blank");
+            throw new ValidationException(String.format(VALIDATION_EXCEPTION.getErrorMessage(), "full text query must not be blank"));
+        }
+        Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        return readPage(newsRepository.readIdsByFullText(query.trim(), unsorted), unsorted);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<NewsSearchHitDtoResponse> readByIndex(String query, Pageable pageable) {
+        LOGGER.info("Reading news from search index by query {}", query);
+        if (!StringUtils.hasText(query)) {
+            LOGGER.error("Search index query is blank");
+            throw new ValidationException(String.format(VALIDATION_EXCEPTION.getErrorMessage(), "search query must not be blank"));
+        }
+        if (pageable.getOffset() + pageable.getPageSize() > MAX_SEARCH_WINDOW) {
+            LOGGER.error("Search page {} is beyond the search window", pageable);
+            throw new ValidationException(String.format(VALIDATION_EXCEPTION.getErrorMessage(),
+                    "search results are limited to the first " + MAX_SEARCH_WINDOW));
+        }
+        SearchPage searchPage = newsIndex.search(query.trim(), (int) pageable.getOffset(), pageable.getPageSize());
+        List<Long> ids = searchPage.hits().stream().map(SearchHit::id).toList();
+        Map<Long, NewsDtoResponse> newsById = ids.isEmpty() ? Map.of()
+                : toDtoPage(new PageImpl<>(newsRepository.readSummariesByIdIn(ids))).stream()
+                .collect(Collectors.toMap(NewsDtoResponse::getId, Function.identity()));
+        List<NewsSearchHitDtoResponse> hits = searchPage.hits().stream()
+                .filter(hit -> newsById.containsKey(hit.id()))
+                .map(hit -> new NewsSearchHitDtoResponse(newsById.get(hit.id()), hit.score(), hit.highlights().stream()
+                        .map(highlight -> new HighlightDtoResponse(highlight.field(), highlight.start(), highlight.end()))
+                        .toList()))
+                .toList();
+        return new PageImpl<>(hits, pageable, searchPage.total());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public NewsFacetsDtoResponse readFacets(ParametersDtoRequest parametersDtoRequest, int limit) {
+        LOGGER.info("Reading top {} news facets by params {}", limit, parametersDtoRequest);
+        if (limit < 1 || limit > MAX_FACET_LIMIT) {
+            LOGGER.error("Facet limit {} is out of range", limit);
+            throw new ValidationException(String.format(VALIDATION_EXCEPTION.getErrorMessage(),
+                    "facet limit must be between 1 and " + MAX_FACET_LIMIT));
+        }
+        TagExpression tagExpression = toTagExpression(parametersDtoRequest);
+        Specification<News> specification = tagExpression == null ? toSpecification(parametersDtoRequest)
+                : toSpecification(parametersDtoRequest).and(toSpecification(tagExpression));
+        return new NewsFacetsDtoResponse(newsRepository.count(specification),
+                toFacetDtos(newsRepository.findTopTags(specification, limit)),
+                toFacetDtos(newsRepository.findTopAuthors(specification, limit)));
+    }
+
+    @Override
+    public long rebuildIndex() {
+        LOGGER.info("Rebuilding news search and tag indexes");
+        tagIndex.rebuild();
+        return newsIndex.rebuild();
+    }
+
+    private static List<Long> authorIdOf(Long authorId) {
+        return authorId == null ? List.of() : List.of(authorId);
+    }
+
+    private static List<Long> tagIdsOf(NewsDtoRequest request) {
+        return request.getTagIds() == null ? List.of() : request.getTagIds();
+    }
+
+    private void evictCachedLinks(News news) {
+        readCacheInvalidator.newsLinksChanged(
+                Stream.ofNullable(news.getAuthor()).map(Author::getId).toList(),
+                news.getTags() == null ? List.of() : news.getTags().stream().map(Tag::getId).toList());
+    }
+
+    private Page<NewsDtoResponse> readPage(Page<Long> ids, Pageable pageable) {
+        if (ids.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        Map<Long, NewsSummary> summariesById = newsRepository.readSummariesByIdIn(ids.getContent()).stream()
+                .collect(Collectors.toMap(NewsSummary::id, Function.identity()));
+        return toDtoPage(new PageImpl<>(ids.stream().map(summariesById::get).filter(Objects::nonNull).toList(),
+                pageable, ids.getTotalElements()));
+    }
+
+    private Page<NewsDtoResponse> toDtoPage(Page<NewsSummary> summaries) {
+        List<Long> ids = summaries.map(NewsSummary::id).getContent();
+        Map<Long, List<TagDtoResponse>> tagsByNewsId = ids.isEmpty() ? Map.of()
+                : newsRepository.readTagSummariesByNewsIdIn(ids).stream()
+                .collect(Collectors.groupingBy(NewsTagSummary::newsId,
+                        Collectors.mapping(tag -> new TagDtoResponse(tag.tagId(), tag.tagName()), Collectors.toList())));
+        return summaries.map(summary -> newsDtoMapper.summaryToDto(summary, tagsByNewsId.getOrDefault(summary.id(), new ArrayList<>())));
+    }
+
+    private Specification<News> toSpecification(SearchingRequest searchingRequest) {
+        if (searchingRequest == null) {
+            return Specification.where(null);
+        }
+        return EntitySpecification.searchByField(News.class, searchingRequest.getFieldName(), searchingRequest.getFieldValue());
+    }
+
+    private Specification<News> toSpecification(ParametersDtoRequest parametersDtoRequest) {
+        Specification<News> specification = Specification.where(null);
+        if (StringUtils.hasText(parametersDtoRequest.newsTitle())) {
+            specification = specification.and(NewsSpecification.titleContains(parametersDtoRequest.newsTitle()));
+        }
+        if (StringUtils.hasText(parametersDtoRequest.newsContent())) {
+            specification = specification.and(NewsSpecification.contentContains(parametersDtoRequest.newsContent()));
+        }
+        if (StringUtils.hasText(parametersDtoRequest.authorName())) {
+            specification = specification.and(NewsSpecification.authorNameEquals(parametersDtoRequest.authorName()));
+        }
+        List<Long> tagIds = StringUtils.hasText(parametersDtoRequest.tagExpression()) || parametersDtoRequest.tagIds() == null
+                ? List.of()
+                : parametersDtoRequest.tagIds().stream().map(Long::valueOf).toList();
+        List<String> tagNames = parametersDtoRequest.tagNames() == null ? List.of() : parametersDtoRequest.tagNames();
+        if (!tagIds.isEmpty() || !tagNames.isEmpty()) {
+            specification = specification.and(NewsSpecification.hasTag(tagIds, tagNames));
+        }
+        return specification;
+    }
+
+    private static Specification<News> toSpecification(TagExpression tagExpression) {
+        if (tagExpression instanceof TagExpression.Tag tag) {
+            return NewsSpecification.hasTag(List.of(tag.id()), List.of());
+        }
+        if (tagExpression instanceof TagExpression.And and) {
+            return toSpecification(and.left()).and(toSpecification(and.right()));
+        }
+        if (tagExpression instanceof TagExpression.Or or) {
+            return toSpecification(or.left()).or(toSpecification(or.right()));
+        }
+        if (tagExpression instanceof TagExpression.Not not) {
+            return Specification.not(toSpecification(not.operand()));
+        }
+        throw new IllegalArgumentException("Unknown tag expression " + tagExpression);
+    }
+
+    private static TagExpression toTagExpression(ParametersDtoRequest parametersDtoRequest) {
+        if (!StringUtils.hasText(parametersDtoRequest.tagExpression())) {
+            return null;
+        }
+        TagExpression tagExpression;
+        try {
+            tagExpression = TagExpression.parse(parametersDtoRequest.tagExpression());
+        } catch (IllegalArgumentException e) {
+            LOGGER.error("Tag expression {} is invalid: {}", parametersDtoRequest.tagExpression(), e.getMessage());
+            throw new ValidationException(String.format(VALIDATION_EXCEPTION.getErrorMessage(), "tag expression " + e.getMessage()));
+        }
+        if (parametersDtoRequest.tagIds() == null || parametersDtoRequest.tagIds().isEmpty()) {
+            return tagExpression;
+        }
+        TagExpression anyOfTagIds = parametersDtoRequest.tagIds().stream()
+                .map(tagId -> (TagExpression) new TagExpression.Tag(tagId))
+                .reduce(TagExpression.Or::new)
+                .orElseThrow();
+        return new TagExpression.And(tagExpression, anyOfTagIds);
+    }
+
+    private static List<FacetDtoResponse> toFacetDtos(List<NewsFacetCount> counts) {
+        return counts.stream()
+                .map(count -> new FacetDtoResponse(count.id(), count.name(), count.count()))
+                .toList();
+    }
+
+    private static boolean hasFieldFilters(ParametersDtoRequest parametersDtoRequest) {
+        return StringUtils.hasText(parametersDtoRequest.newsTitle())
+                || StringUtils.hasText(parametersDtoRequest.newsContent())
+                || StringUtils.hasText(parametersDtoRequest.authorName())
+                || (parametersDtoRequest.tagNames() != null && !parametersDtoRequest.tagNames().isEmpty());
+    }
+
+    private static boolean isIdOrder(Sort sort) {
+        return sort.stream().count() == 1 && sort.getOrderFor(ID) != null;
     }
 }
@@ -1,45 +1,72 @@
 package com.mjc.school.service.impl;
 
+import com.mjc.school.annotation.ReadFromPrimary;
 import com.mjc.school.annotation.Valid;
+import com.mjc.school.bulk.NewsFilter;
+import com.mjc.school.bulk.OutboxWriter;
+import com.mjc.school.bulk.TagLinkWriter;
+import com.mjc.school.cache.ReadCacheInvalidator;
+import com.mjc.school.dto.CursorPageDtoResponse;
+import com.mjc.school.dto.RetagDtoRequest;
 import com.mjc.school.dto.SearchingRequest;
 import com.mjc.school.dto.TagDtoRequest;
 import com.mjc.school.dto.TagDtoResponse;
 import com.mjc.school.exception.NotFoundException;
+import com.mjc.school.exception.ValidationException;
 import com.mjc.school.filter.EntitySpecification;
 import com.mjc.school.mapper.TagDtoMapper;
+import com.mjc.school.model.AggregateType;
+import com.mjc.school.model.ChangeType;
 import com.mjc.school.model.Tag;
+import com.mjc.school.pagination.KeysetPagination;
 import com.mjc.school.repository.NewsRepository;
 import com.mjc.school.repository.TagRepository;
 import com.mjc.school.service.TagService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Set;
+
+import static com.mjc.school.cache.CacheNames.TAGS;
 import static com.mjc.school.exception.ExceptionErrorCodes.NEWS_DOES_NOT_EXIST;
 import static com.mjc.school.exception.ExceptionErrorCodes.TAG_DOES_NOT_EXIST;
+import static com.mjc.school.exception.ExceptionErrorCodes.VALIDATION_EXCEPTION;
 
 @Service
 @Scope(proxyMode = ScopedProxyMode.TARGET_CLASS)
 public class TagServiceImpl implements TagService {
     private static final Logger LOGGER = LoggerFactory.getLogger(TagServiceImpl.class);
+    private static final Set<String> SEEK_KEYS = Set.of("id", "name");
 
     private final TagRepository tagRepository;
     private final NewsRepository newsRepository;
+    private final TagLinkWriter tagLinkWriter;
 
     private final TagDtoMapper tagDtoMapper;
+    private final ReadCacheInvalidator readCacheInvalidator;
+    private final OutboxWriter outboxWriter;
 
     @Autowired
-    public TagServiceImpl(TagRepository tagRepository, NewsRepository newsRepository, TagDtoMapper tagDtoMapper) {
+    public TagServiceImpl(TagRepository tagRepository, NewsRepository newsRepository, TagLinkWriter tagLinkWriter, TagDtoMapper tagDtoMapper, ReadCacheInvalidator readCacheInvalidator, OutboxWriter outboxWriter) {
         this.tagRepository = tagRepository;
         this.newsRepository = newsRepository;
+        this.tagLinkWriter = tagLinkWriter;
         this.tagDtoMapper = tagDtoMapper;
+        this.readCacheInvalidator = readCacheInvalidator;
+        this.outboxWriter = outboxWriter;
     }
 
     @Override
@@ -49,13 +76,24 @@ public class TagServiceImpl implements TagService {
         if (searchingRequest == null) {
             return tagRepository.findAll(pageable).map(tagDtoMapper::modelToDto);
         }
-        String[] specs = searchingRequest.getFieldNameAndValue().split(":");
-        Specification<Tag> specification = EntitySpecification.searchByField(specs[0], specs[1]);
-        return tagRepository.findAll(specification, pageable).map(tagDtoMapper::modelToDto);
+        return tagRepository.findAll(toSpecification(searchingRequest), pageable).map(tagDtoMapper::modelToDto);
     }
 
     @Override
     @Transactional(readOnly = true)
+    public CursorPageDtoResponse<TagDtoResponse> scroll(@Valid SearchingRequest searchingRequest, String cursor, Pageable pageable) {
+        LOGGER.info("Scrolling the tags for {} after cursor {}", searchingRequest, cursor);
+        Sort sort = KeysetPagination.seekSort(pageable.getSort(), SEEK_KEYS);
+        KeysetScrollPosition position = KeysetPagination.decode(cursor, sort);
+        Window<Tag> window = tagRepository.findBy(toSpecification(searchingRequest),
+                query -> query.sortBy(sort).limit(pageable.getPageSize()).scroll(position));
+        return KeysetPagination.toPage(window, tagDtoMapper::modelToDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @ReadFromPrimary
+    @Cacheable(cacheNames = TAGS, sync = true)
     public TagDtoResponse readById(@Valid Long id) {
         LOGGER.info("Reading a tag by id {}", id);
         Tag tag = tagRepository.findById(id)
@@ -70,8 +108,9 @@ public class TagServiceImpl implements TagService {
     @Transactional
     public TagDtoResponse create(@Valid TagDtoRequest createRequest) {
         LOGGER.info("Creating a new tag {}", createRequest.toString());
-        Tag tag = tagDtoMapper.dtoToModel(createRequest);
-        return tagDtoMapper.modelToDto(tagRepository.save(tag));
+        Tag savedTag = tagRepository.save(tagDtoMapper.dtoToModel(createRequest));
+        outboxWriter.append(AggregateType.TAG, List.of(savedTag.getId()), ChangeType.CREATED);
+        return tagDtoMapper.modelToDto(savedTag);
     }
 
     @Override
@@ -84,6 +123,8 @@ public class TagServiceImpl implements TagService {
                     return new NotFoundException(String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), id));
                 });
         prevTag.setName(updateRequest.getName());
+        readCacheInvalidator.tagChanged(id);
+        outboxWriter.append(AggregateType.TAG, List.of(id), ChangeType.UPDATED);
         return tagDtoMapper.modelToDto(tagRepository.save(prevTag));
     }
 
@@ -103,6 +144,8 @@ public class TagServiceImpl implements TagService {
         }
 
         Tag savedTag = tagRepository.save(prevTag);
+        readCacheInvalidator.tagChanged(id);
+        outboxWriter.append(AggregateType.TAG, List.of(id), ChangeType.UPDATED);
         return tagDtoMapper.modelToDto(savedTag);
     }
 
@@ -110,16 +153,60 @@ public class TagServiceImpl implements TagService {
     @Transactional
     public void deleteById(@Valid Long id) {
         LOGGER.info("Deleting a tag with id {}", id);
-        Tag tag = tagRepository.findById(id)
-                .orElseThrow(() -> {
-                    LOGGER.error("Tag with id {} not found. Unable to delete tag", id);
-                    return new NotFoundException(String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), id));
-                });
-        tag.getNews().forEach(news -> news.getTags().remove(tag));
+        if (!tagRepository.existsById(id)) {
+            LOGGER.error("Tag with id {} not found. Unable to delete tag", id);
+            throw new NotFoundException(String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), id));
+        }
+        int unlinked = tagLinkWriter.unlinkAll(id);
+        readCacheInvalidator.tagChanged(id);
+        tagRepository.deleteById(id);
+        outboxWriter.append(AggregateType.TAG, List.of(id), ChangeType.DELETED);
+        LOGGER.info("Deleted tag with id {} from {} news", id, unlinked);
+    }
 
-        tag.getNews().clear();
+    @Override
+    @Transactional
+    public void merge(@Valid Long sourceId, @Valid Long targetId) {
+        LOGGER.info("Merging a tag with id {} into a tag with id {}", sourceId, targetId);
+        if (sourceId.equals(targetId)) {
+            LOGGER.error("Unable to merge tag with id {} into itself", sourceId);
+            throw new ValidationException(String.format(VALIDATION_EXCEPTION.getErrorMessage(), "tag cannot be merged into itself"));
+        }
+        for (Long id : List.of(sourceId, targetId)) {
+            if (!tagRepository.existsById(id)) {
+                LOGGER.error("Tag with id {} not found. Unable to merge tags", id);
+                throw new NotFoundException(String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), id));
+            }
+        }
+        int linked = tagLinkWriter.merge(sourceId, targetId);
+        readCacheInvalidator.tagsChanged(List.of(sourceId, targetId));
+        tagRepository.deleteById(sourceId);
+        outboxWriter.append(AggregateType.TAG, List.of(sourceId), ChangeType.DELETED);
+        outboxWriter.append(AggregateType.TAG, List.of(targetId), ChangeType.UPDATED);
+        LOGGER.info("Merged tag with id {} into tag with id {}, {} news newly tagged", sourceId, targetId, linked);
+    }
 
-        tagRepository.deleteById(id);
+    @Override
+    @Transactional
+    public void retag(@Valid Long id, @Valid RetagDtoRequest retagRequest) {
+        LOGGER.info("Retagging news with a tag with id {}", id);
+        NewsFilter filter = new NewsFilter(retagRequest.getAuthorId(), retagRequest.getTaggedWithId(), retagRequest.getTitleContains());
+        if (filter.isEmpty()) {
+            LOGGER.error("Retag request for tag with id {} does not restrict news", id);
+            throw new ValidationException(String.format(VALIDATION_EXCEPTION.getErrorMessage(),
+                    "one of authorId, taggedWithId or titleContains is required"));
+        }
+        if (!tagRepository.existsById(id)) {
+            LOGGER.error("Tag with id {} not found. Unable to retag news", id);
+            throw new NotFoundException(String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), id));
+        }
+        int changed = switch (retagRequest.getAction()) {
+            case ADD -> tagLinkWriter.link(id, filter);
+            case REMOVE -> tagLinkWriter.unlink(id, filter);
+        };
+        readCacheInvalidator.tagChanged(id);
+        outboxWriter.append(AggregateType.TAG, List.of(id), ChangeType.UPDATED);
+        LOGGER.info("Retag {} with tag id {} changed {} news", retagRequest.getAction(), id, changed);
     }
 
     @Override
@@ -132,4 +219,11 @@ public class TagServiceImpl implements TagService {
         }
         return tagRepository.readByNewsId(newsId, pageable).map(tagDtoMapper::modelToDto);
     }
+
+    private Specification<Tag> toSpecification(SearchingRequest searchingRequest) {
+        if (searchingRequest == null) {
+            return Specification.where(null);
+        }
+        return EntitySpecification.searchByField(Tag.class, searchingRequest.getFieldName(), searchingRequest.getFieldValue());
+    }
 }
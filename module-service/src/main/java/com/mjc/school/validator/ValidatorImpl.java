@@ -36,6 +36,13 @@ public class ValidatorImpl implements Validator {
 
         HashSet<ConstraintViolation> constraintViolations = new HashSet<>();
 
+        if (o instanceof Iterable<?> elements) {
+            for (Object element : elements) {
+                constraintViolations.addAll(validate(element));
+            }
+            return constraintViolations;
+        }
+
         for (Field field : o.getClass().getDeclaredFields()) {
             validateField(constraintViolations, field, o);
         }
@@ -50,7 +57,7 @@ public class ValidatorImpl implements Validator {
                     if (field.trySetAccessible() && field.canAccess(o)) {
                         var value = field.get(o);
                         var checker = checkerMap.get(annotationType);
-                        if (checker != null && !checker.check(value, annotation)) {
+                        if (checker != null && !checker.check(value, annotation, o)) {
                             constraintViolations.add(new ConstraintViolation("Constraint %s violated for value %s".formatted(annotationType.getSimpleName(), value)));
                         }
                     }
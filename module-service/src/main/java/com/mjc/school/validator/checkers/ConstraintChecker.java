@@ -5,6 +5,10 @@ import java.lang.annotation.Annotation;
 public interface ConstraintChecker<T extends Annotation> {
     boolean check(Object value, T constraint);
 
+    default boolean check(Object value, T constraint, Object target) {
+        return check(value, constraint);
+    }
+
     Class<T> getType();
 
 }
@@ -1,6 +1,8 @@
 package com.mjc.school.validator.checkers;
 
 import com.mjc.school.annotation.Search;
+import com.mjc.school.dto.SearchingRequest;
+import com.mjc.school.filter.SearchableFields;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -13,6 +15,18 @@ public class SearchChecker implements ConstraintChecker<Search> {
         return true;
     }
 
+    @Override
+    public boolean check(Object value, Search constraint, Object target) {
+        if (!check(value, constraint)) {
+            return false;
+        }
+        if (value != null && target instanceof SearchingRequest searchingRequest && searchingRequest.getEntity() != null) {
+            return SearchableFields.fieldsOf(searchingRequest.getEntity().getEntityType())
+                    .contains(searchingRequest.getFieldName());
+        }
+        return true;
+    }
+
     @Override
     public Class<Search> getType() {
         return Search.class;
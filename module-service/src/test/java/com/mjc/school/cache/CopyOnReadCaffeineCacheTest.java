@@ -0,0 +1,40 @@
+package com.mjc.school.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mjc.school.dto.AuthorDtoResponse;
+import com.mjc.school.dto.NewsDtoResponse;
+import com.mjc.school.dto.TagDtoResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.Link;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CopyOnReadCaffeineCacheTest {
+    private final CopyOnReadCaffeineCache cache = new CopyOnReadCaffeineCache(CacheNames.NEWS,
+            Caffeine.newBuilder().maximumSize(10).build(), new ObjectMapper().findAndRegisterModules());
+
+    @Test
+    void get_shouldReturnIndependentCopiesOfStoredValue() {
+        LocalDateTime date = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        NewsDtoResponse news = new NewsDtoResponse(1L, "title", "content", date, date,
+                new AuthorDtoResponse(2L, "author", date, date), List.of(new TagDtoResponse(3L, "tag")));
+
+        NewsDtoResponse loaded = cache.get(1L, () -> news);
+        loaded.add(Link.of("/api/v1/news/1"));
+        loaded.getAuthorDtoResponse().setName("changed");
+        NewsDtoResponse cached = cache.get(1L, NewsDtoResponse.class);
+
+        assertNotSame(news, loaded);
+        assertNotSame(loaded, cached);
+        assertEquals(news, cached);
+        assertTrue(cached.getLinks().isEmpty());
+        assertEquals("author", cached.getAuthorDtoResponse().getName());
+    }
+}
@@ -0,0 +1,188 @@
+package com.mjc.school.cache;
+
+import com.mjc.school.bus.InvalidationBus;
+import com.mjc.school.model.Author;
+import com.mjc.school.model.News;
+import com.mjc.school.model.Tag;
+import com.mjc.school.projection.NewsSummary;
+import com.mjc.school.projection.NewsTagSummary;
+import com.mjc.school.repository.CommentRepository;
+import com.mjc.school.repository.NewsRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReadCacheInvalidatorTest {
+    @Mock
+    private NewsRepository newsRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private InvalidationBus invalidationBus;
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    @Mock
+    private SessionFactory sessionFactory;
+    @Mock
+    private org.hibernate.Cache secondLevelCache;
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private ConcurrentMapCacheManager cacheManager;
+    private ReadCacheInvalidator readCacheInvalidator;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(secondLevelCache);
+        cacheManager = new ConcurrentMapCacheManager(CacheNames.ALL.toArray(String[]::new));
+        readCacheInvalidator = new ReadCacheInvalidator(cacheManager, newsRepository, commentRepository, invalidationBus, entityManagerFactory,
+                taskScheduler, 2000, 1000);
+        for (String cacheName : CacheNames.ALL) {
+            for (long id = 1; id <= 3; id++) {
+                cacheManager.getCache(cacheName).put(id, cacheName + id);
+            }
+        }
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+
+    private List<Runnable> scheduledInvalidations(int count) {
+        ArgumentCaptor<Runnable> invalidations = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, times(count)).schedule(invalidations.capture(), any(Instant.class));
+        return invalidations.getAllValues();
+    }
+
+    @Test
+    void tagChanged_shouldEvictTagAndClearNewsAndCommentsWithoutLoadingTaggedNews() {
+        readCacheInvalidator.tagChanged(2L);
+
+        assertNull(cache(CacheNames.TAGS).get(2L));
+        assertNotNull(cache(CacheNames.TAGS).get(1L));
+        assertNull(cache(CacheNames.NEWS).get(1L));
+        assertNull(cache(CacheNames.NEWS).get(2L));
+        assertNull(cache(CacheNames.COMMENTS).get(1L));
+        assertNotNull(cache(CacheNames.AUTHORS).get(2L));
+        verify(invalidationBus).publish(CacheNames.TAGS, List.of(2L));
+        verify(invalidationBus).publishClear(CacheNames.NEWS);
+        verify(invalidationBus).publishClear(CacheNames.COMMENTS);
+        verify(secondLevelCache).evictCollectionData(News.class.getName() + ".tags");
+        verifyNoInteractions(newsRepository, commentRepository);
+    }
+
+    @Test
+    void authorDeleted_shouldEvictTagsWhoseNewsCountChangesAndClearNewsWithoutLoadingThem() {
+        when(newsRepository.readTagIdsByAuthorId(1L)).thenReturn(List.of(3L));
+
+        readCacheInvalidator.authorDeleted(1L);
+
+        assertNull(cache(CacheNames.AUTHORS).get(1L));
+        assertNotNull(cache(CacheNames.AUTHORS).get(2L));
+        assertNull(cache(CacheNames.TAGS).get(3L));
+        assertNotNull(cache(CacheNames.TAGS).get(1L));
+        assertNull(cache(CacheNames.NEWS).get(1L));
+        assertNull(cache(CacheNames.COMMENTS).get(1L));
+        verify(invalidationBus).publishClear(CacheNames.NEWS);
+        verify(newsRepository, never()).readIdsByAuthorId(any());
+    }
+
+    @Test
+    void newsDeleted_shouldEvictNewsItsCommentsAuthorAndTags() {
+        when(newsRepository.readSummariesByIdIn(List.of(2L))).thenReturn(List.of(new NewsSummary(2L, "title", "content", null, null, 3L, "author", 0L)));
+        when(newsRepository.readTagSummariesByNewsIdIn(List.of(2L))).thenReturn(List.of(new NewsTagSummary(2L, 1L, "tag")));
+        when(commentRepository.readIdsByNewsIdIn(List.of(2L))).thenReturn(List.of(1L, 3L));
+
+        readCacheInvalidator.newsDeleted(2L);
+
+        assertNull(cache(CacheNames.NEWS).get(2L));
+        assertNull(cache(CacheNames.AUTHORS).get(3L));
+        assertNull(cache(CacheNames.TAGS).get(1L));
+        assertNull(cache(CacheNames.COMMENTS).get(1L));
+        assertNull(cache(CacheNames.COMMENTS).get(3L));
+        assertNotNull(cache(CacheNames.COMMENTS).get(2L));
+    }
+
+    @Test
+    void onInvalidation_shouldEvictLocalAndSecondLevelEntriesWithoutRepublishing() {
+        readCacheInvalidator.onInvalidation(CacheNames.AUTHORS, List.of(1L, 2L));
+        readCacheInvalidator.onInvalidation(CacheNames.NEWS, List.of(3L));
+
+        assertNull(cache(CacheNames.AUTHORS).get(1L));
+        assertNull(cache(CacheNames.AUTHORS).get(2L));
+        assertNotNull(cache(CacheNames.AUTHORS).get(3L));
+        assertNull(cache(CacheNames.NEWS).get(3L));
+        verify(secondLevelCache).evictEntityData(Author.class, 1L);
+        verify(secondLevelCache).evictEntityData(Author.class, 2L);
+        verify(secondLevelCache).evictCollectionData(News.class.getName() + ".tags", 3L);
+        verify(invalidationBus, never()).publish(anyString(), any());
+    }
+
+    @Test
+    void onInvalidation_shouldClearWholeRegionWhenNoIdsAreGiven() {
+        readCacheInvalidator.onInvalidation(CacheNames.TAGS, List.of());
+
+        assertNull(cache(CacheNames.TAGS).get(1L));
+        assertNull(cache(CacheNames.TAGS).get(3L));
+        assertNotNull(cache(CacheNames.NEWS).get(1L));
+        verify(secondLevelCache).evictEntityData(Tag.class);
+        verify(invalidationBus, never()).publishClear(anyString());
+    }
+
+    @Test
+    void onReset_shouldClearEveryReadCache() {
+        readCacheInvalidator.onReset();
+
+        for (String cacheName : CacheNames.ALL) {
+            assertNull(cache(cacheName).get(1L));
+        }
+        verify(secondLevelCache).evictAllRegions();
+    }
+
+    @Test
+    void commentChanged_shouldEvictAgainAfterReplicaLagWindow() {
+        readCacheInvalidator.commentChanged(2L);
+        cache(CacheNames.COMMENTS).put(2L, "refilled from a lagging replica");
+
+        scheduledInvalidations(1).forEach(Runnable::run);
+
+        assertNull(cache(CacheNames.COMMENTS).get(2L));
+        assertNotNull(cache(CacheNames.COMMENTS).get(1L));
+        verify(invalidationBus).publish(CacheNames.COMMENTS, List.of(2L));
+    }
+
+    @Test
+    void onInvalidation_shouldEvictSecondLevelEntriesAgainAfterReplicaLagWindow() {
+        readCacheInvalidator.onInvalidation(CacheNames.AUTHORS, List.of(1L));
+        cache(CacheNames.AUTHORS).put(1L, "refilled from a lagging replica");
+
+        scheduledInvalidations(1).forEach(Runnable::run);
+
+        assertNull(cache(CacheNames.AUTHORS).get(1L));
+        verify(secondLevelCache, times(2)).evictEntityData(Author.class, 1L);
+        verify(invalidationBus, never()).publish(anyString(), any());
+    }
+}
@@ -0,0 +1,66 @@
+package com.mjc.school.counter;
+
+import com.mjc.school.cache.ReadCacheInvalidator;
+import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.repository.TagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CounterRepairJobTest {
+    @Mock
+    private AuthorRepository authorRepository;
+    @Mock
+    private TagRepository tagRepository;
+    @Mock
+    private NewsRepository newsRepository;
+    @Mock
+    private ReadCacheInvalidator readCacheInvalidator;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CounterRepairJob counterRepairJob;
+
+    @BeforeEach
+    void setUp() {
+        counterRepairJob = new CounterRepairJob(authorRepository, tagRepository, newsRepository, readCacheInvalidator,
+                new TransactionTemplate(transactionManager), 100);
+    }
+
+    @Test
+    void repairAll_shouldRecountOnlyDriftedRowsBatchByBatch() {
+        when(authorRepository.readMaxId()).thenReturn(250L);
+        when(authorRepository.readIdsWithDriftedNewsCount(1L, 100L)).thenReturn(List.of());
+        when(authorRepository.readIdsWithDriftedNewsCount(101L, 200L)).thenReturn(List.of(150L));
+        when(authorRepository.readIdsWithDriftedNewsCount(201L, 300L)).thenReturn(List.of(201L, 230L));
+        when(tagRepository.readMaxId()).thenReturn(0L);
+        when(newsRepository.readMaxId()).thenReturn(50L);
+        when(newsRepository.readIdsWithDriftedCommentCount(1L, 100L)).thenReturn(List.of(7L));
+
+        long repaired = counterRepairJob.repairAll();
+
+        assertEquals(4, repaired);
+        verify(authorRepository).recountNews(List.of(150L));
+        verify(authorRepository).recountNews(List.of(201L, 230L));
+        verify(authorRepository, times(2)).recountNews(any());
+        verify(readCacheInvalidator).newsLinksChanged(List.of(201L, 230L), List.of());
+        verify(tagRepository, never()).readIdsWithDriftedNewsCount(any(), any());
+        verify(newsRepository).recountComments(List.of(7L));
+        verify(readCacheInvalidator).newsChanged(List.of(7L));
+    }
+}
@@ -0,0 +1,77 @@
+package com.mjc.school.counter;
+
+import com.mjc.school.projection.NewsCount;
+import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.repository.TagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EntityCountersTest {
+    @Mock
+    private AuthorRepository authorRepository;
+    @Mock
+    private TagRepository tagRepository;
+    @Mock
+    private NewsRepository newsRepository;
+
+    private EntityCounters entityCounters;
+
+    @BeforeEach
+    void setUp() {
+        entityCounters = new EntityCounters(authorRepository, tagRepository, newsRepository);
+    }
+
+    @Test
+    void newsLinksChanged_shouldApplyOnlyNetDeltasGroupedByDelta() {
+        entityCounters.newsLinksChanged(
+                List.of(new NewsLinks(1L, List.of(1L, 2L))),
+                List.of(new NewsLinks(1L, List.of(2L, 3L)), new NewsLinks(2L, List.of(3L, 4L))));
+
+        verify(authorRepository).addToNewsCount(List.of(2L), 1L);
+        verify(tagRepository).addToNewsCount(List.of(1L), -1L);
+        verify(tagRepository).addToNewsCount(List.of(4L), 1L);
+        verify(tagRepository).addToNewsCount(List.of(3L), 2L);
+        verifyNoMoreInteractions(authorRepository, tagRepository);
+    }
+
+    @Test
+    void newsLinksChanged_shouldNotTouchCountersWhenLinksAreUnchanged() {
+        entityCounters.newsLinksChanged(List.of(new NewsLinks(1L, List.of(1L))), List.of(new NewsLinks(1L, List.of(1L))));
+
+        verify(authorRepository, never()).addToNewsCount(any(), anyLong());
+        verify(tagRepository, never()).addToNewsCount(any(), anyLong());
+    }
+
+    @Test
+    void authorDeleted_shouldDecrementTagsByNewsOfAuthor() {
+        when(newsRepository.countNewsByTagForAuthorId(5L)).thenReturn(List.of(new NewsCount(1L, 2L), new NewsCount(3L, 2L)));
+
+        entityCounters.authorDeleted(5L);
+
+        verify(tagRepository).addToNewsCount(argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(1L, 3L))), eq(-2L));
+    }
+
+    @Test
+    void commentsAdded_shouldIncrementEachNewsOncePerComment() {
+        entityCounters.commentsAdded(List.of(1L, 2L, 1L));
+
+        verify(newsRepository).addToCommentCount(List.of(1L), 2L);
+        verify(newsRepository).addToCommentCount(List.of(2L), 1L);
+    }
+}
@@ -0,0 +1,145 @@
+package com.mjc.school.outbox;
+
+import com.mjc.school.bulk.OutboxWriter;
+import com.mjc.school.model.AggregateType;
+import com.mjc.school.model.ChangeType;
+import com.mjc.school.model.OutboxEvent;
+import com.mjc.school.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    @Mock
+    private OutboxWriter outboxWriter;
+    @Mock
+    private ObjectProvider<EntityChangeListener> listenerProvider;
+    @Mock
+    private EntityChangeListener listener;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        when(listenerProvider.orderedStream()).thenReturn(Stream.of(listener));
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        outboxRelay = new OutboxRelay(outboxEventRepository, outboxWriter, listenerProvider, transactionManager, 10, 3, 1000, 60_000);
+    }
+
+    private static OutboxEvent event(long id, AggregateType aggregateType, long aggregateId, ChangeType changeType) {
+        OutboxEvent event = new OutboxEvent(aggregateType, aggregateId, changeType, LocalDateTime.now());
+        event.setId(id);
+        return event;
+    }
+
+    @Test
+    void relay_shouldDeliverEventsInOrderAndDeleteThem() {
+        List<EntityChange> received = new ArrayList<>();
+        when(outboxWriter.tryLockRelay()).thenReturn(true);
+        when(outboxEventRepository.readPendingAfter(0L, Limit.of(10))).thenReturn(List.of(
+                event(1L, AggregateType.NEWS, 5L, ChangeType.CREATED),
+                event(2L, AggregateType.NEWS, 5L, ChangeType.UPDATED)));
+        doAnswer(invocation -> received.add(invocation.getArgument(0))).when(listener).onChange(any());
+
+        long delivered = outboxRelay.relay();
+
+        assertEquals(2, delivered);
+        assertEquals(List.of(ChangeType.CREATED, ChangeType.UPDATED), received.stream().map(EntityChange::changeType).toList());
+        verify(outboxEventRepository).deleteByIdIn(List.of(1L, 2L));
+        verify(outboxEventRepository, never()).retryLater(any(), any());
+    }
+
+    @Test
+    void relay_shouldHoldBackLaterEventsOfFailedAggregateOnly() {
+        LocalDateTime before = LocalDateTime.now();
+        OutboxEvent failing = event(1L, AggregateType.NEWS, 5L, ChangeType.CREATED);
+        OutboxEvent blocked = event(2L, AggregateType.NEWS, 5L, ChangeType.UPDATED);
+        OutboxEvent other = event(3L, AggregateType.TAG, 5L, ChangeType.CREATED);
+        when(outboxWriter.tryLockRelay()).thenReturn(true);
+        when(outboxEventRepository.readPendingAfter(0L, Limit.of(10))).thenReturn(List.of(failing, blocked, other));
+        doThrow(new IllegalStateException("listener failed")).when(listener).onChange(EntityChange.of(failing));
+
+        long delivered = outboxRelay.relay();
+
+        assertEquals(1, delivered);
+        verify(listener, never()).onChange(EntityChange.of(blocked));
+        verify(outboxEventRepository).deleteByIdIn(List.of(3L));
+        verify(outboxEventRepository).retryLater(eq(1L), argThat(nextAttempt -> !nextAttempt.isBefore(before.plusSeconds(1))));
+        verify(outboxEventRepository, never()).moveToDeadLetter(any());
+    }
+
+    @Test
+    void relay_shouldMoveEventToDeadLetterAfterMaxAttemptsAndReleaseItsAggregate() {
+        OutboxEvent exhausted = event(1L, AggregateType.NEWS, 5L, ChangeType.CREATED);
+        exhausted.setAttempts(2);
+        OutboxEvent later = event(2L, AggregateType.NEWS, 5L, ChangeType.UPDATED);
+        when(outboxWriter.tryLockRelay()).thenReturn(true);
+        when(outboxEventRepository.readPendingAfter(0L, Limit.of(10))).thenReturn(List.of(exhausted, later));
+        doThrow(new IllegalStateException("listener failed")).when(listener).onChange(EntityChange.of(exhausted));
+
+        long delivered = outboxRelay.relay();
+
+        assertEquals(1, delivered);
+        verify(outboxEventRepository).moveToDeadLetter(List.of(1L));
+        verify(outboxEventRepository).deleteByIdIn(List.of(2L));
+        verify(outboxEventRepository, never()).retryLater(any(), any());
+    }
+
+    @Test
+    void relay_shouldReadPastAFullBatchOfEventsWaitingForRetry() {
+        List<OutboxEvent> waiting = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            OutboxEvent event = event(id, AggregateType.NEWS, id, ChangeType.UPDATED);
+            event.setNextAttemptAt(LocalDateTime.now().plusMinutes(1));
+            waiting.add(event);
+        }
+        OutboxEvent due = event(11L, AggregateType.TAG, 1L, ChangeType.CREATED);
+        when(outboxWriter.tryLockRelay()).thenReturn(true);
+        when(outboxEventRepository.readPendingAfter(0L, Limit.of(10))).thenReturn(waiting);
+        when(outboxEventRepository.readPendingAfter(10L, Limit.of(10))).thenReturn(List.of(due));
+
+        long delivered = outboxRelay.relay();
+
+        assertEquals(1, delivered);
+        verify(listener).onChange(EntityChange.of(due));
+        verify(outboxEventRepository).deleteByIdIn(List.of(11L));
+    }
+
+    @Test
+    void relay_shouldSkipBatch_whenAnotherNodeHoldsRelayLock() {
+        when(outboxWriter.tryLockRelay()).thenReturn(false);
+
+        long delivered = outboxRelay.relay();
+
+        assertEquals(0, delivered);
+        verifyNoInteractions(outboxEventRepository, listener);
+    }
+}
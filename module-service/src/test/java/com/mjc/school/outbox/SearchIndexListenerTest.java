@@ -0,0 +1,128 @@
+package com.mjc.school.outbox;
+
+import com.mjc.school.bus.InvalidationBus;
+import com.mjc.school.model.AggregateType;
+import com.mjc.school.model.ChangeType;
+import com.mjc.school.search.NewsDocument;
+import com.mjc.school.search.NewsDocumentReader;
+import com.mjc.school.search.NewsIndex;
+import com.mjc.school.search.TagIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SearchIndexListenerTest {
+    @Mock
+    private NewsIndex newsIndex;
+    @Mock
+    private TagIndex tagIndex;
+    @Mock
+    private NewsDocumentReader newsDocumentReader;
+    @Mock
+    private InvalidationBus invalidationBus;
+
+    @InjectMocks
+    private SearchIndexListener searchIndexListener;
+
+    @AfterEach
+    void tearDown() {
+        searchIndexListener.destroy();
+    }
+
+    private static EntityChange change(AggregateType aggregateType, Long aggregateId, ChangeType changeType) {
+        return new EntityChange(1L, aggregateType, aggregateId, changeType, LocalDateTime.now());
+    }
+
+    private static NewsDocument document(Long id) {
+        return new NewsDocument(id, "title", "content", 1L, "author", List.of(), List.of());
+    }
+
+    @Test
+    void onChange_shouldReindexNewsFromDatabase_whenNewsIsUpdated() {
+        NewsDocument document = document(5L);
+        when(newsDocumentReader.readByIds(List.of(5L))).thenReturn(List.of(document));
+
+        searchIndexListener.onChange(change(AggregateType.NEWS, 5L, ChangeType.UPDATED));
+
+        verify(newsIndex).update(List.of(document));
+        verify(tagIndex).update(List.of(document));
+        verify(newsIndex, never()).delete(List.of(5L));
+        verify(invalidationBus).publish("search:NEWS:UPDATED", List.of(5L));
+    }
+
+    @Test
+    void onChange_shouldDropNewsFromIndex_whenItIsGoneFromDatabaseBeforeRelay() {
+        when(newsDocumentReader.readByIds(List.of(5L))).thenReturn(List.of());
+
+        searchIndexListener.onChange(change(AggregateType.NEWS, 5L, ChangeType.CREATED));
+
+        verify(newsIndex).delete(Set.of(5L));
+        verify(tagIndex).delete(Set.of(5L));
+    }
+
+    @Test
+    void onChange_shouldReindexNewsIndexedWithTagAndNewsNowLinkedToIt_whenTagIsUpdated() {
+        when(newsIndex.readIdsByTagId(3L)).thenReturn(List.of(5L, 6L));
+        when(newsDocumentReader.readIdsByTagId(3L)).thenReturn(List.of(6L, 7L));
+        when(newsDocumentReader.readByIds(List.of(5L, 6L, 7L))).thenReturn(List.of(document(5L), document(6L), document(7L)));
+
+        searchIndexListener.onChange(change(AggregateType.TAG, 3L, ChangeType.UPDATED));
+
+        verify(newsIndex).update(List.of(document(5L), document(6L), document(7L)));
+        verify(tagIndex).update(List.of(document(5L), document(6L), document(7L)));
+    }
+
+    @Test
+    void onChange_shouldDeleteAuthorNewsFromIndex_whenAuthorIsDeleted() {
+        when(newsIndex.readIdsByAuthorId(2L)).thenReturn(List.of(5L, 6L));
+
+        searchIndexListener.onChange(change(AggregateType.AUTHOR, 2L, ChangeType.DELETED));
+
+        verify(newsIndex).deleteByAuthorId(2L);
+        verify(tagIndex).delete(List.of(5L, 6L));
+        verifyNoInteractions(newsDocumentReader);
+    }
+
+    @Test
+    void onInvalidation_shouldApplyChangeRelayedByAnotherNodeToLocalIndexes() {
+        NewsDocument document = document(5L);
+        when(newsDocumentReader.readByIds(List.of(5L))).thenReturn(List.of(document));
+
+        searchIndexListener.onInvalidation("search:NEWS:CREATED", List.of(5L));
+
+        verify(newsIndex, timeout(1000)).update(List.of(document));
+        verify(tagIndex, timeout(1000)).update(List.of(document));
+        verify(invalidationBus, never()).publish(anyString(), any());
+    }
+
+    @Test
+    void onInvalidation_shouldIgnoreCacheRegions() {
+        searchIndexListener.onInvalidation("news", List.of(5L));
+
+        verifyNoInteractions(newsIndex, tagIndex, newsDocumentReader);
+    }
+
+    @Test
+    void onReset_shouldRebuildLocalIndexes() {
+        searchIndexListener.onReset();
+
+        verify(newsIndex, timeout(1000)).rebuild();
+        verify(tagIndex, timeout(1000)).rebuild();
+    }
+}
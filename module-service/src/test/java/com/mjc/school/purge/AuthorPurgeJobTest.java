@@ -0,0 +1,70 @@
+package com.mjc.school.purge;
+
+import com.mjc.school.bulk.AuthorPurger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthorPurgeJobTest {
+    @Mock
+    private AuthorPurger authorPurger;
+
+    private AuthorPurgeJob authorPurgeJob;
+
+    @BeforeEach
+    void setUp() {
+        authorPurgeJob = new AuthorPurgeJob(authorPurger, 10, 100);
+    }
+
+    @Test
+    void purgeDeletedAuthors_shouldDrainEachTableInChunksBeforeDeletingAuthor() {
+        when(authorPurger.readDeletedAuthorIds(10)).thenReturn(List.of(7L));
+        when(authorPurger.deleteComments(7L, 100)).thenReturn(100, 100, 40, 0);
+        when(authorPurger.deleteNewsTags(7L, 100)).thenReturn(120, 0);
+        when(authorPurger.deleteNews(7L, 100)).thenReturn(100, 20, 0);
+        when(authorPurger.deleteAuthor(7L)).thenReturn(true);
+
+        int purged = authorPurgeJob.purgeDeletedAuthors();
+
+        assertEquals(1, purged);
+        InOrder order = inOrder(authorPurger);
+        order.verify(authorPurger, times(4)).deleteComments(7L, 100);
+        order.verify(authorPurger, times(2)).deleteNewsTags(7L, 100);
+        order.verify(authorPurger, times(3)).deleteNews(7L, 100);
+        order.verify(authorPurger).deleteAuthor(7L);
+    }
+
+    @Test
+    void purgeDeletedAuthors_shouldNotCountAuthorThatStillHasNews() {
+        when(authorPurger.readDeletedAuthorIds(10)).thenReturn(List.of(7L, 8L));
+        when(authorPurger.deleteAuthor(7L)).thenReturn(false);
+        when(authorPurger.deleteAuthor(8L)).thenReturn(true);
+
+        int purged = authorPurgeJob.purgeDeletedAuthors();
+
+        assertEquals(1, purged);
+        verify(authorPurger).deleteAuthor(8L);
+    }
+
+    @Test
+    void purgeDeletedAuthors_shouldDoNothingWithoutDeletedAuthors() {
+        when(authorPurger.readDeletedAuthorIds(10)).thenReturn(List.of());
+
+        assertEquals(0, authorPurgeJob.purgeDeletedAuthors());
+
+        verify(authorPurger, never()).deleteAuthor(7L);
+    }
+}
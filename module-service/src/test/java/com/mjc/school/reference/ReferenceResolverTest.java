@@ -0,0 +1,89 @@
+package com.mjc.school.reference;
+
+import com.mjc.school.exception.NotFoundException;
+import com.mjc.school.model.Author;
+import com.mjc.school.model.Tag;
+import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.repository.TagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.mjc.school.exception.ExceptionErrorCodes.REFERENCES_DO_NOT_EXIST;
+import static com.mjc.school.exception.ExceptionErrorCodes.TAG_DOES_NOT_EXIST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceResolverTest {
+    @Mock
+    private AuthorRepository authorRepository;
+    @Mock
+    private TagRepository tagRepository;
+
+    private ReferenceResolver referenceResolver;
+
+    @BeforeEach
+    void setUp() {
+        referenceResolver = new ReferenceResolver(authorRepository, tagRepository);
+    }
+
+    private static Tag tag(long id) {
+        Tag tag = new Tag("tag" + id);
+        tag.setId(id);
+        return tag;
+    }
+
+    @Test
+    void resolve_shouldLoadEveryReferenceWithOneQueryPerType() {
+        Author author = new Author();
+        author.setId(1L);
+        when(authorRepository.findAllById(Set.of(1L))).thenReturn(List.of(author));
+        when(tagRepository.findAllById(Set.of(3L, 2L))).thenReturn(List.of(tag(2L), tag(3L)));
+
+        References references = referenceResolver.resolve(List.of(1L), List.of(3L, 2L, 3L));
+
+        assertThat(references.author(1L)).isSameAs(author);
+        assertThat(references.tags(List.of(3L, 2L, 3L))).extracting(Tag::getId).containsExactly(3L, 2L);
+        verify(authorRepository).findAllById(Set.of(1L));
+        verify(tagRepository).findAllById(Set.of(3L, 2L));
+    }
+
+    @Test
+    void resolve_shouldSkipQueries_whenNothingIsReferenced() {
+        References references = referenceResolver.resolve(List.of(), null);
+
+        assertThat(references.tags(null)).isEmpty();
+        verifyNoInteractions(authorRepository, tagRepository);
+    }
+
+    @Test
+    void resolve_shouldKeepSingleEntityMessage_whenOneReferenceIsMissing() {
+        when(tagRepository.findAllById(Set.of(2L, 5L))).thenReturn(List.of(tag(2L)));
+
+        NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> referenceResolver.resolve(List.of(), List.of(2L, 5L)));
+
+        assertEquals(String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), 5L), exception.getMessage());
+    }
+
+    @Test
+    void resolve_shouldReportEveryMissingReference() {
+        when(authorRepository.findAllById(Set.of(9L))).thenReturn(List.of());
+        when(tagRepository.findAllById(Set.of(2L, 7L, 8L))).thenReturn(List.of(tag(2L)));
+
+        NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> referenceResolver.resolve(List.of(9L), List.of(2L, 7L, 8L)));
+
+        assertEquals(String.format(REFERENCES_DO_NOT_EXIST.getErrorMessage(), "authors [9], tags [7, 8]"), exception.getMessage());
+    }
+}
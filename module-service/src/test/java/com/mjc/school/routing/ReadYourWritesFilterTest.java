@@ -0,0 +1,80 @@
+package com.mjc.school.routing;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesFilterTest {
+    private ReadYourWritesTracker readYourWritesTracker;
+    private ReadYourWritesFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        readYourWritesTracker = new ReadYourWritesTracker(5000);
+        filter = new ReadYourWritesFilter(readYourWritesTracker);
+    }
+
+    @Test
+    void doFilter_shouldHandTheWriteTimestampBackToTheClient() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest(), response, new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                readYourWritesTracker.recordWrite();
+            }
+        });
+
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.LAST_WRITE_COOKIE);
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.getMaxAge()).isEqualTo(5);
+        assertThat(response.getHeader(ReadYourWritesFilter.LAST_WRITE_HEADER)).isEqualTo(cookie.getValue());
+        assertThat(readYourWritesTracker.isTracking()).isFalse();
+    }
+
+    @Test
+    void doFilter_shouldPinRequestCarryingARecentWriteWithoutNodeState() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReadYourWritesFilter.LAST_WRITE_COOKIE, String.valueOf(System.currentTimeMillis())));
+        AtomicBoolean pinned = new AtomicBoolean();
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                pinned.set(readYourWritesTracker.isPinnedToPrimary());
+            }
+        });
+
+        assertThat(pinned).isTrue();
+    }
+
+    @Test
+    void doFilter_shouldIgnoreExpiredOrMalformedPins() throws Exception {
+        AtomicBoolean pinned = new AtomicBoolean(true);
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) {
+                pinned.set(readYourWritesTracker.isPinnedToPrimary());
+            }
+        };
+        MockHttpServletRequest expired = new MockHttpServletRequest();
+        expired.addHeader(ReadYourWritesFilter.LAST_WRITE_HEADER, String.valueOf(System.currentTimeMillis() - 60_000));
+        MockHttpServletRequest malformed = new MockHttpServletRequest();
+        malformed.setCookies(new Cookie(ReadYourWritesFilter.LAST_WRITE_COOKIE, "yesterday"));
+
+        filter.doFilter(expired, new MockHttpServletResponse(), chain);
+        assertThat(pinned).isFalse();
+        pinned.set(true);
+        filter.doFilter(malformed, new MockHttpServletResponse(), chain);
+        assertThat(pinned).isFalse();
+    }
+}
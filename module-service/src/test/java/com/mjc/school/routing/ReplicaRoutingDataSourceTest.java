@@ -0,0 +1,124 @@
+package com.mjc.school.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+    private static final long MAX_LAG_MILLIS = 1000;
+
+    @Mock
+    private DataSource primary;
+    @Mock
+    private DataSource firstReplicaDataSource;
+    @Mock
+    private DataSource secondReplicaDataSource;
+
+    private ReplicaPool firstReplica;
+    private ReplicaPool secondReplica;
+    private ReadYourWritesTracker readYourWritesTracker;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        firstReplica = new ReplicaPool("replica-1", firstReplicaDataSource);
+        secondReplica = new ReplicaPool("replica-2", secondReplicaDataSource);
+        readYourWritesTracker = new ReadYourWritesTracker(60_000);
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(firstReplica, secondReplica), readYourWritesTracker, MAX_LAG_MILLIS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        readYourWritesTracker.unbind();
+    }
+
+    @Test
+    void getConnection_shouldAlternateBetweenReplicasWithinLag() throws SQLException {
+        Connection first = mock(Connection.class);
+        Connection second = mock(Connection.class);
+        when(firstReplicaDataSource.getConnection()).thenReturn(first);
+        when(secondReplicaDataSource.getConnection()).thenReturn(second);
+        firstReplica.updateLag(0);
+        secondReplica.updateLag(MAX_LAG_MILLIS);
+
+        assertThat(List.of(routingDataSource.getConnection(), routingDataSource.getConnection(), routingDataSource.getConnection()))
+                .containsExactly(first, second, first);
+        assertThat(firstReplica.getRoutedConnections()).isEqualTo(2);
+        assertThat(secondReplica.getRoutedConnections()).isEqualTo(1);
+        assertThat(routingDataSource.getPrimaryReads()).isZero();
+    }
+
+    @Test
+    void getConnection_shouldSkipLaggingAndUncheckedReplicas() throws SQLException {
+        Connection second = mock(Connection.class);
+        when(secondReplicaDataSource.getConnection()).thenReturn(second);
+        secondReplica.updateLag(10);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(second);
+        assertThat(routingDataSource.getConnection()).isSameAs(second);
+
+        secondReplica.updateLag(MAX_LAG_MILLIS + 1);
+        Connection fallback = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(fallback);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(fallback);
+        assertThat(routingDataSource.getPrimaryReads()).isEqualTo(1);
+    }
+
+    @Test
+    void getConnection_shouldPinClientWithRecentWriteToPrimary() throws SQLException {
+        Connection replicaConnection = mock(Connection.class);
+        Connection primaryConnection = mock(Connection.class);
+        when(firstReplicaDataSource.getConnection()).thenReturn(replicaConnection);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        firstReplica.updateLag(0);
+        secondReplica.markUnavailable();
+        List<Long> pins = new ArrayList<>();
+
+        readYourWritesTracker.bind(null, pins::add);
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+        readYourWritesTracker.recordWrite();
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(pins).hasSize(1);
+
+        readYourWritesTracker.bind(pins.get(0), pins::add);
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        readYourWritesTracker.bind(System.currentTimeMillis() - 60_000, pins::add);
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+        readYourWritesTracker.unbind();
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void getConnection_shouldUsePrimaryForReadsThatRequireIt() throws SQLException {
+        Connection replicaConnection = mock(Connection.class);
+        Connection primaryConnection = mock(Connection.class);
+        when(firstReplicaDataSource.getConnection()).thenReturn(replicaConnection);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        firstReplica.updateLag(0);
+        secondReplica.markUnavailable();
+
+        boolean previous = PrimaryReads.require();
+        try {
+            assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        } finally {
+            PrimaryReads.restore(previous);
+        }
+
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaConnection);
+    }
+}
@@ -1,12 +1,19 @@
 package com.mjc.school.service.impl;
 
+import com.mjc.school.bulk.OutboxWriter;
+import com.mjc.school.cache.ReadCacheInvalidator;
+import com.mjc.school.counter.EntityCounters;
 import com.mjc.school.dto.AuthorDtoRequest;
 import com.mjc.school.dto.AuthorDtoResponse;
+import com.mjc.school.dto.SearchableEntity;
 import com.mjc.school.dto.SearchingRequest;
 import com.mjc.school.exception.NotFoundException;
 import com.mjc.school.mapper.AuthorDtoMapper;
+import com.mjc.school.model.AggregateType;
 import com.mjc.school.model.Author;
+import com.mjc.school.model.ChangeType;
 import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.repository.NewsRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -37,8 +44,18 @@ class AuthorServiceImplTest {
     @Mock
     private AuthorRepository authorRepository;
     @Mock
+    private NewsRepository newsRepository;
+    @Mock
     private AuthorDtoMapper authorDtoMapper;
 
+    @Mock
+    private ReadCacheInvalidator readCacheInvalidator;
+    @Mock
+    private EntityCounters entityCounters;
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
     @InjectMocks
     private AuthorServiceImpl authorService;
 
@@ -75,7 +92,7 @@ class AuthorServiceImplTest {
     void readAll_shouldApplySpecification_whenSearchingRequestIsProvided() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        SearchingRequest request = new SearchingRequest("name:Name");
+        SearchingRequest request = new SearchingRequest(SearchableEntity.AUTHOR, "name:Name");
         LocalDateTime date = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
         Author author = new Author("Name", date, date, new ArrayList<>());
         author.setId(1L);
@@ -295,7 +312,7 @@ class AuthorServiceImplTest {
     }
 
     @Test
-    void deleteById_shouldDelete_whenAuthorExists() {
+    void deleteById_shouldMarkAuthorAndNewsDeletedWithoutCascadingRemoval_whenAuthorExists() {
         Long id = 1L;
 
         when(authorRepository.existsById(id)).thenReturn(true);
@@ -303,7 +320,12 @@ class AuthorServiceImplTest {
         authorService.deleteById(id);
 
         verify(authorRepository).existsById(id);
-        verify(authorRepository).deleteById(id);
+        verify(readCacheInvalidator).authorDeleted(id);
+        verify(entityCounters).authorDeleted(id);
+        verify(newsRepository).markDeletedByAuthorId(eq(id), any(LocalDateTime.class));
+        verify(authorRepository).markDeleted(eq(id), any(LocalDateTime.class));
+        verify(authorRepository, never()).deleteById(any());
+        verify(outboxWriter).append(AggregateType.AUTHOR, List.of(id), ChangeType.DELETED);
     }
 
     @Test
@@ -318,7 +340,7 @@ class AuthorServiceImplTest {
         assertEquals(String.format(AUTHOR_DOES_NOT_EXIST.getErrorMessage(), id), exception.getMessage());
 
         verify(authorRepository).existsById(id);
-        verify(authorRepository, never()).deleteById(any());
+        verify(authorRepository, never()).markDeleted(any(), any());
     }
 
     @Test
@@ -1,15 +1,25 @@
 package com.mjc.school.service.impl;
 
+import com.mjc.school.bulk.OutboxWriter;
+import com.mjc.school.cache.ReadCacheInvalidator;
+import com.mjc.school.counter.EntityCounters;
 import com.mjc.school.dto.CommentDtoRequest;
 import com.mjc.school.dto.CommentDtoResponse;
+import com.mjc.school.dto.CursorPageDtoResponse;
 import com.mjc.school.dto.NewsDtoResponse;
+import com.mjc.school.dto.SearchableEntity;
 import com.mjc.school.dto.SearchingRequest;
+import com.mjc.school.dto.TagDtoResponse;
 import com.mjc.school.exception.NotFoundException;
 import com.mjc.school.filter.EntitySpecification;
 import com.mjc.school.mapper.CommentDtoMapper;
 import com.mjc.school.mapper.NewsDtoMapper;
+import com.mjc.school.model.AggregateType;
+import com.mjc.school.model.ChangeType;
 import com.mjc.school.model.Comment;
 import com.mjc.school.model.News;
+import com.mjc.school.projection.NewsSummary;
+import com.mjc.school.projection.NewsTagSummary;
 import com.mjc.school.repository.CommentRepository;
 import com.mjc.school.repository.NewsRepository;
 import org.junit.jupiter.api.Test;
@@ -21,18 +31,25 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.mjc.school.exception.ExceptionErrorCodes.COMMENT_DOES_NOT_EXIST;
 import static com.mjc.school.exception.ExceptionErrorCodes.NEWS_DOES_NOT_EXIST;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,47 +65,66 @@ class CommentServiceImplTest {
     @Mock
     private NewsDtoMapper newsDtoMapper;
 
+    @Mock
+    private ReadCacheInvalidator readCacheInvalidator;
+    @Mock
+    private EntityCounters entityCounters;
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
     @InjectMocks
     private CommentServiceImpl commentService;
 
     @Test
     void readAll_shouldReturnAllComments_whenSearchingRequestIsNull() {
         Pageable pageable = PageRequest.of(0, 10);
+        News news = new News();
+        news.setId(1L);
         List<Comment> comments = List.of(new Comment(), new Comment());
         comments.get(0).setId(1L);
+        comments.get(0).setNews(news);
         comments.get(1).setId(2L);
+        comments.get(1).setNews(news);
         Page<Comment> commentPage = new PageImpl<>(comments, pageable, comments.size());
-
-        CommentDtoResponse dtoResponse = new CommentDtoResponse();
+        NewsSummary summary = new NewsSummary(1L, "title", "content", null, null, 3L, "author", 0L);
+        NewsDtoResponse newsDtoResponse = new NewsDtoResponse();
 
         when(commentRepository.findAll(pageable)).thenReturn(commentPage);
-        when(commentDtoMapper.modelToDto(comments.get(0), newsDtoMapper)).thenReturn(dtoResponse);
+        when(newsRepository.readSummariesByIdIn(List.of(1L))).thenReturn(List.of(summary));
+        when(newsRepository.readTagSummariesByNewsIdIn(List.of(1L))).thenReturn(List.of(new NewsTagSummary(1L, 5L, "tag")));
+        when(newsDtoMapper.summaryToDto(summary, List.of(new TagDtoResponse(5L, "tag")))).thenReturn(newsDtoResponse);
+        when(commentDtoMapper.modelToDto(any(Comment.class), eq(newsDtoResponse))).thenAnswer(invocation -> new CommentDtoResponse());
 
         Page<CommentDtoResponse> result = commentService.readAll(null, pageable);
 
         assertEquals(comments.size(), result.getContent().size());
         verify(commentRepository).findAll(pageable);
-        verify(commentDtoMapper, times(comments.size())).modelToDto(any(Comment.class), any());
+        verify(newsRepository, times(1)).readSummariesByIdIn(any());
+        verify(newsDtoMapper, times(1)).summaryToDto(any(), any());
+        verify(commentDtoMapper, times(comments.size())).modelToDto(any(Comment.class), eq(newsDtoResponse));
     }
 
     @Test
     void readAll_shouldReturnFilteredComments_whenSearchingRequestIsProvided() {
         Pageable pageable = PageRequest.of(0, 10);
-        SearchingRequest searchingRequest = new SearchingRequest("content:John");
+        SearchingRequest searchingRequest = new SearchingRequest(SearchableEntity.COMMENT, "content:John");
         String[] specs = searchingRequest.getFieldNameAndValue().split(":");
-        Specification<Comment> specification = EntitySpecification.searchByField(specs[0], specs[1]);
+        Specification<Comment> specification = EntitySpecification.searchByField(Comment.class, specs[0], specs[1]);
 
-        List<Comment> comments = List.of(new Comment(), new Comment());
+        News news = new News();
+        news.setId(1L);
+        List<Comment> comments = List.of(new Comment("first", news, null, null), new Comment("second", news, null, null));
         Page<Comment> commentPage = new PageImpl<>(comments, pageable, comments.size());
 
         when(commentRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(commentPage);
-        when(commentDtoMapper.modelToDto(any(Comment.class), any())).thenAnswer(invocation -> new CommentDtoResponse());
+        when(commentDtoMapper.modelToDto(any(Comment.class), nullable(NewsDtoResponse.class))).thenAnswer(invocation -> new CommentDtoResponse());
 
         Page<CommentDtoResponse> result = commentService.readAll(searchingRequest, pageable);
 
         assertEquals(comments.size(), result.getContent().size());
         verify(commentRepository).findAll(any(Specification.class), eq(pageable));
-        verify(commentDtoMapper, times(comments.size())).modelToDto(any(Comment.class), any());
+        verify(commentDtoMapper, times(comments.size())).modelToDto(any(Comment.class), nullable(NewsDtoResponse.class));
     }
 
     @Test
@@ -163,6 +199,39 @@ class CommentServiceImplTest {
         verify(commentRepository, never()).save(any());
     }
 
+    @Test
+    void createAll_shouldCheckNewsOnceAndSaveAllComments() {
+        LocalDateTime date = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        News news = new News("title", "content", date, date, null, null, null);
+        news.setId(1L);
+        CommentDtoRequest first = new CommentDtoRequest("first", 1L);
+        CommentDtoRequest second = new CommentDtoRequest("second", 1L);
+        Comment firstComment = new Comment("first", news, date, date);
+        Comment secondComment = new Comment("second", news, date, date);
+        when(newsRepository.findAllById(Set.of(1L))).thenReturn(List.of(news));
+        when(commentDtoMapper.dtoToModel(first, newsRepository)).thenReturn(firstComment);
+        when(commentDtoMapper.dtoToModel(second, newsRepository)).thenReturn(secondComment);
+        when(commentRepository.saveAll(List.of(firstComment, secondComment))).thenReturn(List.of(firstComment, secondComment));
+        when(commentDtoMapper.modelToDto(any(Comment.class), nullable(NewsDtoResponse.class))).thenReturn(new CommentDtoResponse());
+
+        List<CommentDtoResponse> result = commentService.createAll(List.of(first, second));
+
+        assertEquals(2, result.size());
+        verify(newsRepository).findAllById(Set.of(1L));
+        verify(commentRepository, never()).save(any());
+    }
+
+    @Test
+    void createAll_shouldThrowNotFoundException_whenNewsNotFound() {
+        CommentDtoRequest request = new CommentDtoRequest("content", 123L);
+        when(newsRepository.findAllById(Set.of(123L))).thenReturn(List.of());
+
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> commentService.createAll(List.of(request)));
+
+        assertEquals(String.format(NEWS_DOES_NOT_EXIST.getErrorMessage(), 123L), exception.getMessage());
+        verify(commentRepository, never()).saveAll(any());
+    }
+
     @Test
     void update_shouldReturnUpdatedCommentDto_whenCommentExists() {
         Long id = 1L;
@@ -282,28 +351,36 @@ class CommentServiceImplTest {
     @Test
     void deleteById_shouldDelete_whenAuthorExists() {
         Long id = 1L;
+        News news = new News();
+        news.setId(5L);
+        Comment comment = new Comment();
+        comment.setId(id);
+        comment.setNews(news);
 
-        when(commentRepository.existsById(id)).thenReturn(true);
+        when(commentRepository.findById(id)).thenReturn(Optional.of(comment));
 
         commentService.deleteById(id);
 
-        verify(commentRepository).existsById(id);
-        verify(commentRepository).deleteById(id);
+        verify(commentRepository).delete(comment);
+        verify(entityCounters).commentsRemoved(List.of(5L));
+        verify(readCacheInvalidator).newsChanged(List.of(5L));
+        verify(outboxWriter).append(AggregateType.COMMENT, List.of(id), ChangeType.DELETED);
     }
 
     @Test
     void deleteById_shouldThrowNotFound_whenAuthorDoesNotExist() {
         Long id = 99L;
 
-        when(commentRepository.existsById(id)).thenReturn(false);
+        when(commentRepository.findById(id)).thenReturn(Optional.empty());
 
         NotFoundException exception = assertThrows(NotFoundException.class,
                 () -> commentService.deleteById(id));
 
         assertEquals(String.format(COMMENT_DOES_NOT_EXIST.getErrorMessage(), id), exception.getMessage());
 
-        verify(commentRepository).existsById(id);
-        verify(commentRepository, never()).deleteById(any());
+        verify(commentRepository).findById(id);
+        verify(commentRepository, never()).delete(any(Comment.class));
+        verifyNoInteractions(entityCounters);
     }
 
     @Test
@@ -319,7 +396,7 @@ class CommentServiceImplTest {
 
         when(newsRepository.existsById(newsId)).thenReturn(true);
         when(commentRepository.readByNewsId(newsId, pageable)).thenReturn(commentPage);
-        when(commentDtoMapper.modelToDto(comment, newsDtoMapper)).thenReturn(dtoResponse);
+        when(commentDtoMapper.modelToDto(comment, (NewsDtoResponse) null)).thenReturn(dtoResponse);
 
         // When
         Page<CommentDtoResponse> result = commentService.readByNewsId(newsId, pageable);
@@ -329,7 +406,7 @@ class CommentServiceImplTest {
         assertEquals(dtoResponse, result.getContent().get(0));
         verify(newsRepository).existsById(newsId);
         verify(commentRepository).readByNewsId(newsId, pageable);
-        verify(commentDtoMapper).modelToDto(comment, newsDtoMapper);
+        verify(commentDtoMapper).modelToDto(comment, (NewsDtoResponse) null);
     }
 
     @Test
@@ -352,4 +429,38 @@ class CommentServiceImplTest {
         verifyNoInteractions(commentDtoMapper);
     }
 
-}
\ No newline at end of file
+    @Test
+    void scrollByNewsId_shouldReturnSliceOfComments_whenNewsExists() {
+        Long newsId = 1L;
+        Pageable pageable = PageRequest.of(0, 10);
+        Comment comment = new Comment("content", new News(), null, null);
+        comment.getNews().setId(newsId);
+        Window<Comment> window = Window.from(List.of(comment), index -> ScrollPosition.forward(Map.of("id", 1L)), false);
+
+        when(newsRepository.existsById(newsId)).thenReturn(true);
+        doReturn(window).when(commentRepository).findBy(any(Specification.class), any());
+        when(commentDtoMapper.modelToDto(comment, (NewsDtoResponse) null)).thenReturn(new CommentDtoResponse());
+
+        CursorPageDtoResponse<CommentDtoResponse> result = commentService.scrollByNewsId(newsId, null, pageable);
+
+        assertEquals(1, result.getSize());
+        assertFalse(result.isHasNext());
+        verify(commentRepository).findBy(any(Specification.class), any());
+        verify(commentDtoMapper).modelToDto(comment, (NewsDtoResponse) null);
+    }
+
+    @Test
+    void scrollByNewsId_shouldThrowNotFoundException_whenNewsNotFound() {
+        Long newsId = 42L;
+        Pageable pageable = PageRequest.of(0, 10);
+
+        when(newsRepository.existsById(newsId)).thenReturn(false);
+
+        NotFoundException exception = assertThrows(NotFoundException.class,
+                () -> commentService.scrollByNewsId(newsId, null, pageable)
+        );
+
+        assertEquals(String.format(NEWS_DOES_NOT_EXIST.getErrorMessage(), newsId), exception.getMessage());
+        verifyNoInteractions(commentRepository);
+    }
+}
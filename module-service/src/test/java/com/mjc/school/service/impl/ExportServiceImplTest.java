@@ -0,0 +1,85 @@
+package com.mjc.school.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mjc.school.dto.CommentDtoResponse;
+import com.mjc.school.dto.NewsDtoResponse;
+import com.mjc.school.mapper.CommentDtoMapper;
+import com.mjc.school.mapper.NewsDtoMapper;
+import com.mjc.school.model.Comment;
+import com.mjc.school.model.News;
+import com.mjc.school.repository.CommentRepository;
+import com.mjc.school.repository.NewsRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceImplTest {
+    @Mock
+    private NewsRepository newsRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private NewsDtoMapper newsDtoMapper;
+    @Mock
+    private CommentDtoMapper commentDtoMapper;
+    @Mock
+    private EntityManager entityManager;
+
+    private ExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ExportServiceImpl(newsRepository, commentRepository, newsDtoMapper, commentDtoMapper, entityManager, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    void exportNews_shouldWriteOneJsonLinePerNewsAndCloseStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        News first = new News();
+        first.setId(1L);
+        News second = new News();
+        second.setId(2L);
+        when(newsRepository.streamAll()).thenReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+        when(newsDtoMapper.modelToDto(first)).thenReturn(new NewsDtoResponse(1L, "First title", "First content", null, null, null, null));
+        when(newsDtoMapper.modelToDto(second)).thenReturn(new NewsDtoResponse(2L, "Second title", "Second content", null, null, null, null));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long exported = exportService.exportNews(output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(exported).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{").contains("\"title\":\"First title\"");
+        assertThat(lines[1]).contains("\"title\":\"Second title\"");
+        assertThat(closed).isTrue();
+        verify(entityManager, never()).clear();
+    }
+
+    @Test
+    void exportComments_shouldClearPersistenceContextPeriodically() {
+        when(commentRepository.streamAll()).thenReturn(LongStream.rangeClosed(1, 1001).mapToObj(id -> new Comment()));
+        when(commentDtoMapper.modelToDto(any(), eq(newsDtoMapper))).thenReturn(new CommentDtoResponse());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long exported = exportService.exportComments(output);
+
+        assertThat(exported).isEqualTo(1001);
+        assertThat(output.toString(StandardCharsets.UTF_8).split("\n")).hasSize(1001);
+        verify(entityManager, times(2)).clear();
+    }
+}
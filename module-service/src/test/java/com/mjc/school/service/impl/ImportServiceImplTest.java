@@ -0,0 +1,151 @@
+package com.mjc.school.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mjc.school.bulk.BulkCommentRow;
+import com.mjc.school.bulk.BulkNewsRow;
+import com.mjc.school.bulk.BulkWriter;
+import com.mjc.school.cache.ReadCacheInvalidator;
+import com.mjc.school.dto.ImportErrorDtoResponse;
+import com.mjc.school.dto.ImportFormat;
+import com.mjc.school.dto.ImportReportDtoResponse;
+import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.repository.TagRepository;
+import com.mjc.school.validator.ConstraintViolation;
+import com.mjc.school.validator.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static com.mjc.school.exception.ExceptionErrorCodes.AUTHOR_DOES_NOT_EXIST;
+import static com.mjc.school.exception.ExceptionErrorCodes.ENTITY_ALREADY_EXISTS;
+import static com.mjc.school.exception.ExceptionErrorCodes.NEWS_DOES_NOT_EXIST;
+import static com.mjc.school.exception.ExceptionErrorCodes.TAG_DOES_NOT_EXIST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportServiceImplTest {
+    @Mock
+    private BulkWriter bulkWriter;
+    @Mock
+    private NewsRepository newsRepository;
+    @Mock
+    private AuthorRepository authorRepository;
+    @Mock
+    private TagRepository tagRepository;
+    @Mock
+    private Validator validator;
+    @Mock
+    private ReadCacheInvalidator readCacheInvalidator;
+    @Captor
+    private ArgumentCaptor<List<BulkNewsRow>> newsRows;
+    @Captor
+    private ArgumentCaptor<List<BulkCommentRow>> commentRows;
+
+    private ImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new ImportServiceImpl(bulkWriter, newsRepository, authorRepository, tagRepository, validator, new ObjectMapper(), readCacheInvalidator);
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void importNews_shouldWriteValidLinesAndReportRejectedOnes() {
+        String body = """
+                {"title":"First title","content":"First content","authorId":1,"tagIds":[1]}
+                {"title":"Second title","content":"Second content","authorId":9}
+                {"title":"Third title","content":"Third content","authorId":1,"tagIds":[8]}
+                not a json
+
+                {"title":"First title","content":"Duplicate content","authorId":1}
+                """;
+        when(validator.validate(any())).thenReturn(Set.of());
+        when(authorRepository.readExistingIds(any())).thenReturn(Set.of(1L));
+        when(tagRepository.readExistingIds(any())).thenReturn(Set.of(1L));
+        when(newsRepository.readExistingTitles(any())).thenReturn(Set.of());
+        when(bulkWriter.insertNews(any())).thenReturn(List.of(100L));
+
+        ImportReportDtoResponse report = importService.importNews(stream(body), ImportFormat.NDJSON);
+
+        assertThat(report.getProcessed()).isEqualTo(5);
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getFailed()).isEqualTo(4);
+        assertThat(report.getErrors()).extracting(ImportErrorDtoResponse::getLine).containsExactly(4L, 2L, 3L, 6L);
+        assertThat(report.getErrors()).extracting(ImportErrorDtoResponse::getMessage).contains(
+                String.format(AUTHOR_DOES_NOT_EXIST.getErrorMessage(), 9L),
+                String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), 8L),
+                String.format(ENTITY_ALREADY_EXISTS.getErrorMessage(), "First title"));
+        verify(bulkWriter).insertNews(newsRows.capture());
+        assertThat(newsRows.getValue()).containsExactly(new BulkNewsRow("First title", "First content", 1L, Set.of(1L)));
+        verify(authorRepository, times(1)).readExistingIds(any());
+    }
+
+    @Test
+    void importNews_shouldRejectLinesWithConstraintViolations() {
+        when(validator.validate(any())).thenReturn(Set.of(new ConstraintViolation("title is too short")));
+
+        ImportReportDtoResponse report = importService.importNews(stream("title,content,authorId,tagIds\nab,cd,1,\n"), ImportFormat.CSV);
+
+        assertThat(report.getFailed()).isEqualTo(1);
+        assertThat(report.getErrors().get(0).getLine()).isEqualTo(2);
+        assertThat(report.getErrors().get(0).getMessage()).contains("title is too short");
+        verifyNoInteractions(bulkWriter);
+    }
+
+    @Test
+    void importComments_shouldParseQuotedCsvAndResolveNewsOncePerChunk() {
+        String body = """
+                content,newsId
+                "Comment, with comma",1
+                "Comment spanning
+                two lines",1
+                Orphan comment,7
+                """;
+        when(validator.validate(any())).thenReturn(Set.of());
+        when(newsRepository.readExistingIds(any())).thenReturn(Set.of(1L));
+        when(bulkWriter.insertComments(any())).thenReturn(List.of(100L, 101L));
+
+        ImportReportDtoResponse report = importService.importComments(stream(body), ImportFormat.CSV);
+
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getErrors()).containsExactly(
+                new ImportErrorDtoResponse(5, String.format(NEWS_DOES_NOT_EXIST.getErrorMessage(), 7L)));
+        verify(bulkWriter).insertComments(commentRows.capture());
+        assertThat(commentRows.getValue()).containsExactly(
+                new BulkCommentRow("Comment, with comma", 1L),
+                new BulkCommentRow("Comment spanning\ntwo lines", 1L));
+        verify(newsRepository, times(1)).readExistingIds(any());
+    }
+
+    @Test
+    void importComments_shouldReportEveryLineOfRolledBackChunk() {
+        when(validator.validate(any())).thenReturn(Set.of());
+        when(newsRepository.readExistingIds(any())).thenReturn(Set.of(1L));
+        when(bulkWriter.insertComments(any())).thenThrow(new DataIntegrityViolationException("constraint violated"));
+
+        ImportReportDtoResponse report = importService.importComments(
+                stream("{\"content\":\"First comment\",\"newsId\":1}\n{\"content\":\"Second comment\",\"newsId\":1}\n"),
+                ImportFormat.NDJSON);
+
+        assertThat(report.getImported()).isZero();
+        assertThat(report.getFailed()).isEqualTo(2);
+        assertThat(report.getErrors()).extracting(ImportErrorDtoResponse::getLine).containsExactly(1L, 2L);
+    }
+}
@@ -1,18 +1,41 @@
 package com.mjc.school.service.impl;
 
+import com.mjc.school.bulk.OutboxWriter;
+import com.mjc.school.cache.ReadCacheInvalidator;
+import com.mjc.school.counter.EntityCounters;
+import com.mjc.school.counter.NewsLinks;
 import com.mjc.school.dto.AuthorDtoResponse;
+import com.mjc.school.dto.CursorPageDtoResponse;
+import com.mjc.school.dto.FacetDtoResponse;
+import com.mjc.school.dto.HighlightDtoResponse;
 import com.mjc.school.dto.NewsDtoRequest;
 import com.mjc.school.dto.NewsDtoResponse;
+import com.mjc.school.dto.NewsFacetsDtoResponse;
+import com.mjc.school.dto.NewsSearchHitDtoResponse;
 import com.mjc.school.dto.ParametersDtoRequest;
+import com.mjc.school.dto.TagDtoResponse;
 import com.mjc.school.exception.NotFoundException;
+import com.mjc.school.exception.ValidationException;
 import com.mjc.school.mapper.NewsDtoMapper;
+import com.mjc.school.model.AggregateType;
 import com.mjc.school.model.Author;
+import com.mjc.school.model.ChangeType;
 import com.mjc.school.model.News;
-import com.mjc.school.model.SearchParameters;
 import com.mjc.school.model.Tag;
-import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.projection.NewsFacetCount;
+import com.mjc.school.projection.NewsSummary;
+import com.mjc.school.projection.NewsTagSummary;
+import com.mjc.school.reference.ReferenceResolver;
+import com.mjc.school.reference.References;
 import com.mjc.school.repository.NewsRepository;
-import com.mjc.school.repository.TagRepository;
+import com.mjc.school.routing.ReadYourWritesTracker;
+import com.mjc.school.search.Highlight;
+import com.mjc.school.search.NewsIdSet;
+import com.mjc.school.search.NewsIndex;
+import com.mjc.school.search.SearchHit;
+import com.mjc.school.search.SearchPage;
+import com.mjc.school.search.TagExpression;
+import com.mjc.school.search.TagIndex;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -22,11 +45,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.mjc.school.exception.ExceptionErrorCodes.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -39,27 +68,42 @@ class NewsServiceImplTest {
     @Mock
     private NewsRepository newsRepository;
     @Mock
-    private AuthorRepository authorRepository;
-    @Mock
-    private TagRepository tagRepository;
+    private ReferenceResolver referenceResolver;
     @Mock
     private NewsDtoMapper newsDtoMapper;
 
+    @Mock
+    private ReadCacheInvalidator readCacheInvalidator;
+    @Mock
+    private EntityCounters entityCounters;
+
+    @Mock
+    private OutboxWriter outboxWriter;
+    @Mock
+    private NewsIndex newsIndex;
+    @Mock
+    private TagIndex tagIndex;
+    @Mock
+    private ReadYourWritesTracker readYourWritesTracker;
+
     @InjectMocks
     private NewsServiceImpl newsService;
 
     @Test
-    void readAll_shouldReturnAllNews() {
+    void readAll_shouldReturnAllNewsFromSummaryProjection() {
         Pageable pageable = PageRequest.of(0, 10);
-        List<News> newsList = List.of(new News());
-        Page<News> page = new PageImpl<>(newsList);
-        when(newsRepository.findAll(pageable)).thenReturn(page);
-        when(newsDtoMapper.modelToDto(any())).thenReturn(new NewsDtoResponse());
+        LocalDateTime dateTime = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        NewsSummary summary = new NewsSummary(1L, "title", "content", dateTime, dateTime, 2L, "author", 0L);
+        List<NewsTagSummary> tags = List.of(new NewsTagSummary(1L, 3L, "tag"));
+        when(newsRepository.findSummaries(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(summary)));
+        when(newsRepository.readTagSummariesByNewsIdIn(List.of(1L))).thenReturn(tags);
+        when(newsDtoMapper.summaryToDto(summary, List.of(new TagDtoResponse(3L, "tag")))).thenReturn(new NewsDtoResponse());
 
         Page<NewsDtoResponse> result = newsService.readAll(null, pageable);
 
         assertThat(result.getContent()).hasSize(1);
-        verify(newsRepository).findAll(pageable);
+        verify(newsRepository, never()).findAll(any(Pageable.class));
+        verify(newsRepository).readTagSummariesByNewsIdIn(List.of(1L));
     }
 
     @Test
@@ -88,10 +132,12 @@ class NewsServiceImplTest {
         LocalDateTime dateTime = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
         NewsDtoRequest request = new NewsDtoRequest("title", "content", 1L, null);
         News news = new News("title", "content", dateTime, dateTime, null, null, null);
+        news.setId(7L);
         news.setAuthor(new Author());
         news.getAuthor().setId(1L);
-        when(authorRepository.existsById(1L)).thenReturn(true);
-        when(newsDtoMapper.dtoToModel(any(), any(), any())).thenReturn(news);
+        References references = new References(Map.of(1L, news.getAuthor()), Map.of());
+        when(referenceResolver.resolve(List.of(1L), List.of())).thenReturn(references);
+        when(newsDtoMapper.dtoToModel(request, references)).thenReturn(news);
         when(newsRepository.save(news)).thenReturn(news);
         when(newsDtoMapper.modelToDto(news)).thenReturn(new NewsDtoResponse());
 
@@ -99,6 +145,7 @@ class NewsServiceImplTest {
 
         assertThat(result).isNotNull();
         verify(newsRepository).save(news);
+        verify(outboxWriter).append(AggregateType.NEWS, List.of(7L), ChangeType.CREATED);
     }
 
     @Test
@@ -106,11 +153,58 @@ class NewsServiceImplTest {
         NewsDtoRequest request = new NewsDtoRequest();
         Long id = 99L;
         request.setAuthorId(id);
-        when(authorRepository.existsById(id)).thenReturn(false);
+        when(referenceResolver.resolve(List.of(id), List.of()))
+                .thenThrow(new NotFoundException(String.format(AUTHOR_DOES_NOT_EXIST.getErrorMessage(), id)));
 
         NotFoundException exception = assertThrows(NotFoundException.class, () -> newsService.create(request));
         assertEquals(exception.getMessage(), String.format(AUTHOR_DOES_NOT_EXIST.getErrorMessage(), id));
+        verify(newsRepository, never()).save(any());
+
+    }
+
+    @Test
+    void createAll_shouldSaveAllNewsWithSingleLookupPerAssociation() {
+        LocalDateTime dateTime = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Author author = new Author();
+        author.setId(1L);
+        Tag tag = new Tag();
+        tag.setId(2L);
+        NewsDtoRequest first = new NewsDtoRequest("first", "content", 1L, List.of(2L));
+        NewsDtoRequest second = new NewsDtoRequest("second", "content", 1L, null);
+        News firstNews = new News("first", "content", dateTime, dateTime, author, null, null);
+        News secondNews = new News("second", "content", dateTime, dateTime, author, null, null);
+        References references = new References(Map.of(1L, author), Map.of(2L, tag));
+        when(referenceResolver.resolve(Set.of(1L), Set.of(2L))).thenReturn(references);
+        when(newsDtoMapper.dtoToModel(first, references)).thenReturn(firstNews);
+        when(newsDtoMapper.dtoToModel(second, references)).thenReturn(secondNews);
+        when(newsRepository.saveAll(List.of(firstNews, secondNews))).thenReturn(List.of(firstNews, secondNews));
+        when(newsDtoMapper.modelToDto(any())).thenReturn(new NewsDtoResponse());
 
+        List<NewsDtoResponse> result = newsService.createAll(List.of(first, second));
+
+        assertThat(result).hasSize(2);
+        verify(referenceResolver).resolve(Set.of(1L), Set.of(2L));
+        verify(newsRepository).saveAll(List.of(firstNews, secondNews));
+        verify(newsRepository, never()).save(any());
+    }
+
+    @Test
+    void createAll_shouldThrow_whenAuthorNotExists() {
+        NewsDtoRequest request = new NewsDtoRequest("title", "content", 99L, null);
+        when(referenceResolver.resolve(Set.of(99L), Set.of()))
+                .thenThrow(new NotFoundException(String.format(AUTHOR_DOES_NOT_EXIST.getErrorMessage(), 99L)));
+
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> newsService.createAll(List.of(request)));
+
+        assertEquals(String.format(AUTHOR_DOES_NOT_EXIST.getErrorMessage(), 99L), exception.getMessage());
+        verify(newsRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void createAll_shouldThrowValidationException_whenBatchIsEmpty() {
+        assertThrows(ValidationException.class, () -> newsService.createAll(List.of()));
+
+        verifyNoInteractions(newsRepository);
     }
 
     @Test
@@ -121,15 +215,19 @@ class NewsServiceImplTest {
         News news = new News();
         news.setId(1L);
 
+        Author author = new Author();
+        Tag tag = new Tag();
+
         when(newsRepository.findById(1L)).thenReturn(Optional.of(news));
-        when(authorRepository.findById(2L)).thenReturn(Optional.of(new Author()));
-        when(tagRepository.findById(3L)).thenReturn(Optional.of(new Tag()));
+        when(referenceResolver.resolve(List.of(2L), List.of(3L))).thenReturn(new References(Map.of(2L, author), Map.of(3L, tag)));
         when(newsRepository.save(news)).thenReturn(news);
         when(newsDtoMapper.modelToDto(news)).thenReturn(new NewsDtoResponse());
 
         NewsDtoResponse result = newsService.update(1L, request);
 
         assertThat(result).isNotNull();
+        assertSame(author, news.getAuthor());
+        assertEquals(List.of(tag), news.getTags());
     }
 
     @Test
@@ -147,7 +245,8 @@ class NewsServiceImplTest {
         request.setAuthorId(2L);
 
         when(newsRepository.findById(1L)).thenReturn(Optional.of(new News()));
-        when(authorRepository.findById(2L)).thenReturn(Optional.empty());
+        when(referenceResolver.resolve(List.of(2L), List.of()))
+                .thenThrow(new NotFoundException(String.format(AUTHOR_DOES_NOT_EXIST.getErrorMessage(), 2L)));
 
         NotFoundException exception = assertThrows(NotFoundException.class, () -> newsService.update(1L, request));
         assertEquals(exception.getMessage(), String.format(AUTHOR_DOES_NOT_EXIST.getErrorMessage(), 2L));
@@ -160,11 +259,12 @@ class NewsServiceImplTest {
         request.setTagIds(List.of(3L));
 
         when(newsRepository.findById(1L)).thenReturn(Optional.of(new News()));
-        when(authorRepository.findById(2L)).thenReturn(Optional.of(new Author()));
-        when(tagRepository.findById(3L)).thenReturn(Optional.empty());
+        when(referenceResolver.resolve(List.of(2L), List.of(3L)))
+                .thenThrow(new NotFoundException(String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), 3L)));
 
         NotFoundException exception = assertThrows(NotFoundException.class, () -> newsService.update(1L, request));
         assertEquals(exception.getMessage(), String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), 3L));
+        verify(newsRepository, never()).save(any());
     }
 
 
@@ -179,7 +279,7 @@ class NewsServiceImplTest {
 
         assertTrue(exception.getMessage().contains("does not exist"));
         verify(newsRepository).findById(10L);
-        verifyNoMoreInteractions(newsRepository, authorRepository, tagRepository, newsDtoMapper);
+        verifyNoMoreInteractions(newsRepository, referenceResolver, newsDtoMapper);
     }
 
     @Test
@@ -215,7 +315,7 @@ class NewsServiceImplTest {
         verify(newsRepository).save(existingNews);
         verify(newsDtoMapper).modelToDto(existingNews);
 
-        verifyNoInteractions(authorRepository, tagRepository);
+        verify(referenceResolver).resolve(List.of(), List.of());
     }
 
     @Test
@@ -245,7 +345,7 @@ class NewsServiceImplTest {
         verify(newsRepository).findById(10L);
         verify(newsRepository).save(existingNews);
         verify(newsDtoMapper).modelToDto(existingNews);
-        verifyNoInteractions(authorRepository, tagRepository);
+        verify(referenceResolver).resolve(List.of(), List.of());
     }
 
     @Test
@@ -262,7 +362,7 @@ class NewsServiceImplTest {
         expectedResponse.getAuthorDtoResponse().setId(2L);
 
         when(newsRepository.findById(10L)).thenReturn(Optional.of(existingNews));
-        when(authorRepository.findById(2L)).thenReturn(Optional.of(newAuthor));
+        when(referenceResolver.resolve(List.of(2L), List.of())).thenReturn(new References(Map.of(2L, newAuthor), Map.of()));
         when(newsRepository.save(existingNews)).thenReturn(existingNews);
         when(newsDtoMapper.modelToDto(existingNews)).thenReturn(expectedResponse);
 
@@ -272,10 +372,9 @@ class NewsServiceImplTest {
         assertEquals(newAuthor, existingNews.getAuthor());
 
         verify(newsRepository).findById(10L);
-        verify(authorRepository).findById(2L);
+        verify(referenceResolver).resolve(List.of(2L), List.of());
         verify(newsRepository).save(existingNews);
         verify(newsDtoMapper).modelToDto(existingNews);
-        verifyNoInteractions(tagRepository);
     }
 
     @Test
@@ -288,7 +387,8 @@ class NewsServiceImplTest {
         existingNews.setId(10L);
 
         when(newsRepository.findById(10L)).thenReturn(Optional.of(existingNews));
-        when(authorRepository.findById(999L)).thenReturn(Optional.empty());
+        when(referenceResolver.resolve(List.of(999L), List.of()))
+                .thenThrow(new NotFoundException(String.format(AUTHOR_DOES_NOT_EXIST.getErrorMessage(), 999L)));
 
         NotFoundException exception = assertThrows(NotFoundException.class,
                 () -> newsService.patch(10L, patchRequest));
@@ -296,8 +396,8 @@ class NewsServiceImplTest {
         assertEquals(exception.getMessage(), String.format(AUTHOR_DOES_NOT_EXIST.getErrorMessage(), 999L));
 
         verify(newsRepository).findById(10L);
-        verify(authorRepository).findById(999L);
-        verifyNoMoreInteractions(newsRepository, authorRepository, tagRepository, newsDtoMapper);
+        verify(referenceResolver).resolve(List.of(999L), List.of());
+        verifyNoMoreInteractions(newsRepository, referenceResolver, newsDtoMapper);
     }
 
     @Test
@@ -317,8 +417,8 @@ class NewsServiceImplTest {
         when(newsRepository.findById(10L)).thenReturn(Optional.of(existingNews));
         when(newsRepository.save(existingNews)).thenReturn(existingNews);
         when(newsDtoMapper.modelToDto(existingNews)).thenReturn(expectedResponse);
-        when(tagRepository.findById(1L)).thenReturn(Optional.of(tagsFromDb.get(0)));
-        when(tagRepository.findById(2L)).thenReturn(Optional.of(tagsFromDb.get(1)));
+        when(referenceResolver.resolve(List.of(), List.of(1L, 2L)))
+                .thenReturn(new References(Map.of(), Map.of(1L, tagsFromDb.get(0), 2L, tagsFromDb.get(1))));
 
         NewsDtoResponse actual = newsService.patch(10L, patchRequest);
 
@@ -326,11 +426,9 @@ class NewsServiceImplTest {
         assertEquals(tagsFromDb, existingNews.getTags());
 
         verify(newsRepository).findById(10L);
-        verify(tagRepository).findById(1L);
-        verify(tagRepository).findById(2L);
+        verify(referenceResolver).resolve(List.of(), List.of(1L, 2L));
         verify(newsRepository).save(existingNews);
         verify(newsDtoMapper).modelToDto(existingNews);
-        verifyNoInteractions(authorRepository);
     }
 
     @Test
@@ -338,16 +436,13 @@ class NewsServiceImplTest {
         NewsDtoRequest patchRequest = new NewsDtoRequest();
         patchRequest.setTagIds(List.of(1L, 2L));
 
-        List<Tag> incompleteTagsList = List.of(new Tag("tag1"));
-        incompleteTagsList.get(0).setId(1L);
-
         LocalDateTime dateTime = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
         News existingNews = new News("title", "content", dateTime, dateTime, null, null, null);
         existingNews.setId(10L);
 
         when(newsRepository.findById(10L)).thenReturn(Optional.of(existingNews));
-        when(tagRepository.findById(1L)).thenReturn(Optional.of(incompleteTagsList.get(0)));
-        when(tagRepository.findById(2L)).thenReturn(Optional.empty());
+        when(referenceResolver.resolve(List.of(), List.of(1L, 2L)))
+                .thenThrow(new NotFoundException(String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), 2L)));
 
         NotFoundException exception = assertThrows(NotFoundException.class,
                 () -> newsService.patch(10L, patchRequest));
@@ -355,35 +450,42 @@ class NewsServiceImplTest {
         assertEquals(String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), 2L), exception.getMessage());
 
         verify(newsRepository).findById(10L);
-        verify(tagRepository).findById(1L);
-        verify(tagRepository).findById(2L);
-        verifyNoMoreInteractions(newsRepository, authorRepository, tagRepository, newsDtoMapper);
+        verify(referenceResolver).resolve(List.of(), List.of(1L, 2L));
+        verifyNoMoreInteractions(newsRepository, referenceResolver, newsDtoMapper);
     }
 
     @Test
     void deleteById_whenNewsExists_shouldDeleteSuccessfully() {
         Long id = 1L;
+        Author author = new Author();
+        author.setId(3L);
+        Tag tag = new Tag("tag");
+        tag.setId(4L);
+        News news = new News("title", "content", null, null, author, List.of(tag), List.of());
+        news.setId(id);
 
-        when(newsRepository.existsById(id)).thenReturn(true);
+        when(newsRepository.findById(id)).thenReturn(Optional.of(news));
 
         newsService.deleteById(id);
 
-        verify(newsRepository).existsById(id);
-        verify(newsRepository).deleteById(id);
+        verify(entityCounters).newsLinksChanged(List.of(new NewsLinks(3L, List.of(4L))), List.of());
+        verify(newsRepository).delete(news);
+        verify(outboxWriter).append(AggregateType.NEWS, List.of(id), ChangeType.DELETED);
     }
 
     @Test
     void deleteById_whenNewsDoesNotExist_shouldThrowNotFoundException() {
         Long id = 2L;
 
-        when(newsRepository.existsById(id)).thenReturn(false);
+        when(newsRepository.findById(id)).thenReturn(Optional.empty());
 
         NotFoundException exception = assertThrows(NotFoundException.class, () -> newsService.deleteById(id));
 
         assertEquals(exception.getMessage(), String.format(NEWS_DOES_NOT_EXIST.getErrorMessage(), id));
 
-        verify(newsRepository).existsById(id);
-        verify(newsRepository, never()).deleteById(any());
+        verify(newsRepository).findById(id);
+        verify(newsRepository, never()).delete(any(News.class));
+        verifyNoInteractions(entityCounters, outboxWriter);
     }
 
     @Test
@@ -393,27 +495,27 @@ class NewsServiceImplTest {
                 "content",
                 "author",
                 List.of(1, 2),
-                List.of("tag1", "tag2")
+                List.of("tag1", "tag2"),
+                null
         );
 
         Pageable pageable = PageRequest.of(0, 10);
 
-        News news = new News();
         LocalDateTime dateTime = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        NewsSummary summary = new NewsSummary(1L, "title", "content", dateTime, dateTime, 1L, "author", 0L);
         NewsDtoResponse dto = new NewsDtoResponse(1L, "title", "content", dateTime, dateTime, null, List.of());
 
-        Page<News> newsPage = new PageImpl<>(List.of(news));
-
-        when(newsRepository.readByParams(any(SearchParameters.class), eq(pageable))).thenReturn(newsPage);
-        when(newsDtoMapper.modelToDto(news)).thenReturn(dto);
+        when(newsRepository.findSummaries(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(summary)));
+        when(newsRepository.readTagSummariesByNewsIdIn(List.of(1L))).thenReturn(List.of());
+        when(newsDtoMapper.summaryToDto(summary, List.of())).thenReturn(dto);
 
         Page<NewsDtoResponse> result = newsService.readByParams(request, pageable);
 
         assertEquals(1, result.getTotalElements());
         assertEquals(dto, result.getContent().get(0));
 
-        verify(newsRepository).readByParams(any(SearchParameters.class), eq(pageable));
-        verify(newsDtoMapper).modelToDto(news);
+        verify(newsRepository).findSummaries(any(Specification.class), eq(pageable));
+        verify(newsDtoMapper).summaryToDto(summary, List.of());
     }
 
     @Test
@@ -423,24 +525,22 @@ class NewsServiceImplTest {
                 "",
                 "",
                 List.of(),
+                null,
                 null
         );
 
         Pageable pageable = PageRequest.of(0, 10);
 
-        News news = new News();
         LocalDateTime dateTime = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
-        NewsDtoResponse dtoResponse = new NewsDtoResponse(1L, "title", "content", dateTime, dateTime, null, null);
+        NewsSummary summary = new NewsSummary(1L, "title", "content", dateTime, dateTime, 1L, "author", 0L);
 
-        Page<News> newsPage = new PageImpl<>(List.of(news));
-
-        when(newsRepository.readByParams(any(SearchParameters.class), eq(pageable))).thenReturn(newsPage);
-        when(newsDtoMapper.modelToDto(news)).thenReturn(dtoResponse);
+        when(newsRepository.findSummaries(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(summary)));
+        when(newsDtoMapper.summaryToDto(eq(summary), any())).thenReturn(new NewsDtoResponse());
 
         Page<NewsDtoResponse> result = newsService.readByParams(request, pageable);
 
         assertEquals(1, result.getTotalElements());
-        verify(newsRepository).readByParams(any(SearchParameters.class), eq(pageable));
+        verify(newsRepository).findSummaries(any(Specification.class), eq(pageable));
     }
 
     @Test
@@ -450,17 +550,264 @@ class NewsServiceImplTest {
                 "",
                 "",
                 null,
+                null,
                 null
         );
 
         Pageable pageable = PageRequest.of(0, 5);
 
-        when(newsRepository.readByParams(any(SearchParameters.class), eq(pageable)))
+        when(newsRepository.findSummaries(any(Specification.class), eq(pageable)))
                 .thenReturn(Page.empty());
 
         Page<NewsDtoResponse> result = newsService.readByParams(request, pageable);
 
         assertTrue(result.isEmpty());
-        verify(newsRepository).readByParams(any(SearchParameters.class), eq(pageable));
+        verify(newsRepository).findSummaries(any(Specification.class), eq(pageable));
+        verify(newsRepository, never()).readTagSummariesByNewsIdIn(any());
+    }
+
+    @Test
+    void readByParams_shouldGroupTagsByNewsOfThePage() {
+        ParametersDtoRequest request = new ParametersDtoRequest("title", "", "", null, null, null);
+        Pageable pageable = PageRequest.of(0, 2);
+
+        NewsSummary first = new NewsSummary(2L, "title2", "content2", null, null, 1L, "author", 0L);
+        NewsSummary second = new NewsSummary(1L, "title1", "content1", null, null, 1L, "author", 0L);
+        NewsDtoResponse firstDto = new NewsDtoResponse();
+        firstDto.setId(2L);
+        NewsDtoResponse secondDto = new NewsDtoResponse();
+        secondDto.setId(1L);
+
+        when(newsRepository.findSummaries(any(Specification.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(first, second), pageable, 5));
+        when(newsRepository.readTagSummariesByNewsIdIn(List.of(2L, 1L))).thenReturn(List.of(
+                new NewsTagSummary(1L, 1L, "tag1"), new NewsTagSummary(2L, 1L, "tag1"), new NewsTagSummary(2L, 2L, "tag2")));
+        when(newsDtoMapper.summaryToDto(first, List.of(new TagDtoResponse(1L, "tag1"), new TagDtoResponse(2L, "tag2")))).thenReturn(firstDto);
+        when(newsDtoMapper.summaryToDto(second, List.of(new TagDtoResponse(1L, "tag1")))).thenReturn(secondDto);
+
+        Page<NewsDtoResponse> result = newsService.readByParams(request, pageable);
+
+        assertEquals(5, result.getTotalElements());
+        assertEquals(List.of(firstDto, secondDto), result.getContent());
+    }
+
+    @Test
+    void readByParams_shouldPageTagExpressionMatchesFromTagIndexNewestFirst_whenNoOtherFilterIsGiven() {
+        ParametersDtoRequest request = new ParametersDtoRequest("", null, null, List.of(4, 5), null, "(1 OR 2) AND NOT 3");
+        Pageable pageable = PageRequest.of(1, 2);
+        NewsIdSet matches = mock(NewsIdSet.class);
+        NewsSummary first = new NewsSummary(7L, "title7", "content7", null, null, 1L, "author", 0L);
+        NewsSummary second = new NewsSummary(5L, "title5", "content5", null, null, 1L, "author", 0L);
+        NewsDtoResponse firstDto = new NewsDtoResponse();
+        firstDto.setId(7L);
+        NewsDtoResponse secondDto = new NewsDtoResponse();
+        secondDto.setId(5L);
+        TagExpression expected = new TagExpression.And(
+                new TagExpression.And(
+                        new TagExpression.Or(new TagExpression.Tag(1L), new TagExpression.Tag(2L)),
+                        new TagExpression.Not(new TagExpression.Tag(3L))),
+                new TagExpression.Or(new TagExpression.Tag(4L), new TagExpression.Tag(5L)));
+        when(tagIndex.match(expected)).thenReturn(matches);
+        when(matches.size()).thenReturn(5L);
+        when(matches.page(2L, 2, true)).thenReturn(List.of(7L, 5L));
+        when(newsRepository.readSummariesByIdIn(List.of(7L, 5L))).thenReturn(List.of(second, first));
+        when(newsDtoMapper.summaryToDto(eq(first), any())).thenReturn(firstDto);
+        when(newsDtoMapper.summaryToDto(eq(second), any())).thenReturn(secondDto);
+
+        Page<NewsDtoResponse> result = newsService.readByParams(request, pageable);
+
+        assertEquals(5, result.getTotalElements());
+        assertEquals(List.of(firstDto, secondDto), result.getContent());
+        verify(newsRepository, never()).findSummaries(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    void readByParams_shouldFilterTagExpressionInQueryNewestFirst_whenClientIsPinnedToPrimary() {
+        ParametersDtoRequest request = new ParametersDtoRequest(null, null, null, null, null, "1 OR 2");
+        Pageable newestFirst = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"));
+        when(readYourWritesTracker.isPinnedToPrimary()).thenReturn(true);
+        when(newsRepository.findSummaries(any(Specification.class), eq(newestFirst))).thenReturn(Page.empty(newestFirst));
+
+        Page<NewsDtoResponse> result = newsService.readByParams(request, PageRequest.of(0, 10));
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(tagIndex);
+    }
+
+    @Test
+    void readByParams_shouldFilterTagExpressionInQuery_whenCombinedWithFieldFilter() {
+        ParametersDtoRequest request = new ParametersDtoRequest("title", null, null, null, null, "1");
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("id"));
+        when(newsRepository.findSummaries(any(Specification.class), eq(pageable))).thenReturn(Page.empty(pageable));
+
+        Page<NewsDtoResponse> result = newsService.readByParams(request, pageable);
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(tagIndex);
+    }
+
+    @Test
+    void readByParams_shouldFilterTagExpressionInQuery_whenSortedByOtherField() {
+        ParametersDtoRequest request = new ParametersDtoRequest(null, null, null, null, null, "1 and not 2");
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("title"));
+        when(newsRepository.findSummaries(any(Specification.class), eq(pageable))).thenReturn(Page.empty(pageable));
+
+        Page<NewsDtoResponse> result = newsService.readByParams(request, pageable);
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(tagIndex);
+    }
+
+    @Test
+    void readByParams_shouldThrowValidationException_whenTagExpressionIsMalformed() {
+        ParametersDtoRequest request = new ParametersDtoRequest(null, null, null, null, null, "1 AND (2 OR");
+
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> newsService.readByParams(request, PageRequest.of(0, 10)));
+
+        assertEquals(String.format(VALIDATION_EXCEPTION.getErrorMessage(), "tag expression unexpected end of expression"),
+                exception.getMessage());
+        verifyNoInteractions(tagIndex, newsRepository);
+    }
+
+    @Test
+    void readFacets_shouldCountTopTagsAndAuthorsOfMatchesInQuery() {
+        ParametersDtoRequest request = new ParametersDtoRequest("title", null, null, null, null, "1 OR 2");
+        when(newsRepository.count(any(Specification.class))).thenReturn(2L);
+        when(newsRepository.findTopTags(any(Specification.class), eq(5)))
+                .thenReturn(List.of(new NewsFacetCount(1L, "politics", 2L), new NewsFacetCount(9L, "sport", 1L)));
+        when(newsRepository.findTopAuthors(any(Specification.class), eq(5)))
+                .thenReturn(List.of(new NewsFacetCount(10L, "Anna Smith", 2L)));
+
+        NewsFacetsDtoResponse result = newsService.readFacets(request, 5);
+
+        assertEquals(new NewsFacetsDtoResponse(2,
+                List.of(new FacetDtoResponse(1L, "politics", 2), new FacetDtoResponse(9L, "sport", 1)),
+                List.of(new FacetDtoResponse(10L, "Anna Smith", 2))), result);
+    }
+
+    @Test
+    void readFacets_shouldThrowValidationException_whenTagExpressionIsMalformed() {
+        ParametersDtoRequest request = new ParametersDtoRequest(null, null, null, null, null, "NOT");
+
+        assertThrows(ValidationException.class, () -> newsService.readFacets(request, 10));
+        verifyNoInteractions(tagIndex, newsRepository);
+    }
+
+    @Test
+    void readFacets_shouldThrowValidationException_whenLimitIsOutOfRange() {
+        ParametersDtoRequest request = new ParametersDtoRequest(null, null, null, null, null, null);
+
+        assertThrows(ValidationException.class, () -> newsService.readFacets(request, 0));
+        assertThrows(ValidationException.class, () -> newsService.readFacets(request, 101));
+        verifyNoInteractions(tagIndex, newsRepository);
+    }
+
+    @Test
+    void readByFullText_shouldKeepRankOrder_whenSummariesAreFetchedInAnotherOrder() {
+        Pageable pageable = PageRequest.of(0, 2);
+        NewsSummary first = new NewsSummary(2L, "title2", "content2", null, null, 1L, "author", 0L);
+        NewsSummary second = new NewsSummary(1L, "title1", "content1", null, null, 1L, "author", 0L);
+        NewsDtoResponse firstDto = new NewsDtoResponse();
+        firstDto.setId(2L);
+        NewsDtoResponse secondDto = new NewsDtoResponse();
+        secondDto.setId(1L);
+
+        when(newsRepository.readIdsByFullText("query", pageable)).thenReturn(new PageImpl<>(List.of(2L, 1L), pageable, 5));
+        when(newsRepository.readSummariesByIdIn(List.of(2L, 1L))).thenReturn(List.of(second, first));
+        when(newsDtoMapper.summaryToDto(eq(first), any())).thenReturn(firstDto);
+        when(newsDtoMapper.summaryToDto(eq(second), any())).thenReturn(secondDto);
+
+        Page<NewsDtoResponse> result = newsService.readByFullText("query", pageable);
+
+        assertEquals(5, result.getTotalElements());
+        assertEquals(List.of(firstDto, secondDto), result.getContent());
+    }
+
+    @Test
+    void readByFullText_shouldReturnNewsInRankOrder() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("title"));
+        NewsSummary summary = new NewsSummary(3L, "title3", "content3", null, null, 1L, "author", 0L);
+        NewsDtoResponse dto = new NewsDtoResponse();
+        dto.setId(3L);
+
+        when(newsRepository.readIdsByFullText("query", PageRequest.of(0, 10)))
+                .thenReturn(new PageImpl<>(List.of(3L), PageRequest.of(0, 10), 1));
+        when(newsRepository.readSummariesByIdIn(List.of(3L))).thenReturn(List.of(summary));
+        when(newsDtoMapper.summaryToDto(eq(summary), any())).thenReturn(dto);
+
+        Page<NewsDtoResponse> result = newsService.readByFullText(" query ", pageable);
+
+        assertEquals(List.of(dto), result.getContent());
+        verify(newsRepository).readIdsByFullText("query", PageRequest.of(0, 10));
+    }
+
+    @Test
+    void readByFullText_shouldThrowValidationException_whenQueryIsBlank() {
+        assertThrows(ValidationException.class, () -> newsService.readByFullText(" ", PageRequest.of(0, 10)));
+        verifyNoInteractions(newsRepository);
+    }
+
+    @Test
+    void readByIndex_shouldHydrateHitsInIndexOrderAndSkipNewsDeletedSinceIndexing() {
+        Pageable pageable = PageRequest.of(1, 2);
+        NewsSummary first = new NewsSummary(2L, "title2", "content2", null, null, 1L, "author", 0L);
+        NewsSummary second = new NewsSummary(1L, "title1", "content1", null, null, 1L, "author", 0L);
+        NewsDtoResponse firstDto = new NewsDtoResponse();
+        firstDto.setId(2L);
+        NewsDtoResponse secondDto = new NewsDtoResponse();
+        secondDto.setId(1L);
+        when(newsIndex.search("\"breaking news\"", 2, 2)).thenReturn(new SearchPage(7, List.of(
+                new SearchHit(2L, 3.5f, List.of(new Highlight("title", 0, 8))),
+                new SearchHit(9L, 2.0f, List.of()),
+                new SearchHit(1L, 1.5f, List.of()))));
+        when(newsRepository.readSummariesByIdIn(List.of(2L, 9L, 1L))).thenReturn(List.of(second, first));
+        when(newsDtoMapper.summaryToDto(eq(first), any())).thenReturn(firstDto);
+        when(newsDtoMapper.summaryToDto(eq(second), any())).thenReturn(secondDto);
+
+        Page<NewsSearchHitDtoResponse> result = newsService.readByIndex(" \"breaking news\" ", pageable);
+
+        assertEquals(7, result.getTotalElements());
+        assertEquals(List.of(
+                new NewsSearchHitDtoResponse(firstDto, 3.5f, List.of(new HighlightDtoResponse("title", 0, 8))),
+                new NewsSearchHitDtoResponse(secondDto, 1.5f, List.of())), result.getContent());
+    }
+
+    @Test
+    void readByIndex_shouldThrowValidationException_whenPageIsBeyondSearchWindow() {
+        assertThrows(ValidationException.class, () -> newsService.readByIndex("query", PageRequest.of(500, 20)));
+        verifyNoInteractions(newsIndex);
+    }
+
+    @Test
+    void scroll_shouldAcceptCursorOfPreviousSlice_whenSortIsTheSame() {
+        Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "createDate"));
+        LocalDateTime createDate = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Window<News> firstWindow = Window.from(List.of(new News()),
+                index -> ScrollPosition.forward(Map.of("createDate", createDate, "id", 7L)), true);
+        Window<News> lastWindow = Window.from(List.of(new News()),
+                index -> ScrollPosition.forward(Map.of("createDate", createDate, "id", 6L)), false);
+        doReturn(firstWindow, lastWindow).when(newsRepository).findBy(any(Specification.class), any());
+        when(newsDtoMapper.modelToDto(any())).thenReturn(new NewsDtoResponse());
+
+        CursorPageDtoResponse<NewsDtoResponse> first = newsService.scroll(null, null, pageable);
+        CursorPageDtoResponse<NewsDtoResponse> last = newsService.scroll(null, first.getNextCursor(), pageable);
+
+        assertTrue(first.isHasNext());
+        assertFalse(last.isHasNext());
+        assertNull(last.getNextCursor());
+        verify(newsRepository, times(2)).findBy(any(Specification.class), any());
+    }
+
+    @Test
+    void scroll_shouldThrowValidationException_whenCursorWasIssuedForAnotherSort() {
+        Window<News> window = Window.from(List.of(new News()),
+                index -> ScrollPosition.forward(Map.of("title", "title", "id", 1L)), true);
+        doReturn(window).when(newsRepository).findBy(any(Specification.class), any());
+        when(newsDtoMapper.modelToDto(any())).thenReturn(new NewsDtoResponse());
+        String cursor = newsService.scroll(null, null, PageRequest.of(0, 1, Sort.by("title"))).getNextCursor();
+
+        assertThrows(ValidationException.class,
+                () -> newsService.scroll(null, cursor, PageRequest.of(0, 1, Sort.by("createDate"))));
     }
-}
\ No newline at end of file
+}
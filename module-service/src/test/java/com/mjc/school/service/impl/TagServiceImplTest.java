@@ -1,11 +1,22 @@
 package com.mjc.school.service.impl;
 
+import com.mjc.school.bulk.NewsFilter;
+import com.mjc.school.bulk.OutboxWriter;
+import com.mjc.school.bulk.TagLinkWriter;
+import com.mjc.school.cache.ReadCacheInvalidator;
+import com.mjc.school.dto.CursorPageDtoResponse;
+import com.mjc.school.dto.RetagAction;
+import com.mjc.school.dto.RetagDtoRequest;
+import com.mjc.school.dto.SearchableEntity;
 import com.mjc.school.dto.SearchingRequest;
 import com.mjc.school.dto.TagDtoRequest;
 import com.mjc.school.dto.TagDtoResponse;
 import com.mjc.school.exception.NotFoundException;
+import com.mjc.school.exception.ValidationException;
 import com.mjc.school.filter.EntitySpecification;
 import com.mjc.school.mapper.TagDtoMapper;
+import com.mjc.school.model.AggregateType;
+import com.mjc.school.model.ChangeType;
 import com.mjc.school.model.Tag;
 import com.mjc.school.repository.NewsRepository;
 import com.mjc.school.repository.TagRepository;
@@ -18,15 +29,23 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.mjc.school.exception.ExceptionErrorCodes.NEWS_DOES_NOT_EXIST;
 import static com.mjc.school.exception.ExceptionErrorCodes.TAG_DOES_NOT_EXIST;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -37,8 +56,16 @@ class TagServiceImplTest {
     @Mock
     private NewsRepository newsRepository;
     @Mock
+    private TagLinkWriter tagLinkWriter;
+    @Mock
     private TagDtoMapper tagDtoMapper;
 
+    @Mock
+    private ReadCacheInvalidator readCacheInvalidator;
+
+    @Mock
+    private OutboxWriter outboxWriter;
+
     @InjectMocks
     private TagServiceImpl tagService;
 
@@ -63,9 +90,9 @@ class TagServiceImplTest {
     @Test
     void readAll_shouldReturnFilteredTags_whenSearchingRequestIsProvided() {
         Pageable pageable = PageRequest.of(0, 10);
-        SearchingRequest searchingRequest = new SearchingRequest("name:Name");
+        SearchingRequest searchingRequest = new SearchingRequest(SearchableEntity.TAG, "name:Name");
         String[] specs = searchingRequest.getFieldNameAndValue().split(":");
-        Specification<Tag> specification = EntitySpecification.searchByField(specs[0], specs[1]);
+        Specification<Tag> specification = EntitySpecification.searchByField(Tag.class, specs[0], specs[1]);
 
         List<Tag> tags = List.of(new Tag(), new Tag());
         Page<Tag> tagPage = new PageImpl<>(tags, pageable, tags.size());
@@ -244,34 +271,89 @@ class TagServiceImplTest {
     }
 
     @Test
-    void deleteById_shouldDelete_whenTagExists() {
+    void deleteById_shouldUnlinkNewsWithSetBasedStatementAndDelete_whenTagExists() {
         Long id = 1L;
-        Tag tag = new Tag("Tag1");
-        tag.setId(id);
 
-        when(tagRepository.findById(id)).thenReturn(Optional.of(tag));
+        when(tagRepository.existsById(id)).thenReturn(true);
+        when(tagLinkWriter.unlinkAll(id)).thenReturn(100_000);
 
         tagService.deleteById(id);
 
-        verify(tagRepository).findById(id);
+        verify(tagLinkWriter).unlinkAll(id);
+        verify(readCacheInvalidator).tagChanged(id);
         verify(tagRepository).deleteById(id);
+        verify(tagRepository, never()).findById(any());
     }
 
     @Test
     void deleteById_shouldThrowNotFoundException_whenTagDoesNotExist() {
         Long id = 99L;
 
-        when(tagRepository.findById(id)).thenReturn(Optional.empty());
+        when(tagRepository.existsById(id)).thenReturn(false);
 
         NotFoundException exception = assertThrows(NotFoundException.class,
                 () -> tagService.deleteById(id));
 
         assertEquals(String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), id), exception.getMessage());
 
-        verify(tagRepository).findById(id);
+        verifyNoInteractions(tagLinkWriter);
         verify(tagRepository, never()).deleteById(any());
     }
 
+    @Test
+    void merge_shouldMoveLinksToTargetAndDeleteSource() {
+        when(tagRepository.existsById(1L)).thenReturn(true);
+        when(tagRepository.existsById(2L)).thenReturn(true);
+        when(tagLinkWriter.merge(1L, 2L)).thenReturn(3);
+
+        tagService.merge(1L, 2L);
+
+        verify(tagLinkWriter).merge(1L, 2L);
+        verify(readCacheInvalidator).tagsChanged(List.of(1L, 2L));
+        verify(tagRepository).deleteById(1L);
+        verify(tagRepository, never()).deleteById(2L);
+        verify(outboxWriter).append(AggregateType.TAG, List.of(1L), ChangeType.DELETED);
+        verify(outboxWriter).append(AggregateType.TAG, List.of(2L), ChangeType.UPDATED);
+    }
+
+    @Test
+    void merge_shouldThrowValidationException_whenMergingTagIntoItself() {
+        assertThrows(ValidationException.class, () -> tagService.merge(1L, 1L));
+
+        verifyNoInteractions(tagLinkWriter);
+    }
+
+    @Test
+    void merge_shouldThrowNotFoundException_whenTargetDoesNotExist() {
+        when(tagRepository.existsById(1L)).thenReturn(true);
+        when(tagRepository.existsById(2L)).thenReturn(false);
+
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> tagService.merge(1L, 2L));
+
+        assertEquals(String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), 2L), exception.getMessage());
+        verifyNoInteractions(tagLinkWriter);
+    }
+
+    @Test
+    void retag_shouldLinkOrUnlinkMatchingNews() {
+        when(tagRepository.existsById(1L)).thenReturn(true);
+
+        tagService.retag(1L, new RetagDtoRequest(RetagAction.ADD, 2L, null, null));
+        tagService.retag(1L, new RetagDtoRequest(RetagAction.REMOVE, null, 3L, "title"));
+
+        verify(tagLinkWriter).link(1L, new NewsFilter(2L, null, null));
+        verify(tagLinkWriter).unlink(1L, new NewsFilter(null, 3L, "title"));
+        verify(readCacheInvalidator, times(2)).tagChanged(1L);
+    }
+
+    @Test
+    void retag_shouldThrowValidationException_whenFilterIsEmpty() {
+        assertThrows(ValidationException.class,
+                () -> tagService.retag(1L, new RetagDtoRequest(RetagAction.ADD, null, null, " ")));
+
+        verifyNoInteractions(tagLinkWriter);
+    }
+
     @Test
     void readByNewsId_shouldReturnPageOfTags_whenNewsExists() {
         Long newsId = 1L;
@@ -311,4 +393,56 @@ class TagServiceImplTest {
         verifyNoInteractions(tagDtoMapper);
     }
 
-}
\ No newline at end of file
+    @Test
+    void scroll_shouldReturnSliceWithCursor_whenMoreTagsExist() {
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "name"));
+        Tag first = new Tag("name1");
+        first.setId(1L);
+        Tag second = new Tag("name2");
+        second.setId(2L);
+        Window<Tag> window = Window.from(List.of(first, second),
+                index -> ScrollPosition.forward(Map.of("name", index == 0 ? "name1" : "name2", "id", index + 1L)), true);
+
+        doReturn(window).when(tagRepository).findBy(any(Specification.class), any());
+        when(tagDtoMapper.modelToDto(any(Tag.class))).thenReturn(new TagDtoResponse());
+
+        CursorPageDtoResponse<TagDtoResponse> result = tagService.scroll(null, null, pageable);
+
+        assertEquals(2, result.getSize());
+        assertTrue(result.isHasNext());
+        assertNotNull(result.getNextCursor());
+        verify(tagRepository).findBy(any(Specification.class), any());
+        verify(tagDtoMapper, times(2)).modelToDto(any(Tag.class));
+    }
+
+    @Test
+    void scroll_shouldReturnLastSliceWithoutCursor_whenNoMoreTagsExist() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Window<Tag> window = Window.from(List.of(new Tag()), index -> ScrollPosition.forward(Map.of("id", 1L)), false);
+
+        doReturn(window).when(tagRepository).findBy(any(Specification.class), any());
+        when(tagDtoMapper.modelToDto(any(Tag.class))).thenReturn(new TagDtoResponse());
+
+        CursorPageDtoResponse<TagDtoResponse> result = tagService.scroll(new SearchingRequest(SearchableEntity.TAG, "name:name"), null, pageable);
+
+        assertEquals(1, result.getSize());
+        assertFalse(result.isHasNext());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void scroll_shouldThrowValidationException_whenSortKeyIsNotIndexed() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("news"));
+
+        assertThrows(ValidationException.class, () -> tagService.scroll(null, null, pageable));
+        verifyNoInteractions(tagRepository);
+    }
+
+    @Test
+    void scroll_shouldThrowValidationException_whenCursorIsMalformed() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        assertThrows(ValidationException.class, () -> tagService.scroll(null, "not-a-cursor", pageable));
+        verifyNoInteractions(tagRepository);
+    }
+}
@@ -1,6 +1,7 @@
 package com.mjc.school.config;
 
 import com.mjc.school.auth.Oauth2LoginSuccessHandler;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -56,6 +57,7 @@ public class WebSecurityConfig {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(authorize -> authorize
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/v3/api-docs",
                                 "/swagger-resources/**",
@@ -64,8 +66,9 @@ public class WebSecurityConfig {
                                 "/swagger-ui.html",
                                 "/h2-console").permitAll()
                         .requestMatchers("/api/v1/auth/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/news/export", "/api/v1/comments/export").hasAuthority(ADMIN)
                         .requestMatchers(HttpMethod.GET, "/api/v1/**").permitAll()
-                        .requestMatchers(HttpMethod.POST, "/api/v1/news", "/api/v1/comments").hasAnyAuthority(USER, ADMIN)
+                        .requestMatchers(HttpMethod.POST, "/api/v1/news", "/api/v1/comments", "/api/v1/news/batch", "/api/v1/comments/batch").hasAnyAuthority(USER, ADMIN)
                         .anyRequest().hasAuthority(ADMIN)
                 )
                 .exceptionHandling(exceptions -> exceptions
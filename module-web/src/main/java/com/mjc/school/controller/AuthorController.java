@@ -2,6 +2,7 @@ package com.mjc.school.controller;
 
 import com.mjc.school.dto.AuthorDtoRequest;
 import com.mjc.school.dto.AuthorDtoResponse;
+import com.mjc.school.dto.CursorPageDtoResponse;
 import com.mjc.school.dto.SearchingRequest;
 import com.mjc.school.service.AuthorService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -28,6 +29,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import static com.mjc.school.controller.RestConstants.AUTHORS_V1_API_PATH;
+import static com.mjc.school.dto.SearchableEntity.AUTHOR;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
@@ -60,7 +62,7 @@ public class AuthorController implements BaseController<AuthorDtoRequest, Author
             @PageableDefault(sort = "name", direction = Sort.Direction.DESC) Pageable pageable) {
         SearchingRequest searchingRequest = null;
         if (searchBy != null && !searchBy.isBlank() && searchValue != null && !searchValue.isBlank()) {
-            searchingRequest = new SearchingRequest(searchBy + ":" + searchValue);
+            searchingRequest = new SearchingRequest(AUTHOR, searchBy + ":" + searchValue);
         }
         Page<AuthorDtoResponse> pageDtoResponse = authorService.readAll(searchingRequest, pageable);
         for (AuthorDtoResponse authorDtoResponse : pageDtoResponse.stream().toList()) {
@@ -71,6 +73,35 @@ public class AuthorController implements BaseController<AuthorDtoRequest, Author
         return new ResponseEntity<>(pageDtoResponse, OK);
     }
 
+    @Override
+    @Operation(summary = "Scroll authors by cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved a slice of authors"),
+            @ApiResponse(responseCode = "400", description = "The cursor or sort parameters are invalid"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @GetMapping(value = "/scroll")
+    @ResponseStatus(OK)
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<CursorPageDtoResponse<AuthorDtoResponse>> scroll(
+            @RequestParam(name = "searchBy", required = false) String searchBy,
+            @RequestParam(name = "searchValue", required = false) String searchValue,
+            @RequestParam(name = "after", required = false) String after,
+            @PageableDefault(sort = "name", direction = Sort.Direction.DESC) Pageable pageable) {
+        SearchingRequest searchingRequest = null;
+        if (searchBy != null && !searchBy.isBlank() && searchValue != null && !searchValue.isBlank()) {
+            searchingRequest = new SearchingRequest(AUTHOR, searchBy + ":" + searchValue);
+        }
+        CursorPageDtoResponse<AuthorDtoResponse> cursorPageDtoResponse = authorService.scroll(searchingRequest, after, pageable);
+        for (AuthorDtoResponse authorDtoResponse : cursorPageDtoResponse.getContent()) {
+            Link selfRel = linkTo(AuthorController.class).slash(authorDtoResponse.getId()).withSelfRel();
+            authorDtoResponse.add(selfRel);
+        }
+        return new ResponseEntity<>(cursorPageDtoResponse, OK);
+    }
+
     @Override
     @Operation(summary = "Get author by id")
     @ApiResponses(value = {
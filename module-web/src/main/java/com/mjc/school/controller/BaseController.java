@@ -1,5 +1,6 @@
 package com.mjc.school.controller;
 
+import com.mjc.school.dto.CursorPageDtoResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
@@ -8,6 +9,8 @@ public interface BaseController<T, R, K> {
 
     ResponseEntity<Page<R>> readAll(String searchBy, String searchValue, Pageable pageable);
 
+    ResponseEntity<CursorPageDtoResponse<R>> scroll(String searchBy, String searchValue, String after, Pageable pageable);
+
     ResponseEntity<R> readById(K id);
 
     ResponseEntity<R> create(T createRequest);
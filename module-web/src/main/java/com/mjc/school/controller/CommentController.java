@@ -2,17 +2,26 @@ package com.mjc.school.controller;
 
 import com.mjc.school.dto.CommentDtoRequest;
 import com.mjc.school.dto.CommentDtoResponse;
+import com.mjc.school.dto.CursorPageDtoResponse;
+import com.mjc.school.dto.ImportFormat;
+import com.mjc.school.dto.ImportReportDtoResponse;
+import com.mjc.school.dto.NewsDtoResponse;
 import com.mjc.school.dto.SearchingRequest;
 import com.mjc.school.dto.TagDtoResponse;
 import com.mjc.school.service.CommentService;
+import com.mjc.school.service.ExportService;
+import com.mjc.school.service.ImportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.hateoas.Link;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -23,13 +32,23 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.InputStream;
+import java.util.List;
 
 import static com.mjc.school.controller.RestConstants.COMMENTS_V1_API_PATH;
+import static com.mjc.school.controller.RestConstants.CSV_MEDIA_TYPE;
+import static com.mjc.school.controller.RestConstants.NDJSON_MEDIA_TYPE;
+import static com.mjc.school.dto.SearchableEntity.COMMENT;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
@@ -38,20 +57,30 @@ import static org.springframework.http.HttpStatus.OK;
 @RequestMapping(value = COMMENTS_V1_API_PATH)
 public class CommentController implements BaseController<CommentDtoRequest, CommentDtoResponse, Long> {
     private final CommentService commentService;
+    private final ImportService importService;
+    private final ExportService exportService;
+    private final long exportTimeout;
 
     @Autowired
-    public CommentController(CommentService commentService) {
+    public CommentController(CommentService commentService, ImportService importService, ExportService exportService, @Value("${export.request-timeout-ms}") long exportTimeout) {
         this.commentService = commentService;
+        this.importService = importService;
+        this.exportService = exportService;
+        this.exportTimeout = exportTimeout;
     }
 
     private static void setLinks(CommentDtoResponse commentDtoResponse) {
         Link selfRel = linkTo(CommentController.class).slash(commentDtoResponse.getId()).withSelfRel();
         commentDtoResponse.add(selfRel);
-        Link newsRel = linkTo(NewsController.class).slash(commentDtoResponse.getNewsDtoResponse().getId()).withSelfRel();
-        commentDtoResponse.getNewsDtoResponse().add(newsRel);
-        Link authorRel = linkTo(AuthorController.class).slash(commentDtoResponse.getNewsDtoResponse().getAuthorDtoResponse().getId()).withSelfRel();
-        commentDtoResponse.getNewsDtoResponse().getAuthorDtoResponse().add(authorRel);
-        for (TagDtoResponse tagDtoResponse : commentDtoResponse.getNewsDtoResponse().getTagDtoResponseList()) {
+        NewsDtoResponse newsDtoResponse = commentDtoResponse.getNewsDtoResponse();
+        if (newsDtoResponse.hasLink(IanaLinkRelations.SELF)) {
+            return;
+        }
+        Link newsRel = linkTo(NewsController.class).slash(newsDtoResponse.getId()).withSelfRel();
+        newsDtoResponse.add(newsRel);
+        Link authorRel = linkTo(AuthorController.class).slash(newsDtoResponse.getAuthorDtoResponse().getId()).withSelfRel();
+        newsDtoResponse.getAuthorDtoResponse().add(authorRel);
+        for (TagDtoResponse tagDtoResponse : newsDtoResponse.getTagDtoResponseList()) {
             Link tagRel = linkTo(TagController.class).slash(tagDtoResponse.getId()).withSelfRel();
             tagDtoResponse.add(tagRel);
         }
@@ -74,7 +103,7 @@ public class CommentController implements BaseController<CommentDtoRequest, Comm
             @PageableDefault(sort = "content", direction = Sort.Direction.DESC) Pageable pageable) {
         SearchingRequest searchingRequest = null;
         if (searchBy != null && !searchBy.isBlank() && searchValue != null && !searchValue.isBlank()) {
-            searchingRequest = new SearchingRequest(searchBy + ":" + searchValue);
+            searchingRequest = new SearchingRequest(COMMENT, searchBy + ":" + searchValue);
         }
         Page<CommentDtoResponse> pageDtoResponse = commentService.readAll(searchingRequest, pageable);
         for (CommentDtoResponse commentDtoResponse : pageDtoResponse.stream().toList()) {
@@ -84,6 +113,34 @@ public class CommentController implements BaseController<CommentDtoRequest, Comm
         return new ResponseEntity<>(pageDtoResponse, OK);
     }
 
+    @Override
+    @Operation(summary = "Scroll comments by cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved a slice of comments"),
+            @ApiResponse(responseCode = "400", description = "The cursor or sort parameters are invalid"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @GetMapping(value = "/scroll")
+    @ResponseStatus(OK)
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<CursorPageDtoResponse<CommentDtoResponse>> scroll(
+            @RequestParam(name = "searchBy", required = false) String searchBy,
+            @RequestParam(name = "searchValue", required = false) String searchValue,
+            @RequestParam(name = "after", required = false) String after,
+            @PageableDefault(sort = "createDate", direction = Sort.Direction.DESC) Pageable pageable) {
+        SearchingRequest searchingRequest = null;
+        if (searchBy != null && !searchBy.isBlank() && searchValue != null && !searchValue.isBlank()) {
+            searchingRequest = new SearchingRequest(COMMENT, searchBy + ":" + searchValue);
+        }
+        CursorPageDtoResponse<CommentDtoResponse> cursorPageDtoResponse = commentService.scroll(searchingRequest, after, pageable);
+        for (CommentDtoResponse commentDtoResponse : cursorPageDtoResponse.getContent()) {
+            setLinks(commentDtoResponse);
+        }
+        return new ResponseEntity<>(cursorPageDtoResponse, OK);
+    }
+
     @Override
     @Operation(summary = "Get comment by id")
     @ApiResponses(value = {
@@ -118,6 +175,58 @@ public class CommentController implements BaseController<CommentDtoRequest, Comm
         return new ResponseEntity<>(commentDtoResponse, CREATED);
     }
 
+    @Operation(summary = "Create comments in batch")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Successfully created all comments of the batch"),
+            @ApiResponse(responseCode = "400", description = "The batch is empty, too large or contains an invalid item"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @PostMapping(value = "/batch")
+    @ResponseStatus(CREATED)
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    public ResponseEntity<List<CommentDtoResponse>> createAll(@RequestBody List<CommentDtoRequest> createRequests) {
+        List<CommentDtoResponse> commentDtoResponseList = commentService.createAll(createRequests);
+        for (CommentDtoResponse commentDtoResponse : commentDtoResponseList) {
+            setLinks(commentDtoResponse);
+        }
+        return new ResponseEntity<>(commentDtoResponseList, CREATED);
+    }
+
+    @Operation(summary = "Import comments from an NDJSON or CSV stream")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished, the report lists every rejected line"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "415", description = "The body is neither NDJSON nor CSV"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @PostMapping(value = "/import", consumes = {NDJSON_MEDIA_TYPE, CSV_MEDIA_TYPE})
+    @ResponseStatus(OK)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<ImportReportDtoResponse> importAll(@RequestHeader(CONTENT_TYPE) String contentType, InputStream body) {
+        ImportReportDtoResponse importReportDtoResponse = importService.importComments(body, ImportFormat.fromContentType(contentType));
+        return new ResponseEntity<>(importReportDtoResponse, OK);
+    }
+
+    @Operation(summary = "Export all comments as NDJSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully streamed all comments"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @GetMapping(value = "/export", produces = NDJSON_MEDIA_TYPE)
+    @ResponseStatus(OK)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public WebAsyncTask<Void> exportAll(HttpServletResponse response) {
+        response.setContentType(NDJSON_MEDIA_TYPE);
+        response.setHeader(CONTENT_DISPOSITION, "attachment; filename=\"comments.ndjson\"");
+        return new WebAsyncTask<>(exportTimeout, () -> {
+            exportService.exportComments(response.getOutputStream());
+            return null;
+        });
+    }
+
     @Override
     @Operation(summary = "Update comment information")
     @ApiResponses(value = {
@@ -2,19 +2,28 @@ package com.mjc.school.controller;
 
 import com.mjc.school.service.AuthorService;
 import com.mjc.school.service.CommentService;
+import com.mjc.school.service.ExportService;
+import com.mjc.school.service.ImportService;
 import com.mjc.school.service.NewsService;
 import com.mjc.school.service.TagService;
 import com.mjc.school.dto.AuthorDtoResponse;
 import com.mjc.school.dto.CommentDtoResponse;
+import com.mjc.school.dto.CursorPageDtoResponse;
+import com.mjc.school.dto.ImportFormat;
+import com.mjc.school.dto.ImportReportDtoResponse;
 import com.mjc.school.dto.NewsDtoRequest;
 import com.mjc.school.dto.NewsDtoResponse;
+import com.mjc.school.dto.NewsFacetsDtoResponse;
+import com.mjc.school.dto.NewsSearchHitDtoResponse;
 import com.mjc.school.dto.ParametersDtoRequest;
 import com.mjc.school.dto.SearchingRequest;
 import com.mjc.school.dto.TagDtoResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -29,13 +38,23 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.io.InputStream;
+import java.util.List;
+
+import static com.mjc.school.controller.RestConstants.CSV_MEDIA_TYPE;
+import static com.mjc.school.controller.RestConstants.NDJSON_MEDIA_TYPE;
 import static com.mjc.school.controller.RestConstants.NEWS_V1_API_PATH;
+import static com.mjc.school.dto.SearchableEntity.NEWS;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
@@ -47,13 +66,19 @@ public class NewsController implements BaseController<NewsDtoRequest, NewsDtoRes
     private final AuthorService authorService;
     private final TagService tagService;
     private final CommentService commentService;
+    private final ImportService importService;
+    private final ExportService exportService;
+    private final long exportTimeout;
 
     @Autowired
-    public NewsController(NewsService newsService, AuthorService authorService, TagService tagService, CommentService commentService) {
+    public NewsController(NewsService newsService, AuthorService authorService, TagService tagService, CommentService commentService, ImportService importService, ExportService exportService, @Value("${export.request-timeout-ms}") long exportTimeout) {
         this.newsService = newsService;
         this.authorService = authorService;
         this.tagService = tagService;
         this.commentService = commentService;
+        this.importService = importService;
+        this.exportService = exportService;
+        this.exportTimeout = exportTimeout;
     }
 
     private static void setLinks(NewsDtoResponse newsDtoResponse) {
@@ -84,7 +109,7 @@ public class NewsController implements BaseController<NewsDtoRequest, NewsDtoRes
             @PageableDefault(sort = "title", direction = Sort.Direction.DESC) Pageable pageable) {
         SearchingRequest searchingRequest = null;
         if (searchBy != null && !searchBy.isBlank() && searchValue != null && !searchValue.isBlank()) {
-            searchingRequest = new SearchingRequest(searchBy + ":" + searchValue);
+            searchingRequest = new SearchingRequest(NEWS, searchBy + ":" + searchValue);
         }
         Page<NewsDtoResponse> page = newsService.readAll(searchingRequest, pageable);
         for (NewsDtoResponse newsDtoResponse : page.stream().toList()) {
@@ -93,6 +118,34 @@ public class NewsController implements BaseController<NewsDtoRequest, NewsDtoRes
         return new ResponseEntity<>(page, OK);
     }
 
+    @Override
+    @Operation(summary = "Scroll news by cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved a slice of news"),
+            @ApiResponse(responseCode = "400", description = "The cursor or sort parameters are invalid"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @GetMapping(value = "/scroll")
+    @ResponseStatus(OK)
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<CursorPageDtoResponse<NewsDtoResponse>> scroll(
+            @RequestParam(name = "searchBy", required = false) String searchBy,
+            @RequestParam(name = "searchValue", required = false) String searchValue,
+            @RequestParam(name = "after", required = false) String after,
+            @PageableDefault(sort = "title", direction = Sort.Direction.DESC) Pageable pageable) {
+        SearchingRequest searchingRequest = null;
+        if (searchBy != null && !searchBy.isBlank() && searchValue != null && !searchValue.isBlank()) {
+            searchingRequest = new SearchingRequest(NEWS, searchBy + ":" + searchValue);
+        }
+        CursorPageDtoResponse<NewsDtoResponse> cursorPageDtoResponse = newsService.scroll(searchingRequest, after, pageable);
+        for (NewsDtoResponse newsDtoResponse : cursorPageDtoResponse.getContent()) {
+            setLinks(newsDtoResponse);
+        }
+        return new ResponseEntity<>(cursorPageDtoResponse, OK);
+    }
+
     @Override
     @Operation(summary = "Get news by id")
     @ApiResponses(value = {
@@ -127,6 +180,58 @@ public class NewsController implements BaseController<NewsDtoRequest, NewsDtoRes
         return new ResponseEntity<>(newsDtoResponse, CREATED);
     }
 
+    @Operation(summary = "Create news in batch")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Successfully created all news of the batch"),
+            @ApiResponse(responseCode = "400", description = "The batch is empty, too large or contains an invalid item"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @PostMapping(value = "/batch")
+    @ResponseStatus(CREATED)
+    @PreAuthorize("hasAnyAuthority('USER', 'ADMIN')")
+    public ResponseEntity<List<NewsDtoResponse>> createAll(@RequestBody List<NewsDtoRequest> createRequests) {
+        List<NewsDtoResponse> newsDtoResponseList = newsService.createAll(createRequests);
+        for (NewsDtoResponse newsDtoResponse : newsDtoResponseList) {
+            setLinks(newsDtoResponse);
+        }
+        return new ResponseEntity<>(newsDtoResponseList, CREATED);
+    }
+
+    @Operation(summary = "Import news from an NDJSON or CSV stream")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished, the report lists every rejected line"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "415", description = "The body is neither NDJSON nor CSV"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @PostMapping(value = "/import", consumes = {NDJSON_MEDIA_TYPE, CSV_MEDIA_TYPE})
+    @ResponseStatus(OK)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<ImportReportDtoResponse> importAll(@RequestHeader(CONTENT_TYPE) String contentType, InputStream body) {
+        ImportReportDtoResponse importReportDtoResponse = importService.importNews(body, ImportFormat.fromContentType(contentType));
+        return new ResponseEntity<>(importReportDtoResponse, OK);
+    }
+
+    @Operation(summary = "Export all news as NDJSON")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully streamed all news"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @GetMapping(value = "/export", produces = NDJSON_MEDIA_TYPE)
+    @ResponseStatus(OK)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public WebAsyncTask<Void> exportAll(HttpServletResponse response) {
+        response.setContentType(NDJSON_MEDIA_TYPE);
+        response.setHeader(CONTENT_DISPOSITION, "attachment; filename=\"news.ndjson\"");
+        return new WebAsyncTask<>(exportTimeout, () -> {
+            exportService.exportNews(response.getOutputStream());
+            return null;
+        });
+    }
+
     @Override
     @Operation(summary = "Update news information")
     @ApiResponses(value = {
@@ -194,6 +299,72 @@ public class NewsController implements BaseController<NewsDtoRequest, NewsDtoRes
         return new ResponseEntity<>(newsDtoResponseList, OK);
     }
 
+    @Operation(summary = "Get top tag and author facet counts of news matching params")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved news facets by params"),
+            @ApiResponse(responseCode = "400", description = "The facet limit or tag expression is invalid"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @GetMapping(value = "/search/facets")
+    @ResponseStatus(OK)
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<NewsFacetsDtoResponse> readFacets(@RequestBody ParametersDtoRequest parametersDtoRequest,
+                                                            @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        return new ResponseEntity<>(newsService.readFacets(parametersDtoRequest, limit), OK);
+    }
+
+    @Operation(summary = "Get news by full text query ranked by relevance")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved news by full text query"),
+            @ApiResponse(responseCode = "400", description = "The full text query is blank"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @GetMapping(value = "/search/fulltext")
+    @ResponseStatus(OK)
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<Page<NewsDtoResponse>> readByFullText(@RequestParam(name = "query") String query, Pageable pageable) {
+        Page<NewsDtoResponse> newsDtoResponseList = newsService.readByFullText(query, pageable);
+        for (NewsDtoResponse newsDtoResponse : newsDtoResponseList) {
+            setLinks(newsDtoResponse);
+        }
+        return new ResponseEntity<>(newsDtoResponseList, OK);
+    }
+
+    @Operation(summary = "Search news in the search index ranked by relevance with highlighted matches")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved news from the search index"),
+            @ApiResponse(responseCode = "400", description = "The search query is blank or the page is beyond the search window"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @GetMapping(value = "/search/index")
+    @ResponseStatus(OK)
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<Page<NewsSearchHitDtoResponse>> readByIndex(@RequestParam(name = "query") String query, Pageable pageable) {
+        Page<NewsSearchHitDtoResponse> newsSearchHitDtoResponseList = newsService.readByIndex(query, pageable);
+        for (NewsSearchHitDtoResponse newsSearchHitDtoResponse : newsSearchHitDtoResponseList) {
+            setLinks(newsSearchHitDtoResponse.getNews());
+        }
+        return new ResponseEntity<>(newsSearchHitDtoResponseList, OK);
+    }
+
+    @Operation(summary = "Rebuilds the news search index from the database")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Successfully rebuilt the search index"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to rebuild the search index"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @PostMapping(value = "/search/index/rebuild")
+    @ResponseStatus(NO_CONTENT)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public void rebuildIndex() {
+        newsService.rebuildIndex();
+    }
+
     @Operation(summary = "Get author by news id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved author by news id"),
@@ -248,4 +419,27 @@ public class NewsController implements BaseController<NewsDtoRequest, NewsDtoRes
         }
         return new ResponseEntity<>(commentDtoResponseList, OK);
     }
+
+    @Operation(summary = "Scroll comments by news id")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved a slice of comments by news id"),
+            @ApiResponse(responseCode = "400", description = "The cursor or sort parameters are invalid"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @GetMapping(value = "/{id}/comments/scroll")
+    @ResponseStatus(OK)
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<CursorPageDtoResponse<CommentDtoResponse>> scrollCommentsByNewsId(
+            @PathVariable Long id,
+            @RequestParam(name = "after", required = false) String after,
+            @PageableDefault(sort = "createDate", direction = Sort.Direction.DESC) Pageable pageable) {
+        CursorPageDtoResponse<CommentDtoResponse> cursorPageDtoResponse = commentService.scrollByNewsId(id, after, pageable);
+        for (CommentDtoResponse commentDtoResponse : cursorPageDtoResponse.getContent()) {
+            Link selfRel = linkTo(CommentController.class).slash(commentDtoResponse.getId()).withSelfRel();
+            commentDtoResponse.add(selfRel);
+        }
+        return new ResponseEntity<>(cursorPageDtoResponse, OK);
+    }
 }
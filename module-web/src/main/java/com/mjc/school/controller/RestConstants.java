@@ -9,4 +9,7 @@ public class RestConstants {
     public static final String COMMENTS_V1_API_PATH = BASE_V1_API_PATH + "/comments";
     public static final String AUTHENTICATION_V1_API_PATH = BASE_V1_API_PATH + "/auth";
 
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    public static final String CSV_MEDIA_TYPE = "text/csv";
+
 }
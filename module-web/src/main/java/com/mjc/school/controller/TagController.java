@@ -1,5 +1,7 @@
 package com.mjc.school.controller;
 
+import com.mjc.school.dto.CursorPageDtoResponse;
+import com.mjc.school.dto.RetagDtoRequest;
 import com.mjc.school.dto.SearchingRequest;
 import com.mjc.school.dto.TagDtoRequest;
 import com.mjc.school.dto.TagDtoResponse;
@@ -28,6 +30,7 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import static com.mjc.school.controller.RestConstants.TAGS_V1_API_PATH;
+import static com.mjc.school.dto.SearchableEntity.TAG;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
@@ -60,7 +63,7 @@ public class TagController implements BaseController<TagDtoRequest, TagDtoRespon
             @PageableDefault(sort = "name", direction = Sort.Direction.DESC) Pageable pageable) {
         SearchingRequest searchingRequest = null;
         if (searchBy != null && !searchBy.isBlank() && searchValue != null && !searchValue.isBlank()) {
-            searchingRequest = new SearchingRequest(searchBy + ":" + searchValue);
+            searchingRequest = new SearchingRequest(TAG, searchBy + ":" + searchValue);
         }
         Page<TagDtoResponse> pageDtoResponse = tagService.readAll(searchingRequest, pageable);
         for (TagDtoResponse tagDtoResponse : pageDtoResponse.stream().toList()) {
@@ -71,6 +74,35 @@ public class TagController implements BaseController<TagDtoRequest, TagDtoRespon
         return new ResponseEntity<>(pageDtoResponse, OK);
     }
 
+    @Override
+    @Operation(summary = "Scroll tags by cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved a slice of tags"),
+            @ApiResponse(responseCode = "400", description = "The cursor or sort parameters are invalid"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @GetMapping(value = "/scroll")
+    @ResponseStatus(OK)
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<CursorPageDtoResponse<TagDtoResponse>> scroll(
+            @RequestParam(name = "searchBy", required = false) String searchBy,
+            @RequestParam(name = "searchValue", required = false) String searchValue,
+            @RequestParam(name = "after", required = false) String after,
+            @PageableDefault(sort = "name", direction = Sort.Direction.DESC) Pageable pageable) {
+        SearchingRequest searchingRequest = null;
+        if (searchBy != null && !searchBy.isBlank() && searchValue != null && !searchValue.isBlank()) {
+            searchingRequest = new SearchingRequest(TAG, searchBy + ":" + searchValue);
+        }
+        CursorPageDtoResponse<TagDtoResponse> cursorPageDtoResponse = tagService.scroll(searchingRequest, after, pageable);
+        for (TagDtoResponse tagDtoResponse : cursorPageDtoResponse.getContent()) {
+            Link selfRel = linkTo(TagController.class).slash(tagDtoResponse.getId()).withSelfRel();
+            tagDtoResponse.add(selfRel);
+        }
+        return new ResponseEntity<>(cursorPageDtoResponse, OK);
+    }
+
     @Override
     @Operation(summary = "Get tag by id")
     @ApiResponses(value = {
@@ -157,4 +189,34 @@ public class TagController implements BaseController<TagDtoRequest, TagDtoRespon
     public void deleteById(@PathVariable Long id) {
         tagService.deleteById(id);
     }
+
+    @Operation(summary = "Merges the tag with the supplied id into the target tag")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Successfully merged the tags"),
+            @ApiResponse(responseCode = "400", description = "The tag cannot be merged into itself"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @PostMapping(value = "/{id}/merge/{targetId}")
+    @ResponseStatus(NO_CONTENT)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public void merge(@PathVariable Long id, @PathVariable Long targetId) {
+        tagService.merge(id, targetId);
+    }
+
+    @Operation(summary = "Adds or removes the tag with the supplied id on all news matching the filter")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Successfully retagged the matching news"),
+            @ApiResponse(responseCode = "400", description = "The retag request is invalid"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @PostMapping(value = "/{id}/retag")
+    @ResponseStatus(NO_CONTENT)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public void retag(@PathVariable Long id, @RequestBody RetagDtoRequest retagRequest) {
+        tagService.retag(id, retagRequest);
+    }
 }
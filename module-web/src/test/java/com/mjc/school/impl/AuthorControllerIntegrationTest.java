@@ -1,21 +1,31 @@
 package com.mjc.school.impl;
 
 import com.mjc.school.dto.AuthorDtoRequest;
+import com.mjc.school.dto.CommentDtoRequest;
+import com.mjc.school.dto.NewsDtoRequest;
+import com.mjc.school.dto.TagDtoRequest;
+import com.mjc.school.purge.AuthorPurgeJob;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import io.restassured.mapper.ObjectMapperType;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.*;
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
@@ -23,6 +33,13 @@ class AuthorControllerIntegrationTest {
     @LocalServerPort
     private int port;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private AuthorPurgeJob authorPurgeJob;
+
     @BeforeEach
     public void setUp() {
         RestAssured.baseURI = "http://localhost";
@@ -55,6 +72,7 @@ class AuthorControllerIntegrationTest {
                 .statusCode(200)
                 .body("content", not(empty()))
                 .body("content[0].name", notNullValue())
+                .body("content[0].newsCount", notNullValue())
                 .body("totalElements", greaterThan(0));
     }
 
@@ -104,6 +122,23 @@ class AuthorControllerIntegrationTest {
                 .body("_links.self.href", containsString("/api/v1/authors/3"));
     }
 
+    @Test
+    void givenExistingAuthorId_whenGetAuthorById_thenAuthorIsKeptInSecondLevelCache() {
+        Class<?> authorType = entityManagerFactory.getMetamodel().getEntities().stream()
+                .filter(entityType -> entityType.getName().equals("Author"))
+                .findFirst()
+                .orElseThrow()
+                .getJavaType();
+
+        given()
+                .when()
+                .get("/api/v1/authors/2")
+                .then()
+                .statusCode(200);
+
+        assertTrue(entityManagerFactory.getCache().contains(authorType, 2L));
+    }
+
     @Test
     void givenNonExistingAuthorId_whenGetAuthorById_thenReturn404() {
         given()
@@ -380,6 +415,77 @@ class AuthorControllerIntegrationTest {
                 .statusCode(204);
     }
 
+    private Integer create(String token, String path, Object request) {
+        return given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(request, ObjectMapperType.JACKSON_2)
+                .when()
+                .post(path)
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+    }
+
+    @Test
+    void givenAuthorWithNewsAndComments_whenDeleteAuthor_thenHideImmediatelyAndPurgeInBackground() {
+        String token = obtainJwtToken("admin", "admin");
+        Integer authorId = create(token, "/api/v1/authors", new AuthorDtoRequest("purged author"));
+        Integer tagId = create(token, "/api/v1/tags", new TagDtoRequest("purged tag"));
+        Integer newsId = create(token, "/api/v1/news", new NewsDtoRequest("purged author news", "purged author content", authorId.longValue(), List.of(tagId.longValue())));
+        Integer commentId = create(token, "/api/v1/comments", new CommentDtoRequest("purged comment", newsId.longValue()));
+        given().accept(ContentType.JSON).when().get("/api/v1/news/{id}", newsId).then().statusCode(200);
+        given().accept(ContentType.JSON).when().get("/api/v1/authors/{id}", authorId).then().statusCode(200);
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .delete("/api/v1/authors/{id}", authorId)
+                .then()
+                .statusCode(204);
+
+        given().accept(ContentType.JSON).when().get("/api/v1/authors/{id}", authorId).then().statusCode(404);
+        given().accept(ContentType.JSON).when().get("/api/v1/news/{id}", newsId).then().statusCode(404);
+        given().accept(ContentType.JSON).when().get("/api/v1/comments/{id}", commentId).then().statusCode(404);
+        given().accept(ContentType.JSON).when().get("/api/v1/tags/{id}", tagId).then().statusCode(200).body("newsCount", equalTo(0));
+        given().header("Authorization", "Bearer " + token).when().delete("/api/v1/authors/{id}", authorId).then().statusCode(404);
+
+        authorPurgeJob.purgeDeletedAuthors();
+
+        assertEquals(0L, jdbcTemplate.queryForObject("SELECT count(*) FROM authors WHERE id = ?", Long.class, authorId));
+        assertEquals(0L, jdbcTemplate.queryForObject("SELECT count(*) FROM news WHERE id = ?", Long.class, newsId));
+        assertEquals(0L, jdbcTemplate.queryForObject("SELECT count(*) FROM news_tags WHERE news_id = ?", Long.class, newsId));
+        assertEquals(0L, jdbcTemplate.queryForObject("SELECT count(*) FROM comments WHERE id = ?", Long.class, commentId));
+        given().accept(ContentType.JSON).when().get("/api/v1/tags/{id}", tagId).then().statusCode(200);
+    }
+
+    @Test
+    void givenDeletedAuthorWithNews_whenCreateAuthorAndNewsWithSameNames_thenReturn201BeforePurge() {
+        String token = obtainJwtToken("admin", "admin");
+        Integer authorId = create(token, "/api/v1/authors", new AuthorDtoRequest("reborn author"));
+        create(token, "/api/v1/news", new NewsDtoRequest("reborn author news", "reborn author content", authorId.longValue(), List.of()));
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .delete("/api/v1/authors/{id}", authorId)
+                .then()
+                .statusCode(204);
+
+        Integer recreatedAuthorId = create(token, "/api/v1/authors", new AuthorDtoRequest("reborn author"));
+        create(token, "/api/v1/news", new NewsDtoRequest("reborn author news", "reborn author content", recreatedAuthorId.longValue(), List.of()));
+        given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new AuthorDtoRequest("reborn author"), ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/authors")
+                .then()
+                .statusCode(400);
+        assertEquals(2L, jdbcTemplate.queryForObject("SELECT count(*) FROM authors WHERE name = ?", Long.class, "reborn author"));
+    }
+
     @Test
     void givenAdminAuthAndNonExistingAuthorId_whenDeleteAuthor_thenReturn404() {
         Long nonexistentId = 999L;
@@ -1,6 +1,7 @@
 package com.mjc.school.impl;
 
 import com.mjc.school.dto.CommentDtoRequest;
+import com.mjc.school.dto.NewsDtoRequest;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import io.restassured.mapper.ObjectMapperType;
@@ -11,6 +12,7 @@ import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static io.restassured.RestAssured.given;
@@ -59,6 +61,19 @@ class CommentControllerIntegrationTest {
                 .body("totalElements", greaterThan(0));
     }
 
+    @Test
+    void givenCommentsOfSameNews_whenGetAllComments_thenNewsLinksAreNotDuplicated() {
+        given()
+                .accept(ContentType.JSON)
+                .queryParam("size", 50)
+                .when()
+                .get("/api/v1/comments")
+                .then()
+                .statusCode(200)
+                .body("content.findAll { it.newsDtoResponse.id == 3 }.size()", greaterThan(1))
+                .body("content.newsDtoResponse.links.collect { it.size() }", everyItem(equalTo(1)));
+    }
+
     @Test
     void givenSearchParams_whenGetComments_thenReturnsFilteredResults() {
         given()
@@ -140,6 +155,57 @@ class CommentControllerIntegrationTest {
                 .body("_links.self.href", containsString("/api/v1/comments/"));
     }
 
+    @Test
+    void givenCommentsCreatedAndDeleted_whenGetNews_thenCommentCountFollows() {
+        String token = obtainJwtToken("admin", "admin");
+        Integer newsId = given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new NewsDtoRequest("Counted news title", "Counted news content", 1L, List.of()), ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/news")
+                .then()
+                .statusCode(201)
+                .body("commentCount", equalTo(0))
+                .extract()
+                .path("id");
+        Integer commentId = null;
+        for (String content : List.of("First counted", "Second counted")) {
+            commentId = given()
+                    .contentType(ContentType.JSON)
+                    .header("Authorization", "Bearer " + token)
+                    .body(new CommentDtoRequest(content, newsId.longValue()), ObjectMapperType.JACKSON_2)
+                    .when()
+                    .post("/api/v1/comments")
+                    .then()
+                    .statusCode(201)
+                    .extract()
+                    .path("id");
+        }
+        given()
+                .accept(ContentType.JSON)
+                .when()
+                .get("/api/v1/news/{id}", newsId)
+                .then()
+                .statusCode(200)
+                .body("commentCount", equalTo(2));
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .delete("/api/v1/comments/{id}", commentId)
+                .then()
+                .statusCode(204);
+
+        given()
+                .accept(ContentType.JSON)
+                .when()
+                .get("/api/v1/news/{id}", newsId)
+                .then()
+                .statusCode(200)
+                .body("commentCount", equalTo(1));
+    }
+
     @Test
     void givenInvalidRequest_whenCreateComment_thenReturns400() {
         String token = obtainJwtToken("admin", "admin");
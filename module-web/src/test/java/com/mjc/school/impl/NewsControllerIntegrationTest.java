@@ -1,29 +1,42 @@
 package com.mjc.school.impl;
 
+import com.mjc.school.dto.AuthorDtoRequest;
 import com.mjc.school.dto.NewsDtoRequest;
 import com.mjc.school.dto.ParametersDtoRequest;
+import com.mjc.school.dto.TagDtoRequest;
+import com.mjc.school.outbox.OutboxRelay;
+import com.mjc.school.routing.ReadYourWritesFilter;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import io.restassured.mapper.ObjectMapperType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
 class NewsControllerIntegrationTest {
     @LocalServerPort
     private int port;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private OutboxRelay outboxRelay;
 
     @BeforeEach
     public void setUp() {
@@ -148,6 +161,383 @@ class NewsControllerIntegrationTest {
                 .body("_links.self.href", containsString("/api/v1/news/"));
     }
 
+    @Test
+    void givenCachedNews_whenTagIsRenamed_thenReadByIdReturnsNewTagName() {
+        String token = obtainJwtToken("admin", "admin");
+        Integer tagId = given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new TagDtoRequest("cached tag"), ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/tags")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+        Integer newsId = given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new NewsDtoRequest("Cached news title", "Cached news content", 1L, List.of(tagId.longValue())), ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/news")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+
+        for (int i = 0; i < 2; i++) {
+            given()
+                    .accept(ContentType.JSON)
+                    .when()
+                    .get("/api/v1/news/{id}", newsId)
+                    .then()
+                    .statusCode(200)
+                    .body("tagDtoResponseList[0].name", equalTo("cached tag"))
+                    .body("_links.self.href", instanceOf(String.class));
+        }
+
+        given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new TagDtoRequest("renamed tag"), ObjectMapperType.JACKSON_2)
+                .when()
+                .put("/api/v1/tags/{id}", tagId)
+                .then()
+                .statusCode(200);
+
+        given()
+                .accept(ContentType.JSON)
+                .when()
+                .get("/api/v1/news/{id}", newsId)
+                .then()
+                .statusCode(200)
+                .body("tagDtoResponseList[0].name", equalTo("renamed tag"));
+    }
+
+    @Test
+    void givenNewsCreatedAndDeleted_whenGetAuthorAndTag_thenNewsCountsFollow() {
+        String token = obtainJwtToken("admin", "admin");
+        Integer tagId = given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new TagDtoRequest("counted tag"), ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/tags")
+                .then()
+                .statusCode(201)
+                .body("newsCount", equalTo(0))
+                .extract()
+                .path("id");
+        Integer authorId = given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new AuthorDtoRequest("Counted author"), ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/authors")
+                .then()
+                .statusCode(201)
+                .body("newsCount", equalTo(0))
+                .extract()
+                .path("id");
+        Integer newsId = given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new NewsDtoRequest("Counted tag news", "Counted tag content", authorId.longValue(), List.of(tagId.longValue())), ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/news")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+
+        given().accept(ContentType.JSON).when().get("/api/v1/tags/{id}", tagId)
+                .then().statusCode(200).body("newsCount", equalTo(1));
+        given().accept(ContentType.JSON).when().get("/api/v1/authors/{id}", authorId)
+                .then().statusCode(200).body("newsCount", equalTo(1));
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .delete("/api/v1/news/{id}", newsId)
+                .then()
+                .statusCode(204);
+
+        given().accept(ContentType.JSON).when().get("/api/v1/tags/{id}", tagId)
+                .then().statusCode(200).body("newsCount", equalTo(0));
+        given().accept(ContentType.JSON).when().get("/api/v1/authors/{id}", authorId)
+                .then().statusCode(200).body("newsCount", equalTo(0));
+    }
+
+    @Test
+    void givenNewsCreatedPatchedAndDeleted_whenRelayOutbox_thenEventsAreRecordedInOrderAndDrained() {
+        String token = obtainJwtToken("admin", "admin");
+        Integer newsId = given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new NewsDtoRequest("Outbox news", "Outbox content", 1L, List.of()), ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/news")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+        given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(Map.of("title", "Outbox news patched"))
+                .when()
+                .patch("/api/v1/news/{id}", newsId)
+                .then()
+                .statusCode(200);
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .delete("/api/v1/news/{id}", newsId)
+                .then()
+                .statusCode(204);
+
+        String readChanges = "SELECT change_type FROM outbox_events WHERE aggregate_type = 'NEWS' AND aggregate_id = ? ORDER BY id";
+        assertEquals(List.of("CREATED", "UPDATED", "DELETED"), jdbcTemplate.queryForList(readChanges, String.class, newsId));
+
+        outboxRelay.relay();
+
+        assertEquals(List.of(), jdbcTemplate.queryForList(readChanges, String.class, newsId));
+    }
+
+    @Test
+    void givenNewsRelayedToSearchIndex_whenSearchIndex_thenReturnRankedHitsWithHighlightOffsets() {
+        String token = obtainJwtToken("admin", "admin");
+        Integer titleMatchId = given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new NewsDtoRequest("Zeppelin landing report", "Crowds gathered at the field", 1L, List.of()), ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/news")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+        Integer contentMatchId = given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new NewsDtoRequest("Airfield weekend", "A zeppelin landing is planned", 1L, List.of()), ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/news")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+
+        outboxRelay.relay();
+
+        given()
+                .accept(ContentType.JSON)
+                .queryParam("query", "\"zeppelin landing\"")
+                .when()
+                .get("/api/v1/news/search/index")
+                .then()
+                .statusCode(200)
+                .body("totalElements", equalTo(2))
+                .body("content[0].news.id", equalTo(titleMatchId))
+                .body("content[1].news.id", equalTo(contentMatchId))
+                .body("content[0].highlights[0].field", equalTo("title"))
+                .body("content[0].highlights[0].start", equalTo(0))
+                .body("content[0].highlights[0].end", equalTo(16))
+                .body("content[1].highlights.field", everyItem(equalTo("content")))
+                .body("content[1].highlights[0].start", equalTo(2));
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .delete("/api/v1/news/{id}", titleMatchId)
+                .then()
+                .statusCode(204);
+        outboxRelay.relay();
+
+        given()
+                .accept(ContentType.JSON)
+                .queryParam("query", "zeppelin")
+                .when()
+                .get("/api/v1/news/search/index")
+                .then()
+                .statusCode(200)
+                .body("totalElements", equalTo(1))
+                .body("content[0].news.id", equalTo(contentMatchId));
+    }
+
+    @Test
+    void givenUserRole_whenRebuildSearchIndex_thenReturn403() {
+        String token = obtainJwtToken("test", "test");
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .post("/api/v1/news/search/index/rebuild")
+                .then()
+                .statusCode(403);
+    }
+
+    @Test
+    void givenAdmin_whenRebuildSearchIndex_thenSearchStillAnswersFromIndex() {
+        String token = obtainJwtToken("admin", "admin");
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .post("/api/v1/news/search/index/rebuild")
+                .then()
+                .statusCode(204);
+
+        given()
+                .accept(ContentType.JSON)
+                .queryParam("query", " ")
+                .when()
+                .get("/api/v1/news/search/index")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    void givenTaggedNews_whenSearchNewsByTagExpression_thenPinnedClientReadsQueryAndOthersReadRelayedTagIndex() {
+        String token = obtainJwtToken("admin", "admin");
+        Integer red = createTag(token, "bitmap red");
+        Integer blue = createTag(token, "bitmap blue");
+        Integer redAndBlue = createNews(token, "Red and blue news", List.of(red.longValue(), blue.longValue()));
+        Integer redOnly = createNews(token, "Red only news", List.of(red.longValue()));
+        Integer blueOnly = createNews(token, "Blue only news", List.of(blue.longValue()));
+
+        given()
+                .contentType(ContentType.JSON)
+                .header(ReadYourWritesFilter.LAST_WRITE_HEADER, String.valueOf(System.currentTimeMillis()))
+                .body(new ParametersDtoRequest(null, null, null, null, null, red + " OR " + blue))
+                .when()
+                .get("/api/v1/news/search")
+                .then()
+                .statusCode(200)
+                .body("totalElements", equalTo(3))
+                .body("content.id", contains(blueOnly, redOnly, redAndBlue));
+
+        outboxRelay.relay();
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(new ParametersDtoRequest(null, null, null, null, null, red + " OR " + blue))
+                .when()
+                .get("/api/v1/news/search")
+                .then()
+                .statusCode(200)
+                .body("totalElements", equalTo(3))
+                .body("content.id", contains(blueOnly, redOnly, redAndBlue));
+        given()
+                .contentType(ContentType.JSON)
+                .body(new ParametersDtoRequest(null, null, null, null, null, red + " AND NOT " + blue))
+                .when()
+                .get("/api/v1/news/search")
+                .then()
+                .statusCode(200)
+                .body("totalElements", equalTo(1))
+                .body("content[0].id", equalTo(redOnly));
+        given()
+                .contentType(ContentType.JSON)
+                .body(new ParametersDtoRequest("only", null, null, null, null, "(" + red + " OR " + blue + ") AND NOT (" + red + " AND " + blue + ")"))
+                .queryParam("sort", "title,asc")
+                .when()
+                .get("/api/v1/news/search")
+                .then()
+                .statusCode(200)
+                .body("content.id", contains(blueOnly, redOnly));
+        given()
+                .contentType(ContentType.JSON)
+                .body(new ParametersDtoRequest(null, null, null, null, null, red + " AND ("))
+                .when()
+                .get("/api/v1/news/search")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    void givenTaggedNews_whenReadFacets_thenReturnTopTagAndAuthorCountsOfMatchesWithoutWaitingForRelay() {
+        String token = obtainJwtToken("admin", "admin");
+        Integer red = createTag(token, "facet red");
+        Integer blue = createTag(token, "facet blue");
+        createNews(token, "Facet red and blue", List.of(red.longValue(), blue.longValue()));
+        createNews(token, "Facet red alone", List.of(red.longValue()));
+        createNews(token, "Facet blue alone", List.of(blue.longValue()));
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(new ParametersDtoRequest(null, null, null, null, null, red + " OR " + blue))
+                .when()
+                .get("/api/v1/news/search/facets")
+                .then()
+                .statusCode(200)
+                .body("total", equalTo(3))
+                .body("tags.id", containsInAnyOrder(red, blue))
+                .body("tags.count", everyItem(equalTo(2)))
+                .body("authors[0].id", equalTo(1))
+                .body("authors[0].count", equalTo(3));
+        given()
+                .contentType(ContentType.JSON)
+                .body(new ParametersDtoRequest("alone", null, null, null, null, red + " OR " + blue))
+                .queryParam("limit", 1)
+                .when()
+                .get("/api/v1/news/search/facets")
+                .then()
+                .statusCode(200)
+                .body("total", equalTo(2))
+                .body("tags.size()", equalTo(1))
+                .body("tags[0].count", equalTo(1))
+                .body("tags[0].name", anyOf(equalTo("facet red"), equalTo("facet blue")));
+        given()
+                .contentType(ContentType.JSON)
+                .body(new ParametersDtoRequest(null, null, null, null, null, null))
+                .queryParam("limit", 0)
+                .when()
+                .get("/api/v1/news/search/facets")
+                .then()
+                .statusCode(400);
+    }
+
+    private Integer createTag(String token, String name) {
+        return given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new TagDtoRequest(name), ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/tags")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+    }
+
+    private Integer createNews(String token, String title, List<Long> tagIds) {
+        return given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new NewsDtoRequest(title, title + " content", 1L, tagIds), ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/news")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+    }
+
+    @Test
+    void givenSeveralMissingReferences_whenCreateNews_thenReturn404ListingAllOfThem() {
+        String token = obtainJwtToken("admin", "admin");
+
+        given()
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new NewsDtoRequest("news with missing refs", "content of a news", 9999L, List.of(1L, 9998L, 9997L)), ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/news")
+                .then()
+                .statusCode(404)
+                .body("errorMessage", equalTo("Referenced entities do not exist: authors [9999], tags [9998, 9997]"));
+    }
+
     @Test
     void givenInvalidRequestAndAuthorized_whenCreateNews_thenReturn400() {
         String token = obtainJwtToken("admin", "admin");
@@ -179,6 +569,137 @@ class NewsControllerIntegrationTest {
                 .statusCode(401);
     }
 
+    @Test
+    void givenValidBatchAndAuthorized_whenCreateNewsBatch_thenReturn201AndAllCreatedNews() {
+        String token = obtainJwtToken("test", "test");
+        List<NewsDtoRequest> requests = List.of(
+                new NewsDtoRequest("Batch title one", "Batch content one", 1L, List.of(1L)),
+                new NewsDtoRequest("Batch title two", "Batch content two", 2L, List.of()));
+
+        given()
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(requests, ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/news/batch")
+                .then()
+                .statusCode(201)
+                .body("size()", equalTo(2))
+                .body("id", everyItem(notNullValue()))
+                .body("title", contains("Batch title one", "Batch title two"))
+                .body("[0].links[0].href", containsString("/api/v1/news/"));
+    }
+
+    @Test
+    void givenBatchWithInvalidItem_whenCreateNewsBatch_thenReturn400() {
+        String token = obtainJwtToken("test", "test");
+        List<NewsDtoRequest> requests = List.of(
+                new NewsDtoRequest("Batch title three", "Batch content three", 1L, List.of()),
+                new NewsDtoRequest("", "", 1L, List.of()));
+
+        given()
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(requests, ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/news/batch")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    void givenAdminAndNdjsonStream_whenImportNews_thenImportValidLinesAndReportRejectedOnes() {
+        String token = obtainJwtToken("admin", "admin");
+        String body = """
+                {"title":"Imported title one","content":"Imported content one","authorId":1,"tagIds":[1,2]}
+                {"title":"Imported title two","content":"Imported content two","authorId":999}
+                {"title":"Imported title three","content":"Imported content three","authorId":2}
+                """;
+
+        given()
+                .accept(ContentType.JSON)
+                .contentType("application/x-ndjson")
+                .header("Authorization", "Bearer " + token)
+                .body(body.getBytes(StandardCharsets.UTF_8))
+                .when()
+                .post("/api/v1/news/import")
+                .then()
+                .statusCode(200)
+                .body("processed", equalTo(3))
+                .body("imported", equalTo(2))
+                .body("failed", equalTo(1))
+                .body("errors[0].line", equalTo(2));
+
+        given()
+                .accept(ContentType.JSON)
+                .queryParam("searchBy", "title")
+                .queryParam("searchValue", "Imported title one")
+                .when()
+                .get("/api/v1/news")
+                .then()
+                .statusCode(200)
+                .body("content[0].title", equalTo("Imported title one"))
+                .body("content[0].tagDtoResponseList.size()", equalTo(2));
+    }
+
+    @Test
+    void givenUserRole_whenImportNews_thenReturn403() {
+        String token = obtainJwtToken("test", "test");
+
+        given()
+                .contentType("text/csv")
+                .header("Authorization", "Bearer " + token)
+                .body("title,content,authorId,tagIds\nForbidden title,Forbidden content,1,\n")
+                .when()
+                .post("/api/v1/news/import")
+                .then()
+                .statusCode(403);
+    }
+
+    @Test
+    void givenAdmin_whenExportNews_thenStreamOneJsonLinePerNews() {
+        String token = obtainJwtToken("admin", "admin");
+        createNews(token, "Exported with two tags", List.of(1L, 2L));
+        int totalElements = given()
+                .accept(ContentType.JSON)
+                .when()
+                .get("/api/v1/news")
+                .then()
+                .statusCode(200)
+                .extract()
+                .path("totalElements");
+
+        String body = given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .get("/api/v1/news/export")
+                .then()
+                .statusCode(200)
+                .contentType("application/x-ndjson")
+                .extract()
+                .asString();
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines, hasSize(totalElements));
+        assertThat(lines, everyItem(allOf(startsWith("{"), containsString("\"title\""), containsString("\"authorDtoResponse\""))));
+        assertThat(lines.stream().filter(line -> line.contains("Exported with two tags")).toList(),
+                contains(allOf(containsString("\"name1\""), containsString("\"name2\""))));
+    }
+
+    @Test
+    void givenUserRole_whenExportNews_thenReturn403() {
+        String token = obtainJwtToken("test", "test");
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .get("/api/v1/news/export")
+                .then()
+                .statusCode(403);
+    }
+
     @Test
     void givenValidUpdateAndAdminAndNewsExists_whenUpdateNews_thenReturnUpdatedNews() {
         String token = obtainJwtToken("admin", "admin");
@@ -426,6 +947,7 @@ class NewsControllerIntegrationTest {
                 "",
                 "",
                 null,
+                null,
                 null
         );
 
@@ -440,6 +962,27 @@ class NewsControllerIntegrationTest {
                 .body("content.title", everyItem(containsString("title")));
     }
 
+    @Test
+    void givenTitleWithLikeWildcards_whenSearchNews_thenMatchWildcardsLiterally() {
+        ParametersDtoRequest request = new ParametersDtoRequest(
+                "title_",
+                "%",
+                "",
+                null,
+                null,
+                null
+        );
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(request)
+                .when()
+                .get("/api/v1/news/search")
+                .then()
+                .statusCode(200)
+                .body("content", empty());
+    }
+
     @Test
     void givenAuthorName_whenSearchNews_thenReturnNewsByAuthorName() {
         ParametersDtoRequest request = new ParametersDtoRequest(
@@ -447,6 +990,7 @@ class NewsControllerIntegrationTest {
                 "",
                 "Author2",
                 null,
+                null,
                 null
         );
 
@@ -468,6 +1012,7 @@ class NewsControllerIntegrationTest {
                 "",
                 "",
                 List.of(1),
+                null,
                 null
         );
 
@@ -482,6 +1027,30 @@ class NewsControllerIntegrationTest {
                 .body("content.tagDtoResponseList.id.flatten()", hasItems(1));
     }
 
+    @Test
+    void givenSeveralTagIdsAndPageSize_whenSearchNews_thenReturnLimitedPage() {
+        ParametersDtoRequest request = new ParametersDtoRequest(
+                "",
+                "",
+                "",
+                List.of(1, 2),
+                null,
+                null
+        );
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(request)
+                .queryParam("size", 1)
+                .queryParam("sort", "id,asc")
+                .when()
+                .get("/api/v1/news/search")
+                .then()
+                .statusCode(200)
+                .body("content.size()", equalTo(1))
+                .body("content[0].tagDtoResponseList.id", hasItem(anyOf(equalTo(1), equalTo(2))));
+    }
+
     @Test
     void givenTagNames_whenSearchNews_thenReturnNewsByTagNames() {
         ParametersDtoRequest request = new ParametersDtoRequest(
@@ -489,7 +1058,8 @@ class NewsControllerIntegrationTest {
                 "",
                 "",
                 null,
-                List.of("name2")
+                List.of("name2"),
+                null
         );
 
         given()
@@ -502,6 +1072,92 @@ class NewsControllerIntegrationTest {
                 .body("content.tagDtoResponseList.name.flatten()", hasItems("name2"));
     }
 
+    @Test
+    void givenTitleAndTagNameInAnotherCase_whenSearchNews_thenReturnNewsMatchingBoth() {
+        ParametersDtoRequest request = new ParametersDtoRequest(
+                "title",
+                "",
+                "",
+                null,
+                List.of("NAME3"),
+                null
+        );
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(request)
+                .when()
+                .get("/api/v1/news/search")
+                .then()
+                .statusCode(200)
+                .body("content", not(empty()))
+                .body("content.tagDtoResponseList.name.flatten()", hasItems("name3"));
+    }
+
+    @Test
+    void givenQuery_whenFullTextSearchNews_thenReturnMatchingNews() {
+        given()
+                .accept(ContentType.JSON)
+                .queryParam("query", "content")
+                .when()
+                .get("/api/v1/news/search/fulltext")
+                .then()
+                .statusCode(200)
+                .body("content", not(empty()))
+                .body("content[0].links[0].href", containsString("/api/v1/news/"));
+    }
+
+    @Test
+    void givenTitleQuery_whenFullTextSearchNews_thenRankTitleMatchesFirst() {
+        String token = obtainJwtToken("test", "test");
+        NewsDtoRequest request = new NewsDtoRequest();
+        request.setTitle("Ranking probe headline");
+        request.setContent("Body without the keyword");
+        request.setAuthorId(1L);
+        request.setTagIds(List.of(1L));
+        Integer titleMatchId = given()
+                .header("Authorization", "Bearer " + token)
+                .contentType(ContentType.JSON)
+                .body(request, ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/news")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+        request.setTitle("Another ranking story");
+        request.setContent("The headline keyword appears only in this body");
+        given()
+                .header("Authorization", "Bearer " + token)
+                .contentType(ContentType.JSON)
+                .body(request, ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/news")
+                .then()
+                .statusCode(201);
+
+        given()
+                .accept(ContentType.JSON)
+                .queryParam("query", "headline")
+                .when()
+                .get("/api/v1/news/search/fulltext")
+                .then()
+                .statusCode(200)
+                .body("totalElements", equalTo(2))
+                .body("content[0].id", equalTo(titleMatchId));
+    }
+
+    @Test
+    void givenBlankQuery_whenFullTextSearchNews_thenReturn400() {
+        given()
+                .accept(ContentType.JSON)
+                .queryParam("query", " ")
+                .when()
+                .get("/api/v1/news/search/fulltext")
+                .then()
+                .statusCode(400);
+    }
+
     @Test
     void givenNoMatchingParameters_whenSearchNews_thenReturnEmptyList() {
         ParametersDtoRequest request = new ParametersDtoRequest(
@@ -509,7 +1165,8 @@ class NewsControllerIntegrationTest {
                 "nonexistent",
                 "no one",
                 List.of(9999),
-                List.of("Unknown")
+                List.of("Unknown"),
+                null
         );
 
         given()
@@ -524,7 +1181,7 @@ class NewsControllerIntegrationTest {
 
     @Test
     void givenPaginationParameters_whenSearchNews_thenReturnPaginatedResults() {
-        ParametersDtoRequest request = new ParametersDtoRequest("", "", "", null, null);
+        ParametersDtoRequest request = new ParametersDtoRequest("", "", "", null, null, null);
 
         given()
                 .contentType(ContentType.JSON)
@@ -623,4 +1280,28 @@ class NewsControllerIntegrationTest {
                 .then()
                 .statusCode(404);
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenNewsId_whenScrollComments_thenReturnCommentsOfThatNews() {
+        given()
+                .accept(ContentType.JSON)
+                .queryParam("size", 1)
+                .when()
+                .get("/api/v1/news/3/comments/scroll")
+                .then()
+                .statusCode(200)
+                .body("content.size()", equalTo(1))
+                .body("content[0].id", notNullValue())
+                .body("content[0].links[0].href", containsString("/api/v1/comments/"));
+    }
+
+    @Test
+    void givenNonexistentNewsId_whenScrollComments_thenReturn404() {
+        given()
+                .accept(ContentType.JSON)
+                .when()
+                .get("/api/v1/news/9999/comments/scroll")
+                .then()
+                .statusCode(404);
+    }
+}
@@ -1,27 +1,40 @@
 package com.mjc.school.impl;
 
+import com.mjc.school.counter.CounterRepairJob;
+import com.mjc.school.dto.AuthorDtoRequest;
+import com.mjc.school.dto.NewsDtoRequest;
+import com.mjc.school.dto.RetagAction;
+import com.mjc.school.dto.RetagDtoRequest;
 import com.mjc.school.dto.TagDtoRequest;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import io.restassured.mapper.ObjectMapperType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.*;
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
 class TagControllerIntegrationTest {
     @LocalServerPort
     private int port;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private CounterRepairJob counterRepairJob;
 
     @BeforeEach
     public void setUp() {
@@ -44,6 +57,181 @@ class TagControllerIntegrationTest {
                 .path("token");
     }
 
+    private Integer createTag(String token, String name) {
+        return given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new TagDtoRequest(name), ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/tags")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+    }
+
+    private Integer createAuthor(String token, String name) {
+        return given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new AuthorDtoRequest(name), ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/authors")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+    }
+
+    private Integer createNews(String token, String title, Integer authorId, List<Long> tagIds) {
+        return given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new NewsDtoRequest(title, "content of " + title, authorId.longValue(), tagIds), ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/news")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+    }
+
+    private void retag(String token, Integer tagId, RetagDtoRequest request, int expectedStatus) {
+        given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(request, ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/tags/{id}/retag", tagId)
+                .then()
+                .statusCode(expectedStatus);
+    }
+
+    @Test
+    void givenTaggedNews_whenMergeTags_thenNewsCarryTargetOnceAndSourceIsDeleted() {
+        String token = obtainJwtToken("admin", "admin");
+        Integer authorId = createAuthor(token, "merge author");
+        Integer sourceId = createTag(token, "merge source");
+        Integer targetId = createTag(token, "merge target");
+        Integer onlySource = createNews(token, "merge only source", authorId, List.of(sourceId.longValue()));
+        Integer both = createNews(token, "merge both tags", authorId, List.of(sourceId.longValue(), targetId.longValue()));
+        given().accept(ContentType.JSON).when().get("/api/v1/news/{id}", onlySource)
+                .then().statusCode(200).body("tagDtoResponseList.id", contains(sourceId));
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .post("/api/v1/tags/{id}/merge/{targetId}", sourceId, targetId)
+                .then()
+                .statusCode(204);
+
+        given().accept(ContentType.JSON).when().get("/api/v1/tags/{id}", sourceId).then().statusCode(404);
+        given().accept(ContentType.JSON).when().get("/api/v1/tags/{id}", targetId)
+                .then().statusCode(200).body("newsCount", equalTo(2));
+        given().accept(ContentType.JSON).when().get("/api/v1/news/{id}", onlySource)
+                .then().statusCode(200).body("tagDtoResponseList.id", contains(targetId));
+        given().accept(ContentType.JSON).when().get("/api/v1/news/{id}", both)
+                .then().statusCode(200).body("tagDtoResponseList.id", contains(targetId));
+    }
+
+    @Test
+    void givenAdminAuth_whenMergeTagIntoItself_thenReturn400() {
+        String token = obtainJwtToken("admin", "admin");
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .post("/api/v1/tags/{id}/merge/{targetId}", 1, 1)
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    void givenNewsFilter_whenRetagAddAndRemove_thenOnlyMatchingNewsChange() {
+        String token = obtainJwtToken("admin", "admin");
+        Integer authorId = createAuthor(token, "retag author");
+        Integer tagId = createTag(token, "retag tag");
+        Integer first = createNews(token, "retag first news", authorId, List.of());
+        Integer second = createNews(token, "retag second news", authorId, List.of());
+        given().accept(ContentType.JSON).when().get("/api/v1/news/{id}", first)
+                .then().statusCode(200).body("tagDtoResponseList", empty());
+
+        retag(token, tagId, new RetagDtoRequest(RetagAction.ADD, authorId.longValue(), null, null), 204);
+
+        given().accept(ContentType.JSON).when().get("/api/v1/tags/{id}", tagId)
+                .then().statusCode(200).body("newsCount", equalTo(2));
+        given().accept(ContentType.JSON).when().get("/api/v1/news/{id}", first)
+                .then().statusCode(200).body("tagDtoResponseList.id", contains(tagId));
+
+        retag(token, tagId, new RetagDtoRequest(RetagAction.REMOVE, null, null, "RETAG FIRST"), 204);
+
+        given().accept(ContentType.JSON).when().get("/api/v1/tags/{id}", tagId)
+                .then().statusCode(200).body("newsCount", equalTo(1));
+        given().accept(ContentType.JSON).when().get("/api/v1/news/{id}", first)
+                .then().statusCode(200).body("tagDtoResponseList", empty());
+        given().accept(ContentType.JSON).when().get("/api/v1/news/{id}", second)
+                .then().statusCode(200).body("tagDtoResponseList.id", contains(tagId));
+    }
+
+    @Test
+    void givenTitleFilterWithLikeWildcards_whenRetag_thenMatchThemLiterally() {
+        String token = obtainJwtToken("admin", "admin");
+        Integer authorId = createAuthor(token, "wildcard author");
+        Integer tagId = createTag(token, "wildcard tag");
+        Integer literal = createNews(token, "retag 100% news", authorId, List.of());
+        Integer wildcard = createNews(token, "retag 1000 news", authorId, List.of());
+
+        retag(token, tagId, new RetagDtoRequest(RetagAction.ADD, null, null, "0% n"), 204);
+
+        given().accept(ContentType.JSON).when().get("/api/v1/tags/{id}", tagId)
+                .then().statusCode(200).body("newsCount", equalTo(1));
+        given().accept(ContentType.JSON).when().get("/api/v1/news/{id}", literal)
+                .then().statusCode(200).body("tagDtoResponseList.id", contains(tagId));
+        given().accept(ContentType.JSON).when().get("/api/v1/news/{id}", wildcard)
+                .then().statusCode(200).body("tagDtoResponseList", empty());
+    }
+
+    @Test
+    void givenEmptyNewsFilter_whenRetag_thenReturn400() {
+        String token = obtainJwtToken("admin", "admin");
+
+        retag(token, 1, new RetagDtoRequest(RetagAction.ADD, null, null, null), 400);
+    }
+
+    @Test
+    void givenTagOnNews_whenDeleteTag_thenNewsNoLongerCarryIt() {
+        String token = obtainJwtToken("admin", "admin");
+        Integer authorId = createAuthor(token, "delete author");
+        Integer tagId = createTag(token, "deleted tag");
+        Integer newsId = createNews(token, "news losing its tag", authorId, List.of(tagId.longValue()));
+        given().accept(ContentType.JSON).when().get("/api/v1/news/{id}", newsId)
+                .then().statusCode(200).body("tagDtoResponseList.id", contains(tagId));
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .delete("/api/v1/tags/{id}", tagId)
+                .then()
+                .statusCode(204);
+
+        given().accept(ContentType.JSON).when().get("/api/v1/news/{id}", newsId)
+                .then().statusCode(200).body("tagDtoResponseList", empty());
+        assertEquals(0L, jdbcTemplate.queryForObject("SELECT count(*) FROM news_tags WHERE tag_id = ?", Long.class, tagId));
+    }
+
+    @Test
+    void givenDriftedNewsCount_whenRepairJobRuns_thenCounterIsRecomputed() {
+        String token = obtainJwtToken("admin", "admin");
+        Integer tagId = createTag(token, "drifted tag");
+        jdbcTemplate.update("UPDATE tags SET news_count = 42 WHERE id = ?", tagId);
+
+        counterRepairJob.repairAll();
+
+        assertEquals(0L, jdbcTemplate.queryForObject("SELECT news_count FROM tags WHERE id = ?", Long.class, tagId));
+        given().accept(ContentType.JSON).when().get("/api/v1/tags/{id}", tagId)
+                .then().statusCode(200).body("newsCount", equalTo(0));
+    }
+
     @Test
     void givenNoParams_whenGetAllTags_thenReturn200AndTagsPage() {
         given()
@@ -55,6 +243,7 @@ class TagControllerIntegrationTest {
                 .statusCode(200)
                 .body("content", not(empty()))
                 .body("content[0].name", notNullValue())
+                .body("content[0].newsCount", notNullValue())
                 .body("totalElements", greaterThan(0));
     }
 
@@ -73,6 +262,31 @@ class TagControllerIntegrationTest {
                 .body("content[0].name", equalTo("name2"));
     }
 
+    @Test
+    void givenNotSearchableField_whenGetTags_thenReturn400() {
+        given()
+                .accept(ContentType.JSON)
+                .queryParam("searchBy", "id")
+                .queryParam("searchValue", "1")
+                .when()
+                .get("/api/v1/tags")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    void givenWildcardSearchValue_whenGetTags_thenMatchItLiterally() {
+        given()
+                .accept(ContentType.JSON)
+                .queryParam("searchBy", "name")
+                .queryParam("searchValue", "%")
+                .when()
+                .get("/api/v1/tags")
+                .then()
+                .statusCode(200)
+                .body("content", empty());
+    }
+
     @Test
     void givenPaginationParams_whenGetTags_thenReturnCorrectPage() {
         given()
@@ -181,9 +395,10 @@ class TagControllerIntegrationTest {
     @Test
     void givenValidRequestAndAdminAuth_whenUpdateExistingTag_thenReturnUpdatedTag() {
         String token = obtainJwtToken("admin", "admin");
+        Integer tagId = createTag(token, "tag to update");
 
         TagDtoRequest request = new TagDtoRequest();
-        request.setName("new name");
+        request.setName("updated name");
 
         given()
                 .accept(ContentType.JSON)
@@ -191,12 +406,12 @@ class TagControllerIntegrationTest {
                 .header("Authorization", "Bearer " + token)
                 .body(request)
                 .when()
-                .put("/api/v1/tags/{id}", 1)
+                .put("/api/v1/tags/{id}", tagId)
                 .then()
                 .statusCode(200)
-                .body("id", equalTo(1))
-                .body("name", equalTo("new name"))
-                .body("_links.self.href", containsString("/api/v1/tags/1"));
+                .body("id", equalTo(tagId))
+                .body("name", equalTo("updated name"))
+                .body("_links.self.href", containsString("/api/v1/tags/" + tagId));
     }
 
     @Test
@@ -271,9 +486,10 @@ class TagControllerIntegrationTest {
     @Test
     void givenValidPatchRequestAndAdminAuth_whenPatchExistingTag_thenReturnUpdatedTag() {
         String token = obtainJwtToken("admin", "admin");
+        Integer tagId = createTag(token, "tag to patch");
 
         TagDtoRequest request = new TagDtoRequest();
-        request.setName("new name");
+        request.setName("patched name");
 
         given()
                 .accept(ContentType.JSON)
@@ -281,12 +497,12 @@ class TagControllerIntegrationTest {
                 .header("Authorization", "Bearer " + token)
                 .body(request)
                 .when()
-                .patch("/api/v1/tags/{id}", 1)
+                .patch("/api/v1/tags/{id}", tagId)
                 .then()
                 .statusCode(200)
-                .body("id", equalTo(1))
-                .body("name", equalTo("new name"))
-                .body("_links.self.href", containsString("/api/v1/tags/1"));
+                .body("id", equalTo(tagId))
+                .body("name", equalTo("patched name"))
+                .body("_links.self.href", containsString("/api/v1/tags/" + tagId));
     }
 
     @Test
@@ -411,4 +627,64 @@ class TagControllerIntegrationTest {
                 .then()
                 .statusCode(401);
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenCursor_whenScrollTags_thenReturnNextSliceWithoutOverlap() {
+        String nextCursor = given()
+                .accept(ContentType.JSON)
+                .queryParam("size", 2)
+                .queryParam("sort", "id,asc")
+                .when()
+                .get("/api/v1/tags/scroll")
+                .then()
+                .statusCode(200)
+                .body("content.size()", equalTo(2))
+                .body("hasNext", equalTo(true))
+                .body("nextCursor", notNullValue())
+                .body("totalElements", nullValue())
+                .extract()
+                .path("nextCursor");
+        Integer lastId = given()
+                .queryParam("size", 2)
+                .queryParam("sort", "id,asc")
+                .get("/api/v1/tags/scroll")
+                .then()
+                .extract()
+                .path("content[1].id");
+
+        given()
+                .accept(ContentType.JSON)
+                .queryParam("size", 2)
+                .queryParam("sort", "id,asc")
+                .queryParam("after", nextCursor)
+                .when()
+                .get("/api/v1/tags/scroll")
+                .then()
+                .statusCode(200)
+                .body("content", not(empty()))
+                .body("content[0].id", greaterThan(lastId))
+                .body("content[0].links[0].href", notNullValue());
+    }
+
+    @Test
+    void givenNotIndexedSortKey_whenScrollTags_thenReturn400() {
+        given()
+                .accept(ContentType.JSON)
+                .queryParam("sort", "news")
+                .when()
+                .get("/api/v1/tags/scroll")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    void givenMalformedCursor_whenScrollTags_thenReturn400() {
+        given()
+                .accept(ContentType.JSON)
+                .queryParam("after", "not-a-cursor")
+                .when()
+                .get("/api/v1/tags/scroll")
+                .then()
+                .statusCode(400);
+    }
+}
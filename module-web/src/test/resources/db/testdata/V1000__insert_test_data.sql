@@ -10,15 +10,15 @@ INSERT INTO authors(id, name, create_date, last_update_date)
 values (5, 'Author5', now(), now());
 INSERT INTO authors(id, name, create_date, last_update_date)
 values (6, 'Author6', now(), now());
-ALTER TABLE authors
-    ALTER COLUMN id RESTART WITH 7;
+ALTER SEQUENCE authors_seq
+    RESTART WITH 56;
 
 INSERT INTO security_users(id, firstname, lastname, password, role, username)
 values (1, 'test', 'test', '$2a$12$.X68yudtJQGDWOrK5XamoeSNgmRpcxdFsrt66WinJYnAcekuFlN9W', 'USER', 'test');
 INSERT INTO security_users(id, firstname, lastname, password, role, username)
 values (2, 'admin', 'admin', '$2a$12$VSXMyJ5bjoNmZJCC0hDgDeIdVwdk8ZRXRXL9s67XzZZKquVLKfg4m', 'ADMIN', 'admin');
-ALTER TABLE security_users
-    ALTER COLUMN id RESTART WITH 3;
+ALTER SEQUENCE security_users_seq
+    RESTART WITH 52;
 
 INSERT INTO news(id, content, create_date, last_update_date, title, author_id)
 values (1, 'content1', now(), now(), 'title1', 1);
@@ -30,8 +30,8 @@ INSERT INTO news(id, content, create_date, last_update_date, title, author_id)
 values (4, 'content4', now(), now(), 'title4', 4);
 INSERT INTO news(id, content, create_date, last_update_date, title, author_id)
 values (5, 'content5', now(), now(), 'title5', 5);
-ALTER TABLE news
-    ALTER COLUMN id RESTART WITH 6;
+ALTER SEQUENCE news_seq
+    RESTART WITH 55;
 
 INSERT INTO comments(id, content, create_date, last_update_date, news_id)
 values (1, 'content1', now(), now(), 1);
@@ -45,8 +45,8 @@ INSERT INTO comments(id, content, create_date, last_update_date, news_id)
 values (5, 'content5', now(), now(), 5);
 INSERT INTO comments(id, content, create_date, last_update_date, news_id)
 values (6, 'content6', now(), now(), 3);
-ALTER TABLE comments
-    ALTER COLUMN id RESTART WITH 7;
+ALTER SEQUENCE comments_seq
+    RESTART WITH 56;
 
 INSERT INTO tags(id, name)
 values (1, 'name1');
@@ -58,8 +58,8 @@ INSERT INTO tags(id, name)
 values (4, 'name4');
 INSERT INTO tags(id, name)
 values (5, 'name5');
-ALTER TABLE tags
-    ALTER COLUMN id RESTART WITH 6;
+ALTER SEQUENCE tags_seq
+    RESTART WITH 55;
 
 INSERT INTO news_tags(news_id, tag_id)
 values (1, 1);
@@ -71,3 +71,7 @@ INSERT INTO news_tags(news_id, tag_id)
 values (4, 4);
 INSERT INTO news_tags(news_id, tag_id)
 values (5, 5);
+
+UPDATE authors a SET news_count = (SELECT count(*) FROM news n WHERE n.author_id = a.id);
+UPDATE tags t SET news_count = (SELECT count(*) FROM news_tags nt WHERE nt.tag_id = t.id);
+UPDATE news n SET comment_count = (SELECT count(*) FROM comments c WHERE c.news_id = n.id);